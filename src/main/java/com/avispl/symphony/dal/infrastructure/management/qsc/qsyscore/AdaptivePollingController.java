@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.math.RoundingMode;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.google.common.math.IntMath;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
+
+/**
+ * AdaptivePollingController sizes the device collection from the measured time the core takes to return the controls
+ * of a device. The number of devices a thread can collect within a monitoring cycle follows the smoothed latency,
+ * the number of parallel batches is the smallest one that refreshes all devices within the target number of cycles.
+ * When a batch overruns the cycle or the latency grows well above the baseline latency, the parallel batches are
+ * halved for the next cycle, then increased again by one per cycle while the core keeps up. The baseline follows
+ * a lower latency at once and a higher one slowly, so a lasting change of the core becomes the new baseline.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class AdaptivePollingController {
+	/**
+	 * Weight of the latest measurement in the smoothed latency
+	 */
+	private static final double LATENCY_SMOOTHING = 0.3;
+
+	/**
+	 * Share of the monitoring cycle a batch may take, the rest is kept for the slower responses
+	 */
+	private static final double CYCLE_BUDGET_RATIO = 0.8;
+
+	/**
+	 * Ratio of the smoothed latency to the baseline latency above which the core is considered slowed down
+	 */
+	private static final double SLOWDOWN_RATIO = 2.0;
+
+	/**
+	 * Weight of the smoothed latency in the baseline latency when the latency is above the baseline
+	 */
+	private static final double BASELINE_DECAY = 0.05;
+
+	private final Log logger = LogFactory.getLog(this.getClass());
+
+	/**
+	 * Smoothed time in milliseconds to collect one device, 0 until the first batch is measured
+	 */
+	private double latency;
+
+	/**
+	 * Baseline of the smoothed latency, the latency of the core when it is not loaded
+	 */
+	private double baselineLatency;
+
+	/**
+	 * A batch of the current cycle overran the cycle or was collected with a latency well above the baseline
+	 */
+	private boolean slowedDown;
+
+	private long cycleDuration = 60000L;
+	private int threadQuantity = QSYSCoreConstant.MIN_THREAD_QUANTITY;
+	private int devicesPerThread = QSYSCoreConstant.MAX_DEVICE_QUANTITY_PER_THREAD;
+
+	/**
+	 * Number of batches collected in parallel in the current cycle, at most {@link #threadQuantity}
+	 */
+	private int parallelBatches = QSYSCoreConstant.MIN_THREAD_QUANTITY;
+
+	/**
+	 * Record the time a scheduled batch of devices took to collect, the latency is measured per requested device
+	 *
+	 * @param deviceCount number of devices requested in the batch
+	 * @param duration duration of the batch in milliseconds
+	 */
+	synchronized void recordBatch(int deviceCount, long duration) {
+		if (deviceCount <= 0) {
+			return;
+		}
+		double deviceLatency = Math.max((double) duration / deviceCount, 1.0);
+		latency = latency == 0 ? deviceLatency : latency + LATENCY_SMOOTHING * (deviceLatency - latency);
+		if (baselineLatency == 0 || latency < baselineLatency) {
+			baselineLatency = latency;
+		} else {
+			baselineLatency += BASELINE_DECAY * (latency - baselineLatency);
+		}
+		if (duration > cycleBudget() || latency > baselineLatency * SLOWDOWN_RATIO) {
+			slowedDown = true;
+		}
+	}
+
+	/**
+	 * Plan the collection of all devices, called when a new pass over all devices starts
+	 *
+	 * @param deviceCount number of devices
+	 * @param targetPollingInterval number of monitoring cycles all devices should be refreshed in
+	 * @param cycleDuration duration of a monitoring cycle in milliseconds
+	 * @return number of monitoring cycles all devices are refreshed in, not less than the target when the core can not keep up
+	 */
+	synchronized int plan(int deviceCount, int targetPollingInterval, long cycleDuration) {
+		this.cycleDuration = cycleDuration;
+		devicesPerThread = calculatingDevicesPerThread();
+		int pollingInterval = Math.max(targetPollingInterval, QSYSCoreConstant.MIN_POLLING_INTERVAL);
+		int devicesPerCycle = Math.max(IntMath.divide(deviceCount, pollingInterval, RoundingMode.CEILING), 1);
+		threadQuantity = Math.max(QSYSCoreConstant.MIN_THREAD_QUANTITY,
+				Math.min(IntMath.divide(devicesPerCycle, devicesPerThread, RoundingMode.CEILING), QSYSCoreConstant.MAX_THREAD_QUANTITY));
+		// Spread the devices of a cycle evenly over the threads instead of filling the first threads
+		devicesPerThread = Math.max(1, Math.min(devicesPerThread, IntMath.divide(devicesPerCycle, threadQuantity, RoundingMode.CEILING)));
+		parallelBatches = slowedDown ? Math.min(parallelBatches, threadQuantity) : threadQuantity;
+		int plannedPollingInterval = Math.max(pollingInterval, IntMath.divide(deviceCount, threadQuantity * devicesPerThread, RoundingMode.CEILING));
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Planned collection of %s devices: latency %.1f ms, %s threads, %s devices per thread, polling interval %s",
+					deviceCount, latency, threadQuantity, devicesPerThread, plannedPollingInterval));
+		}
+		return plannedPollingInterval;
+	}
+
+	/**
+	 * Retrieve the number of batches to collect in parallel in the next cycle, halved after a slowdown of the core
+	 * and increased by one per cycle back to {@link #threadQuantity}
+	 *
+	 * @return number of parallel batches
+	 */
+	synchronized int nextParallelBatches() {
+		if (slowedDown) {
+			slowedDown = false;
+			parallelBatches = Math.max(QSYSCoreConstant.MIN_THREAD_QUANTITY, parallelBatches / 2);
+			devicesPerThread = Math.max(1, Math.min(devicesPerThread, calculatingDevicesPerThread()));
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Core slowed down, latency %.1f ms: collecting %s batches of %s devices", latency, parallelBatches, devicesPerThread));
+			}
+		} else if (parallelBatches < threadQuantity) {
+			parallelBatches++;
+		}
+		return parallelBatches;
+	}
+
+	/**
+	 * Retrieves {@link #threadQuantity}
+	 *
+	 * @return number of threads planned for the collection
+	 */
+	synchronized int getThreadQuantity() {
+		return threadQuantity;
+	}
+
+	/**
+	 * Retrieves {@link #devicesPerThread}
+	 *
+	 * @return number of devices in a batch
+	 */
+	synchronized int getDevicesPerThread() {
+		return devicesPerThread;
+	}
+
+	/**
+	 * Retrieves {@link #latency}
+	 *
+	 * @return smoothed time in milliseconds to collect one device, 0 if nothing was measured yet
+	 */
+	synchronized double getLatency() {
+		return latency;
+	}
+
+	/**
+	 * calculating number of devices a thread collects within the cycle budget at the measured latency
+	 *
+	 * @return number of devices per thread
+	 */
+	private int calculatingDevicesPerThread() {
+		if (latency == 0) {
+			return QSYSCoreConstant.MAX_DEVICE_QUANTITY_PER_THREAD;
+		}
+		long devices = (long) (cycleBudget() / latency);
+		return (int) Math.max(1, Math.min(devices, QSYSCoreConstant.MAX_ADAPTIVE_DEVICE_QUANTITY_PER_THREAD));
+	}
+
+	/**
+	 * Time in milliseconds a batch may take
+	 *
+	 * @return batch budget
+	 */
+	private double cycleBudget() {
+		return cycleDuration * CYCLE_BUDGET_RATIO;
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+
+/**
+ * AggregatedDeviceSnapshot is an immutable view of the aggregated devices published after the devices are collected.
+ * Every entry remembers the device instance and the state version it was built from, so the next snapshot reuses
+ * the {@link AggregatedDevice} of the devices whose state did not change.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class AggregatedDeviceSnapshot {
+	static final AggregatedDeviceSnapshot EMPTY = new AggregatedDeviceSnapshot(0, null, Collections.emptyMap(), Collections.emptyList());
+
+	private final long version;
+	private final String buildSignature;
+	private final Map<String, Entry> entries;
+	private final List<AggregatedDevice> aggregatedDevices;
+
+	/**
+	 * AggregatedDeviceSnapshot with arg constructor
+	 *
+	 * @param version version of the snapshot, increased by every published snapshot
+	 * @param buildSignature adapter properties the aggregated devices were built with
+	 * @param entries entry of every device by id
+	 * @param aggregatedDevices aggregated devices not filtered out
+	 */
+	AggregatedDeviceSnapshot(long version, String buildSignature, Map<String, Entry> entries, List<AggregatedDevice> aggregatedDevices) {
+		this.version = version;
+		this.buildSignature = buildSignature;
+		this.entries = Collections.unmodifiableMap(entries);
+		this.aggregatedDevices = Collections.unmodifiableList(aggregatedDevices);
+	}
+
+	/**
+	 * Retrieves {@link #version}
+	 *
+	 * @return value of {@link #version}
+	 */
+	long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Retrieves {@link #buildSignature}
+	 *
+	 * @return value of {@link #buildSignature}
+	 */
+	String getBuildSignature() {
+		return buildSignature;
+	}
+
+	/**
+	 * Retrieve the entry of a device
+	 *
+	 * @param deviceId id of device
+	 * @return entry of the device, null if the device is not in the snapshot
+	 */
+	Entry getEntry(String deviceId) {
+		return entries.get(deviceId);
+	}
+
+	/**
+	 * Retrieve the number of devices in the snapshot, including the filtered out ones
+	 *
+	 * @return number of devices
+	 */
+	int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Retrieves {@link #aggregatedDevices}
+	 *
+	 * @return unmodifiable list of aggregated devices
+	 */
+	List<AggregatedDevice> getAggregatedDevices() {
+		return aggregatedDevices;
+	}
+
+	/**
+	 * Retrieve the aggregated device of a device if it was built from the given device instance at the given state version
+	 *
+	 * @param deviceId id of device
+	 * @param device current device instance
+	 * @param stateVersion current state version of the device
+	 * @return aggregated device, null if the device is not in the snapshot, changed since, or is filtered out
+	 */
+	AggregatedDevice getAggregatedDevice(String deviceId, QSYSPeripheralDevice device, long stateVersion) {
+		Entry entry = entries.get(deviceId);
+		return entry != null && entry.isBuiltFrom(device, stateVersion) ? entry.aggregatedDevice : null;
+	}
+
+	/**
+	 * Retrieve the aggregated devices rebuilt or added since an earlier snapshot. Entries of unchanged devices are
+	 * carried over from snapshot to snapshot, so a device changed if its entry is not the entry of the earlier snapshot.
+	 *
+	 * @param since earlier snapshot
+	 * @return aggregated devices changed since the earlier snapshot
+	 */
+	List<AggregatedDevice> getChangedAggregatedDevices(AggregatedDeviceSnapshot since) {
+		if (since == this) {
+			return Collections.emptyList();
+		}
+		List<AggregatedDevice> changedDevices = new ArrayList<>();
+		entries.forEach((deviceId, entry) -> {
+			if (entry.aggregatedDevice != null && since.getEntry(deviceId) != entry) {
+				changedDevices.add(entry.aggregatedDevice);
+			}
+		});
+		return changedDevices;
+	}
+
+	/**
+	 * Aggregated device built from a device instance at a state version
+	 */
+	static class Entry {
+		private final QSYSPeripheralDevice device;
+		private final long stateVersion;
+		private final AggregatedDevice aggregatedDevice;
+
+		/**
+		 * Entry with arg constructor
+		 *
+		 * @param device device instance
+		 * @param stateVersion state version of the device the aggregated device was built from
+		 * @param aggregatedDevice aggregated device, null if the device is filtered out
+		 */
+		Entry(QSYSPeripheralDevice device, long stateVersion, AggregatedDevice aggregatedDevice) {
+			this.device = device;
+			this.stateVersion = stateVersion;
+			this.aggregatedDevice = aggregatedDevice;
+		}
+
+		/**
+		 * Check whether the entry was built from the same device instance at the same state version
+		 *
+		 * @param device device instance
+		 * @param stateVersion current state version of the device
+		 * @return true if the aggregated device of the entry is up to date
+		 */
+		boolean isBuiltFrom(QSYSPeripheralDevice device, long stateVersion) {
+			return this.device == device && this.stateVersion == stateVersion;
+		}
+
+		/**
+		 * Retrieves {@link #aggregatedDevice}
+		 *
+		 * @return aggregated device, null if the device is filtered out
+		 */
+		AggregatedDevice getAggregatedDevice() {
+			return aggregatedDevice;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
+
+/**
+ * ControlDispatcher runs the controls of the named components on a small thread pool. The controls of one component
+ * run one after the other in the order they were submitted, while controls of different components run concurrently.
+ * Every component keeps the future of its last submitted control, the next control of the component is chained to it,
+ * and the future is dropped once it completes without a newer control.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class ControlDispatcher {
+	private final ExecutorService executorService;
+
+	/**
+	 * Last submitted control of every component with a control queued or running
+	 */
+	private final Map<String, CompletableFuture<Void>> lastControls = new ConcurrentHashMap<>();
+
+	/**
+	 * ControlDispatcher with arg constructor, the threads are started by the first controls and stop when they stay idle
+	 *
+	 * @param threads number of controls running concurrently
+	 */
+	ControlDispatcher(int threads) {
+		ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(threads, threads, QSYSCoreConstant.IDLE_THREAD_KEEP_ALIVE, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(), new NamedThreadFactory("QSYS control dispatcher"));
+		threadPoolExecutor.allowCoreThreadTimeOut(true);
+		executorService = threadPoolExecutor;
+	}
+
+	/**
+	 * Queue a control of a component, it runs after the controls of the component submitted before it
+	 *
+	 * @param componentId id of the named component
+	 * @param control control to run
+	 * @param <T> result of the control
+	 * @return future completed with the result of the control, or exceptionally if the control fails or the dispatcher is shut down
+	 */
+	<T> CompletableFuture<T> submit(String componentId, Callable<T> control) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		CompletableFuture<Void> queued = lastControls.compute(componentId, (id, lastControl) ->
+				(lastControl == null ? CompletableFuture.<Void>completedFuture(null) : lastControl).handle((unused, throwable) -> (Void) null)
+						.thenRunAsync(() -> {
+							try {
+								result.complete(control.call());
+							} catch (Exception e) {
+								result.completeExceptionally(e);
+							}
+						}, executorService));
+		queued.whenComplete((unused, throwable) -> {
+			lastControls.remove(componentId, queued);
+			if (throwable != null) {
+				result.completeExceptionally(throwable);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Stop the threads, queued controls do not run
+	 */
+	void shutdown() {
+		executorService.shutdownNow();
+		lastControls.clear();
+	}
+}
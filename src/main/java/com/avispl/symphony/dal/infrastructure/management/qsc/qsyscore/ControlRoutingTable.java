@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.AmplifierDeviceMetric;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.DeviceMetric;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.LoudSpeakerDeviceMetric;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.ReceiverDeviceMetric;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.TransmitterDeviceMetric;
+
+/**
+ * ControlRoutingTable resolves a controllable property of an aggregated device to the metric it controls and the
+ * name of the QRC control to set. A property is resolved by scanning the metrics of the device type once, then the
+ * route is kept by device type and property name, so the following controls of the same property take one lookup.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class ControlRoutingTable {
+	/**
+	 * Route of a property that is not controllable
+	 */
+	private static final Route NO_ROUTE = new Route(null, null);
+
+	/**
+	 * Maximum number of routes kept per device type, properties beyond it are resolved on every control
+	 */
+	private static final int MAX_ROUTES_PER_TYPE = 4096;
+
+	/**
+	 * Metric class of every controllable device type
+	 */
+	private static final Map<String, Class<? extends DeviceMetric>> METRIC_CLASSES;
+
+	static {
+		Map<String, Class<? extends DeviceMetric>> metricClasses = new HashMap<>();
+		metricClasses.put(QSYSCoreConstant.TRANSMITTER_DEVICE, TransmitterDeviceMetric.class);
+		metricClasses.put(QSYSCoreConstant.RECEIVER_DEVICE, ReceiverDeviceMetric.class);
+		metricClasses.put(QSYSCoreConstant.LOUDSPEAKER_DEVICE, LoudSpeakerDeviceMetric.class);
+		metricClasses.put(QSYSCoreConstant.AMPLIFIER_DEVICE, AmplifierDeviceMetric.class);
+		METRIC_CLASSES = Collections.unmodifiableMap(metricClasses);
+	}
+
+	/**
+	 * Routes of every device type by property name
+	 */
+	private final Map<String, Map<String, Route>> routes = new ConcurrentHashMap<>();
+
+	/**
+	 * Resolve the route of a controllable property
+	 *
+	 * @param deviceType QSYSType of the device
+	 * @param property name of the controllable property, ex: ChannelA#Gain(dB)
+	 * @param metricValue name of the property after the group, ex: Gain(dB)
+	 * @return route of the property, null if the device type or the property is not controllable
+	 */
+	Route resolve(String deviceType, String property, String metricValue) {
+		Class<? extends DeviceMetric> metricClass = deviceType == null ? null : METRIC_CLASSES.get(deviceType);
+		if (metricClass == null || property == null) {
+			return null;
+		}
+		Map<String, Route> typeRoutes = routes.computeIfAbsent(deviceType, type -> new ConcurrentHashMap<>());
+		Route route = typeRoutes.get(property);
+		if (route == null) {
+			route = createRoute(metricClass, property, metricValue);
+			if (typeRoutes.size() < MAX_ROUTES_PER_TYPE) {
+				typeRoutes.putIfAbsent(property, route);
+			}
+		}
+		return route == NO_ROUTE ? null : route;
+	}
+
+	/**
+	 * Find the metric of a property by scanning the metrics of the device type in their declaration order,
+	 * a channel property matches the first channel metric containing its name, other properties match the metric equal to them
+	 *
+	 * @param metricClass metric class of the device type
+	 * @param property name of the controllable property
+	 * @param metricValue name of the property after the group
+	 * @return route of the property, {@link #NO_ROUTE} if no metric matches
+	 */
+	private static Route createRoute(Class<? extends DeviceMetric> metricClass, String property, String metricValue) {
+		boolean channelProperty = property.contains(QSYSCoreConstant.HASH) && property.startsWith(QSYSCoreConstant.CHANNEL);
+		for (DeviceMetric metric : metricClass.getEnumConstants()) {
+			String metricPattern = metric.getMetric();
+			if ((channelProperty && metricPattern.contains(QSYSCoreConstant.FORMAT_STRING) && metricPattern.contains(metricValue))
+					|| metricPattern.equalsIgnoreCase(property)) {
+				return new Route(metric, createControlName(metric.getProperty(), property));
+			}
+		}
+		return NO_ROUTE;
+	}
+
+	/**
+	 * Create the name of the QRC control, the channel index of a channel property replaces the placeholder of the control name
+	 *
+	 * @param controlName control name of the metric, ex: channel.%s.output.gain
+	 * @param property name of the controllable property
+	 * @return name of the QRC control
+	 */
+	private static String createControlName(String controlName, String property) {
+		if (controlName == null) {
+			return null;
+		}
+		String group = property.split(QSYSCoreConstant.HASH)[0];
+		if (group.contains(QSYSCoreConstant.CHANNEL)) {
+			return controlName.replace(QSYSCoreConstant.FORMAT_STRING, convertChannelNameToIndex(group));
+		}
+		return controlName;
+	}
+
+	/**
+	 * Converts a channel name into its corresponding index representation as a string.
+	 * The method removes the prefix defined by {@code QSYSCoreConstant.CHANNEL} from the
+	 * input channel name, then converts any letters to their alphabetical index (A=1, B=2, ...)
+	 * and appends digits as-is to form the final index string.
+	 * @param channelName the full channel name string, expected to start with the prefix defined
+	 *                    in {@code QSYSCoreConstant.CHANNEL}, e.g. "ChannelA"
+	 * @return a string representing the channel index where letters are converted to numbers
+	 *         (A=1, B=2, ...) and digits are preserved; returns an empty string if
+	 *         {@code channelName} is null or does not contain any letters/digits after the prefix
+	 */
+	private static String convertChannelNameToIndex(String channelName) {
+		String valuePart = channelName.replaceFirst("^" + QSYSCoreConstant.CHANNEL, "");
+		StringBuilder result = new StringBuilder();
+
+		for (char c : valuePart.toCharArray()) {
+			if (Character.isLetter(c)) {
+				int num = Character.toUpperCase(c) - 'A' + 1;
+				result.append(num);
+			} else if (Character.isDigit(c)) {
+				result.append(c);
+			}
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Metric controlled by a property and the name of its QRC control
+	 */
+	static class Route {
+		private final DeviceMetric metric;
+		private final String controlName;
+
+		Route(DeviceMetric metric, String controlName) {
+			this.metric = metric;
+			this.controlName = controlName;
+		}
+
+		/**
+		 * Retrieves {@link #metric}
+		 *
+		 * @return value of {@link #metric}
+		 */
+		DeviceMetric getMetric() {
+			return metric;
+		}
+
+		/**
+		 * Retrieves {@link #controlName}
+		 *
+		 * @return name of the QRC control to set, null if the metric has no control
+		 */
+		String getControlName() {
+			return controlName;
+		}
+	}
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
+
+/**
+ * DeviceCollectionScheduler runs the collection of aggregated devices on a {@link ScheduledThreadPoolExecutor}.
+ * Batches of devices handed over by a monitoring cycle are run once, as soon as a thread is free, and the status
+ * polling is scheduled for the time the earliest device is due, so no thread wakes up to check timestamps.
+ * While the scheduler is paused batches are dropped and the status polling is not scheduled.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class DeviceCollectionScheduler {
+	private final Log logger = LogFactory.getLog(this.getClass());
+
+	private final ScheduledThreadPoolExecutor executor;
+
+	/**
+	 * Batches submitted by the last monitoring cycle with the ids of their devices
+	 */
+	private final Map<Future<?>, Batch> batchFutures = new LinkedHashMap<>();
+
+	/**
+	 * Collects the status of the devices and returns the delay in milliseconds until the next device is due,
+	 * a negative delay stops the status polling
+	 */
+	private final LongSupplier statusPolling;
+
+	private ScheduledFuture<?> statusPollingFuture;
+	private volatile boolean paused;
+
+	/**
+	 * DeviceCollectionScheduler with arg constructor
+	 *
+	 * @param threadQuantity number of threads collecting batches
+	 * @param statusPolling task polling the status of the devices, it returns the delay in milliseconds until the next run
+	 * or a negative value to stop the status polling
+	 */
+	DeviceCollectionScheduler(int threadQuantity, LongSupplier statusPolling) {
+		this.statusPolling = statusPolling;
+		// One more thread keeps the status polling from waiting behind the batches
+		executor = new ScheduledThreadPoolExecutor(threadQuantity + 1, new NamedThreadFactory("QSYS device collection"));
+		executor.setRemoveOnCancelPolicy(true);
+		// Threads of a cycle with more batches than usual do not stay idle until the next such cycle
+		executor.setKeepAliveTime(QSYSCoreConstant.IDLE_THREAD_KEEP_ALIVE, TimeUnit.MILLISECONDS);
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Update the number of threads collecting batches
+	 *
+	 * @param threadQuantity number of threads collecting batches
+	 */
+	void setThreadQuantity(int threadQuantity) {
+		executor.setCorePoolSize(threadQuantity + 1);
+	}
+
+	/**
+	 * Cancel the batches of the previous monitoring cycle that did not start yet, so their devices can be queued again
+	 *
+	 * @return ids of devices of the cancelled batches in the order they were submitted
+	 */
+	synchronized List<String> cancelPendingBatches() {
+		return cancelBatches();
+	}
+
+	/**
+	 * Submit the batches of a monitoring cycle. Batches of the previous cycle that did not start yet are replaced,
+	 * batches being collected are not interrupted. Call {@link #cancelPendingBatches()} first to keep the devices
+	 * of the replaced batches.
+	 *
+	 * @param batches lists of device id, every list is collected by one thread
+	 * @param collector collects the devices of a batch
+	 */
+	synchronized void submitBatches(List<List<String>> batches, Consumer<List<String>> collector) {
+		cancelBatches();
+		if (paused) {
+			return;
+		}
+		for (List<String> deviceIds : batches) {
+			Batch batch = new Batch(deviceIds);
+			batchFutures.put(executor.submit(() -> {
+				if (paused || !batch.claim()) {
+					return;
+				}
+				try {
+					collector.accept(deviceIds);
+				} catch (Exception e) {
+					logger.error("Unexpected error occurred during device collection of " + String.join(",", deviceIds), e);
+				}
+			}), batch);
+		}
+	}
+
+	/**
+	 * Run a task once on a free thread, the task is dropped while the scheduler is paused or after it is shut down
+	 *
+	 * @param task task to run
+	 */
+	void execute(Runnable task) {
+		if (paused) {
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				if (paused) {
+					return;
+				}
+				try {
+					task.run();
+				} catch (Exception e) {
+					logger.error("Unexpected error occurred during device collection task", e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Device collection task is dropped, the scheduler is shut down");
+			}
+		}
+	}
+
+	/**
+	 * Start the status polling if it is not scheduled yet
+	 */
+	synchronized void startStatusPolling() {
+		if (!paused && (statusPollingFuture == null || statusPollingFuture.isDone())) {
+			statusPollingFuture = executor.schedule(this::runStatusPolling, 0, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Stop running batches and the status polling until {@link #resume()} is called
+	 */
+	synchronized void pause() {
+		if (paused) {
+			return;
+		}
+		paused = true;
+		cancelBatches();
+		if (statusPollingFuture != null) {
+			statusPollingFuture.cancel(false);
+			statusPollingFuture = null;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Device collection is paused");
+		}
+	}
+
+	/**
+	 * Allow batches and the status polling to run again
+	 */
+	synchronized void resume() {
+		if (paused) {
+			paused = false;
+			if (logger.isDebugEnabled()) {
+				logger.debug("Device collection is resumed");
+			}
+		}
+	}
+
+	/**
+	 * Stop all threads of the scheduler
+	 */
+	synchronized void shutdown() {
+		paused = true;
+		batchFutures.clear();
+		statusPollingFuture = null;
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Poll the status of the devices and schedule the next run for the time the next device is due
+	 */
+	private void runStatusPolling() {
+		long delay;
+		try {
+			delay = statusPolling.getAsLong();
+		} catch (Exception e) {
+			logger.error("Unexpected error occurred during device status polling", e);
+			delay = -1;
+		}
+		synchronized (this) {
+			statusPollingFuture = null;
+			if (!paused && delay >= 0 && !executor.isShutdown()) {
+				statusPollingFuture = executor.schedule(this::runStatusPolling, delay, TimeUnit.MILLISECONDS);
+			}
+		}
+	}
+
+	/**
+	 * Cancel the batches that did not start yet
+	 *
+	 * @return ids of devices of the cancelled batches
+	 */
+	private List<String> cancelBatches() {
+		List<String> cancelledDeviceIds = new ArrayList<>();
+		batchFutures.forEach((future, batch) -> {
+			// A batch is cancelled only if no thread claimed it, a running batch is left to complete
+			if (batch.claim()) {
+				future.cancel(false);
+				cancelledDeviceIds.addAll(batch.deviceIds);
+			}
+		});
+		batchFutures.clear();
+		return cancelledDeviceIds;
+	}
+
+	/**
+	 * Devices of a submitted batch, the batch is claimed once either by the thread collecting it or by its cancellation
+	 */
+	private static class Batch {
+		private final List<String> deviceIds;
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		Batch(List<String> deviceIds) {
+			this.deviceIds = deviceIds;
+		}
+
+		/**
+		 * Claim the batch
+		 *
+		 * @return true if the batch was not claimed before
+		 */
+		boolean claim() {
+			return claimed.compareAndSet(false, true);
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+
+/**
+ * DeviceInventory keeps the devices found by the component discovery between discovery passes.
+ * Every pass stamps a new generation on the components it sees, a device keeps its instance and parsed state
+ * while its component is seen with the same QSYSType, and devices not seen in the generation are evicted when the pass ends.
+ * The inventory is updated only by the thread running the discovery.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class DeviceInventory {
+	private final Map<String, Entry> entries = new HashMap<>();
+	private final Set<String> addedDeviceIds = new LinkedHashSet<>();
+	private long generation;
+
+	/**
+	 * Start a discovery pass, the devices added by a pass that did not end are reported by this pass
+	 */
+	void beginDiscovery() {
+		generation++;
+	}
+
+	/**
+	 * Mark the device of a component as seen in the current discovery pass
+	 *
+	 * @param deviceId id of the component
+	 * @param qsysType QSYSType of the component
+	 * @return device kept from a previous pass, null if the component is new or its QSYSType changed
+	 */
+	QSYSPeripheralDevice markSeen(String deviceId, String qsysType) {
+		Entry entry = entries.get(deviceId);
+		if (entry == null || !Objects.equals(entry.qsysType, qsysType)) {
+			return null;
+		}
+		entry.generation = generation;
+		return entry.device;
+	}
+
+	/**
+	 * Add the device of a component found in the current discovery pass, a device of another QSYSType with the same id is replaced
+	 *
+	 * @param deviceId id of the component
+	 * @param qsysType QSYSType of the component
+	 * @param device device created for the component
+	 */
+	void add(String deviceId, String qsysType, QSYSPeripheralDevice device) {
+		entries.put(deviceId, new Entry(qsysType, device, generation, entries.containsKey(deviceId)));
+		addedDeviceIds.add(deviceId);
+	}
+
+	/**
+	 * End the discovery pass and evict the devices not seen in it
+	 *
+	 * @return changes of the inventory in the pass
+	 */
+	Changes endDiscovery() {
+		List<String> removedDeviceIds = new ArrayList<>();
+		for (Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator(); iterator.hasNext(); ) {
+			Map.Entry<String, Entry> entry = iterator.next();
+			if (entry.getValue().generation != generation) {
+				removedDeviceIds.add(entry.getKey());
+				addedDeviceIds.remove(entry.getKey());
+				iterator.remove();
+			}
+		}
+		// A device replaced by one of another QSYSType is reported as removed and added
+		for (String deviceId : addedDeviceIds) {
+			if (entries.get(deviceId).replaced) {
+				removedDeviceIds.add(deviceId);
+			}
+		}
+		Changes changes = new Changes(new ArrayList<>(addedDeviceIds), removedDeviceIds);
+		addedDeviceIds.clear();
+		return changes;
+	}
+
+	/**
+	 * Copy the devices of the inventory, sorted by id
+	 *
+	 * @return map of device id and device
+	 */
+	TreeMap<String, QSYSPeripheralDevice> snapshot() {
+		TreeMap<String, QSYSPeripheralDevice> devices = new TreeMap<>();
+		entries.forEach((deviceId, entry) -> devices.put(deviceId, entry.device));
+		return devices;
+	}
+
+	/**
+	 * Drop all devices
+	 */
+	void clear() {
+		entries.clear();
+		addedDeviceIds.clear();
+	}
+
+	/**
+	 * Device of a component and the last generation it was seen in
+	 */
+	private static class Entry {
+		private final String qsysType;
+		private final QSYSPeripheralDevice device;
+		private final boolean replaced;
+		private long generation;
+
+		Entry(String qsysType, QSYSPeripheralDevice device, long generation, boolean replaced) {
+			this.qsysType = qsysType;
+			this.device = device;
+			this.generation = generation;
+			this.replaced = replaced;
+		}
+	}
+
+	/**
+	 * Devices added and removed by a discovery pass
+	 */
+	static class Changes {
+		private final List<String> addedDeviceIds;
+		private final List<String> removedDeviceIds;
+
+		Changes(List<String> addedDeviceIds, List<String> removedDeviceIds) {
+			this.addedDeviceIds = Collections.unmodifiableList(addedDeviceIds);
+			this.removedDeviceIds = Collections.unmodifiableList(removedDeviceIds);
+		}
+
+		/**
+		 * Retrieves {@link #addedDeviceIds}
+		 *
+		 * @return ids of the devices added in the pass
+		 */
+		List<String> getAddedDeviceIds() {
+			return addedDeviceIds;
+		}
+
+		/**
+		 * Retrieves {@link #removedDeviceIds}
+		 *
+		 * @return ids of the devices removed in the pass, including devices replaced by one of another QSYSType
+		 */
+		List<String> getRemovedDeviceIds() {
+			return removedDeviceIds;
+		}
+
+		/**
+		 * Check whether the pass changed the inventory
+		 *
+		 * @return true if a device was added or removed
+		 */
+		boolean isEmpty() {
+			return addedDeviceIds.isEmpty() && removedDeviceIds.isEmpty();
+		}
+	}
+}
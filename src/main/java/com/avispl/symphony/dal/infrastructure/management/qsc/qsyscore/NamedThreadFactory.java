@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * NamedThreadFactory creates daemon threads named after the pool they belong to, so the threads of the adapter
+ * can be told apart in a thread dump and never keep the JVM from exiting.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class NamedThreadFactory implements ThreadFactory {
+	private final String namePrefix;
+	private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+	/**
+	 * NamedThreadFactory with arg constructor
+	 *
+	 * @param poolName name of the pool, the threads are named {@code poolName-1}, {@code poolName-2}, ...
+	 */
+	NamedThreadFactory(String poolName) {
+		this.namePrefix = poolName + "-";
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Thread newThread(Runnable runnable) {
+		Thread thread = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
+		thread.setDaemon(true);
+		return thread;
+	}
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.rpc.RpcMethod;
+
+/**
+ * QRCChangeGroupMonitor keeps the controls of aggregated devices up to date with a QRC change group.
+ * The controls of a device are requested with Component.GetControls once and registered in the change group,
+ * after that ChangeGroup.Poll returns only the controls that changed since the previous poll and they are merged
+ * into the cached controls. A change group belongs to the QRC session, so the group is always used over
+ * the primary connection of the pool and devices are registered again after the session is reopened.
+ * In push mode the group is not polled, the core sends ChangeGroup.Poll notifications with ChangeGroup.AutoPoll.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class QRCChangeGroupMonitor {
+	private final Log logger = LogFactory.getLog(this.getClass());
+
+	private final QRCConnectionPool connectionPool;
+	private final ObjectMapper objectMapper;
+	private final String groupId;
+
+	/**
+	 * Cached controls by device id and control name
+	 */
+	private final Map<String, Map<String, ObjectNode>> controlCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Session generation each device was registered in, the registration is valid only for the current generation
+	 */
+	private final Map<String, Long> registeredDevices = new ConcurrentHashMap<>();
+
+	/**
+	 * Devices whose cached controls changed and were not applied to the device yet
+	 */
+	private final Set<String> changedDevices = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Lock that keeps polls in order and keeps the cache consistent while changes are merged
+	 */
+	private final ReentrantLock pollLock = new ReentrantLock();
+
+	/**
+	 * Rate in seconds the core pushes changes with, 0 if the group is polled by {@link #refresh(Collection)}
+	 */
+	private volatile double autoPollRate;
+
+	/**
+	 * Listener notified with ids of devices whose controls were pushed by the core
+	 */
+	private volatile Consumer<Set<String>> changeListener;
+
+	/**
+	 * QRCChangeGroupMonitor with arg constructor
+	 *
+	 * @param connectionPool pool of QRC connections
+	 * @param objectMapper mapper to read responses
+	 */
+	QRCChangeGroupMonitor(QRCConnectionPool connectionPool, ObjectMapper objectMapper) {
+		this.connectionPool = connectionPool;
+		this.objectMapper = objectMapper;
+		this.groupId = QSYSCoreConstant.CHANGE_GROUP_ID_PREFIX + Integer.toHexString(System.identityHashCode(this));
+	}
+
+	/**
+	 * Switch the group to push mode. The core sends the changes every {@code rate} seconds on its own,
+	 * they are merged into the cache as they arrive and the changed devices are passed to the listener.
+	 *
+	 * @param rate rate in seconds the core pushes changes with
+	 * @param listener listener notified with ids of changed devices, called on the reader thread so it must not block
+	 */
+	void enableAutoPoll(double rate, Consumer<Set<String>> listener) {
+		this.autoPollRate = rate;
+		this.changeListener = listener;
+		connectionPool.setNotificationListener(this::onNotification);
+	}
+
+	/**
+	 * Register the devices that are not registered in the current session yet and poll the change group.
+	 * Changes of every registered device are merged into the cache, not only the changes of the given devices.
+	 * In push mode AutoPoll is requested instead of the poll, repeating it on every refresh also reveals
+	 * a group lost with the session.
+	 *
+	 * @param deviceIds ids of devices to register
+	 * @throws Exception if the change group can not be polled
+	 */
+	void refresh(Collection<String> deviceIds) throws Exception {
+		// The session may be reopened before the poll, the group is unknown to the new session then
+		// and the devices are registered again once
+		for (int attempt = 0; attempt < 2; attempt++) {
+			long generation = connectionPool.getPrimarySessionGeneration();
+			for (String deviceId : deviceIds) {
+				Long registeredGeneration = registeredDevices.get(deviceId);
+				if (registeredGeneration == null || registeredGeneration != generation) {
+					try {
+						register(deviceId);
+					} catch (InterruptedException e) {
+						throw e;
+					} catch (Exception e) {
+						logger.error("Can not register device " + deviceId + " in change group " + groupId, e);
+					}
+				}
+			}
+			if (autoPollRate > 0 ? enableAutoPoll() : poll()) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Retrieve the cached controls of the device if they changed since the previous call
+	 *
+	 * @param deviceId id of device
+	 * @return controls in the format of Component.GetControls response, null if the controls did not change
+	 */
+	JsonNode pollChangedControls(String deviceId) {
+		return changedDevices.remove(deviceId) ? getControls(deviceId) : null;
+	}
+
+	/**
+	 * Retrieve the cached controls of the device
+	 *
+	 * @param deviceId id of device
+	 * @return controls in the format of Component.GetControls response, null if the device is not registered
+	 */
+	JsonNode getControls(String deviceId) {
+		pollLock.lock();
+		try {
+			Map<String, ObjectNode> controls = controlCache.get(deviceId);
+			if (controls == null) {
+				return null;
+			}
+			ObjectNode response = objectMapper.createObjectNode();
+			ObjectNode result = response.putObject(QSYSCoreConstant.RESULT);
+			result.put(QSYSCoreConstant.CONTROL_NAME, deviceId);
+			ArrayNode controlArray = result.putArray(QSYSCoreConstant.CONTROLS);
+			for (ObjectNode control : controls.values()) {
+				controlArray.add(control.deepCopy());
+			}
+			return response;
+		} finally {
+			pollLock.unlock();
+		}
+	}
+
+	/**
+	 * Drop devices that do not exist anymore. QRC can not remove component controls from a change group,
+	 * so the group is kept and the changes of the dropped devices are ignored by {@link #mergeChanges(JsonNode)}
+	 * since they have no cached controls. A device that comes back is registered again on the next refresh.
+	 *
+	 * @param deviceIds ids of existing devices
+	 */
+	void retainDevices(Set<String> deviceIds) {
+		pollLock.lock();
+		try {
+			controlCache.keySet().retainAll(deviceIds);
+			changedDevices.retainAll(deviceIds);
+			registeredDevices.keySet().retainAll(deviceIds);
+		} finally {
+			pollLock.unlock();
+		}
+	}
+
+	/**
+	 * Destroy the change group so the core stops tracking its controls and stops pushing changes, and drop the cached controls.
+	 * The group is destroyed only if devices are registered in the current session, a group of a closed session is already gone.
+	 */
+	void destroy() {
+		autoPollRate = 0;
+		changeListener = null;
+		pollLock.lock();
+		try {
+			if (registeredDevices.containsValue(connectionPool.getPrimarySessionGeneration())) {
+				JsonNode response = objectMapper.readTree(connectionPool.sendOnPrimary(RpcMethod.CHANGE_GROUP_DESTROY, groupId));
+				if (response.has(QSYSCoreConstant.ERROR)) {
+					logger.warn("Unable to destroy change group " + groupId + ": " + response);
+				} else if (logger.isDebugEnabled()) {
+					logger.debug("Change group " + groupId + " destroyed");
+				}
+			}
+		} catch (Exception e) {
+			logger.warn("Unable to destroy change group " + groupId, e);
+		} finally {
+			controlCache.clear();
+			changedDevices.clear();
+			registeredDevices.clear();
+			pollLock.unlock();
+		}
+	}
+
+	/**
+	 * Request all controls of the device, cache them and add them to the change group
+	 *
+	 * @param deviceId id of device
+	 * @throws Exception if the controls can not be requested or registered
+	 */
+	private void register(String deviceId) throws Exception {
+		JsonNode response = objectMapper.readTree(connectionPool.send(RpcMethod.GET_CONTROLS, deviceId));
+		JsonNode controlArray = response.path(QSYSCoreConstant.RESULT).path(QSYSCoreConstant.CONTROLS);
+		if (!controlArray.isArray()) {
+			logger.warn("Error retrieving controls for device " + deviceId + ": " + response);
+			return;
+		}
+		Map<String, ObjectNode> controls = new LinkedHashMap<>();
+		ArrayNode controlNames = objectMapper.createArrayNode();
+		for (JsonNode control : controlArray) {
+			JsonNode name = control.get(QSYSCoreConstant.CONTROL_NAME);
+			if (name != null && control.isObject()) {
+				controls.put(name.asText(), (ObjectNode) control);
+				controlNames.addObject().put(QSYSCoreConstant.CONTROL_NAME, name.asText());
+			}
+		}
+		pollLock.lock();
+		try {
+			controlCache.put(deviceId, controls);
+			changedDevices.add(deviceId);
+		} finally {
+			pollLock.unlock();
+		}
+
+		JsonNode addResponse = objectMapper.readTree(connectionPool.sendOnPrimary(RpcMethod.CHANGE_GROUP_ADD_COMPONENT_CONTROL, groupId, deviceId, controlNames.toString()));
+		if (addResponse.has(QSYSCoreConstant.ERROR)) {
+			logger.warn("Unable to add controls of device " + deviceId + " to change group " + groupId + ": " + addResponse);
+			return;
+		}
+		registeredDevices.put(deviceId, connectionPool.getPrimarySessionGeneration());
+	}
+
+	/**
+	 * Poll the change group and merge the changed controls into the cache
+	 *
+	 * @return false if the group is unknown to the session and the devices must be registered again
+	 * @throws Exception if the change group can not be polled
+	 */
+	private boolean poll() throws Exception {
+		pollLock.lock();
+		try {
+			JsonNode response = objectMapper.readTree(connectionPool.sendOnPrimary(RpcMethod.CHANGE_GROUP_POLL, groupId));
+			JsonNode changes = response.path(QSYSCoreConstant.RESULT).path(QSYSCoreConstant.CHANGES);
+			if (!changes.isArray()) {
+				logger.warn("Error polling change group " + groupId + ": " + response);
+				registeredDevices.clear();
+				return false;
+			}
+			mergeChanges(changes);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Change group " + groupId + " returned " + changes.size() + " changed controls");
+			}
+			return true;
+		} finally {
+			pollLock.unlock();
+		}
+	}
+
+	/**
+	 * Enable AutoPoll on the change group, after that the core sends the changes on its own
+	 *
+	 * @return false if the group is unknown to the session and the devices must be registered again
+	 * @throws Exception if the request fails
+	 */
+	private boolean enableAutoPoll() throws Exception {
+		JsonNode response = objectMapper.readTree(connectionPool.sendOnPrimary(RpcMethod.CHANGE_GROUP_AUTO_POLL, groupId, autoPollRate));
+		if (response.has(QSYSCoreConstant.ERROR)) {
+			logger.warn("Error enabling AutoPoll on change group " + groupId + ": " + response);
+			registeredDevices.clear();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Handle a frame the core sent without request. ChangeGroup.Poll notifications of this group
+	 * are merged into the cache and the changed devices are passed to {@link #changeListener}.
+	 * Runs on the reader thread of the primary connection.
+	 *
+	 * @param frame JSON frame received from the device
+	 */
+	private void onNotification(String frame) {
+		try {
+			JsonNode notification = objectMapper.readTree(frame);
+			JsonNode params = notification.path(QSYSCoreConstant.PARAMS);
+			if (!RpcMethod.CHANGE_GROUP_POLL.getName().equals(notification.path(QSYSCoreConstant.METHOD).asText())
+					|| !groupId.equals(params.path(QSYSCoreConstant.CHANGE_GROUP_ID).asText())) {
+				return;
+			}
+			Set<String> changed;
+			pollLock.lock();
+			try {
+				changed = mergeChanges(params.path(QSYSCoreConstant.CHANGES));
+			} finally {
+				pollLock.unlock();
+			}
+			Consumer<Set<String>> listener = changeListener;
+			if (listener != null && !changed.isEmpty()) {
+				listener.accept(changed);
+			}
+		} catch (Exception e) {
+			logger.error("Error handling change group notification: " + frame, e);
+		}
+	}
+
+	/**
+	 * Merge the changed controls into the cache, must be called while {@link #pollLock} is held
+	 *
+	 * @param changes array of changed controls
+	 * @return ids of devices that have changed controls
+	 */
+	private Set<String> mergeChanges(JsonNode changes) {
+		Set<String> changed = new HashSet<>();
+		for (JsonNode change : changes) {
+			String deviceId = change.path(QSYSCoreConstant.COMPONENT).asText(null);
+			String controlName = change.path(QSYSCoreConstant.CONTROL_NAME).asText(null);
+			Map<String, ObjectNode> controls = deviceId == null ? null : controlCache.get(deviceId);
+			ObjectNode control = controls == null || controlName == null ? null : controls.get(controlName);
+			if (control == null) {
+				continue;
+			}
+			Iterator<Map.Entry<String, JsonNode>> fields = change.fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				if (!QSYSCoreConstant.COMPONENT.equals(field.getKey())) {
+					control.set(field.getKey(), field.getValue());
+				}
+			}
+			changed.add(deviceId);
+		}
+		changedDevices.addAll(changed);
+		return changed;
+	}
+}
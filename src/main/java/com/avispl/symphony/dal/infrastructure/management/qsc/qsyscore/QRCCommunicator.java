@@ -5,34 +5,50 @@ package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.avispl.symphony.api.dal.dto.control.ConnectionState;
-import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.dal.BaseDevice;
 import com.avispl.symphony.dal.communicator.Communicator;
 import com.avispl.symphony.dal.communicator.ConnectionStatus;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.rpc.RpcMethod;
 
 /**
  * QRCCommunicator is a class that implements the QRCCommunicator interface to provide communication and interaction with a QSys-Core device.
  * It extends the BaseDevice class and implements the Communicator interface.
- * It provides methods to set and retrieve properties such as UDP port, TCP timeout, login info, password info, and number of responses.
+ * It provides methods to set and retrieve properties such as UDP port, TCP timeout, login info and password info.
  * The class also provides methods to connect and disconnect from the device, create and destroy a socket channel, and send and receive JSON RPC commands.
- * uses a lock for thread-safety and maintains the connection status.
+ * Every request gets a unique JSON RPC id, a dedicated reader thread routes each response to its caller by id,
+ * so several requests can be in flight on one socket at the same time.
  * The class overrides methods from the BaseDevice class for initialization and destruction of the device.
  *
  * @author Kevin / Symphony Dev Team<br>
@@ -45,11 +61,77 @@ public class QRCCommunicator extends BaseDevice implements Communicator {
 	private final ConnectionStatus status = new ConnectionStatus();
 	protected String login;
 	protected String password;
-	protected int numOfResponses = 2;
 	private int socketTimeout = 30000;
-	private Socket socket;
+	private volatile Socket socket;
 	private int port = 1710;
 
+	/**
+	 * Idle time in milliseconds after which a NoOp request is sent to keep the session open,
+	 * the core closes a QRC session which is idle for 60 seconds
+	 */
+	private int keepAliveInterval = QSYSCoreConstant.QRC_KEEP_ALIVE_INTERVAL;
+
+	/**
+	 * Timestamp of the last successful exchange with the core
+	 */
+	private volatile long lastActivityTimestamp;
+
+	/**
+	 * Number of requests in a row that timed out, the session is destroyed only when it reaches
+	 * {@link QSYSCoreConstant#QRC_MAX_CONSECUTIVE_TIMEOUTS}, a response received on the session resets it
+	 */
+	private final AtomicInteger consecutiveTimeouts = new AtomicInteger();
+
+	/**
+	 * Number of sockets created so far, state kept by the core for a session is lost when the generation changes
+	 */
+	private final AtomicLong sessionGeneration = new AtomicLong();
+
+	/**
+	 * Executor that sends NoOp keep-alive requests while the session is idle
+	 */
+	private ScheduledExecutorService keepAliveExecutor;
+
+	/**
+	 * Executor that runs the reader of the current socket
+	 */
+	private ExecutorService readerExecutorService;
+
+	/**
+	 * Lock that keeps frames of concurrent requests from interleaving on the output stream
+	 */
+	private final ReentrantLock outputLock = new ReentrantLock();
+
+	/**
+	 * Encoder of the request frames, used while holding {@link #outputLock}
+	 */
+	private final QRCRequestEncoder requestEncoder = new QRCRequestEncoder();
+
+	/**
+	 * Source of the JSON RPC request ids
+	 */
+	private final AtomicLong requestId = new AtomicLong();
+
+	/**
+	 * Requests that are waiting for the response, by JSON RPC id
+	 */
+	private final Map<Long, CompletableFuture<String>> pendingRequests = new ConcurrentHashMap<>();
+
+	/**
+	 * Listener of frames the core sends without request, such as ChangeGroup.Poll notifications of AutoPoll
+	 */
+	private volatile Consumer<String> notificationListener;
+
+	/**
+	 * Ids of requests sent in a batch that still wait for the response
+	 */
+	private final Set<Long> batchRequestIds = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Whether the core accepts JSON RPC batches, cleared when a batch is rejected
+	 */
+	private volatile boolean batchSupported = true;
+
 	private ObjectMapper objectMapper = new ObjectMapper();
 
 	/**
@@ -96,6 +178,28 @@ public class QRCCommunicator extends BaseDevice implements Communicator {
 		}
 	}
 
+	/**
+	 * This method returns the keep-alive interval
+	 *
+	 * @return int This returns the idle time in milliseconds after which NoOp is sent
+	 */
+	public int getKeepAliveInterval() {
+		return this.keepAliveInterval;
+	}
+
+	/**
+	 * This method is used set the keep-alive interval, 0 or negative value disables keep-alive
+	 *
+	 * @param keepAliveInterval This is the idle time in milliseconds after which NoOp is sent
+	 */
+	public void setKeepAliveInterval(int keepAliveInterval) {
+		if (this.isInitialized()) {
+			throw new IllegalStateException(ERROR_MESSAGE_CHANGE_PROPERTIES_AFTER_INIT);
+		} else {
+			this.keepAliveInterval = keepAliveInterval;
+		}
+	}
+
 	/**
 	 * This method returns the login info
 	 *
@@ -141,21 +245,22 @@ public class QRCCommunicator extends BaseDevice implements Communicator {
 	}
 
 	/**
-	 * This method returns number of responses
+	 * This method is used set the listener of notifications, the listener is called on the reader thread
+	 * so it must not block
 	 *
-	 * @return String This return the number of responses
+	 * @param notificationListener This is the listener of frames without request id
 	 */
-	public int getNumOfResponses() {
-		return numOfResponses;
+	public void setNotificationListener(Consumer<String> notificationListener) {
+		this.notificationListener = notificationListener;
 	}
 
 	/**
-	 * This method is used set the number of responses
+	 * This method returns the generation of the current session
 	 *
-	 * @param numOfResponses This is current number of responses
+	 * @return long This returns the number of sockets created so far
 	 */
-	public void setNumOfResponses(int numOfResponses) {
-		this.numOfResponses = numOfResponses;
+	public long getSessionGeneration() {
+		return this.sessionGeneration.get();
 	}
 
 	/**
@@ -179,10 +284,12 @@ public class QRCCommunicator extends BaseDevice implements Communicator {
 
 	/**
 	 * This method is used to check if a channel is connected or not
+	 * A socket closed by the peer stays connected on the java side, such socket is detected
+	 * when the reader reaches the end of stream or when keep-alive request fails, and destroyed in both cases.
 	 */
 	private boolean isChannelConnected() {
 		Socket client = this.socket;
-		return null != client && client.isConnected();
+		return null != client && client.isConnected() && !client.isClosed() && !client.isInputShutdown() && !client.isOutputShutdown();
 	}
 
 	/**
@@ -199,9 +306,42 @@ public class QRCCommunicator extends BaseDevice implements Communicator {
 			this.logger.trace("Connecting to: ".concat(this.host).concat(" port: ").concat(String.valueOf(this.port)));
 		}
 
+		this.obtainChannel();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * This method is used to disconnect from the device actually destroy the TCP socket channel
+	 */
+	public void disconnect() {
+		if (this.logger.isTraceEnabled()) {
+			this.logger.trace("Disconnecting from: ".concat(this.host).concat(" port: ").concat(String.valueOf(this.port)));
+		}
+
 		Lock writeLock = this.lock.writeLock();
 		writeLock.lock();
 
+		try {
+			this.destroyChannel();
+			this.status.setConnectionState(ConnectionState.Disconnected);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Return the connected socket, the socket is created if it does not exist or was closed
+	 *
+	 * @return connected socket
+	 * @throws IOException if the socket can not be created
+	 */
+	private Socket obtainChannel() throws IOException {
+		Socket client = this.socket;
+		if (this.isChannelConnected()) {
+			return client;
+		}
+		Lock writeLock = this.lock.writeLock();
+		writeLock.lock();
 		try {
 			if (!this.isChannelConnected()) {
 				this.createChannel();
@@ -209,7 +349,8 @@ public class QRCCommunicator extends BaseDevice implements Communicator {
 				this.status.setConnectionState(ConnectionState.Connected);
 				this.status.setLastError(null);
 			}
-		} catch (Exception exception) {
+			return this.socket;
+		} catch (IOException exception) {
 			if (this.logger.isErrorEnabled()) {
 				this.logger.error("Error connecting to: ".concat(this.host).concat(" port: ").concat(String.valueOf(this.port)), exception);
 			}
@@ -224,275 +365,478 @@ public class QRCCommunicator extends BaseDevice implements Communicator {
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * This method is used to disconnect from the device actually destroy the TCP socket channel
-	 */
-	public void disconnect() {
-		if (this.logger.isTraceEnabled()) {
-			this.logger.trace("Disconnecting from: ".concat(this.host).concat(" port: ").concat(String.valueOf(this.port)));
-		}
-
-		Lock writeLock = this.lock.writeLock();
-		writeLock.lock();
-
-		try {
-			this.destroyChannel();
-			this.status.setConnectionState(ConnectionState.Disconnected);
-		} finally {
-			writeLock.unlock();
-		}
-	}
-
-	/**
-	 * This method is used to create a channel actually create a socket
+	 * This method is used to create a channel actually create a socket and start its reader
 	 */
 	private void createChannel() throws IOException {
 		if (this.socket == null || this.socket.isClosed() || !this.socket.isConnected()) {
-			this.socket = new Socket(this.host, this.port);
-			this.socket.setTcpNoDelay(true);
-			this.socket.setKeepAlive(true);
-			this.socket.setOOBInline(true);
-			this.socket.setSoTimeout(socketTimeout);
+			Socket client = new Socket(this.host, this.port);
+			client.setTcpNoDelay(true);
+			client.setKeepAlive(true);
+			client.setOOBInline(true);
+			client.setSoTimeout(socketTimeout);
+			this.socket = client;
+			this.sessionGeneration.incrementAndGet();
+			this.lastActivityTimestamp = System.currentTimeMillis();
+			this.readerExecutorService.execute(() -> this.readResponses(client));
 		}
 	}
 
 	/**
 	 * This method is used to destroy a channel actually destroy a socket
+	 * Requests waiting for the response on the socket are failed.
 	 */
 	public void destroyChannel() {
-		if (null != this.socket) {
+		Socket client = this.socket;
+		if (null != client) {
+			this.socket = null;
 			try {
-				if (this.socket.isConnected()) {
-					this.socket.close();
+				if (client.isConnected()) {
+					client.close();
 				}
 			} catch (Exception var2) {
 				if (this.logger.isWarnEnabled()) {
 					this.logger.warn("error seen on destroyChannel", var2);
 				}
 			}
-
-			this.socket = null;
 		}
+		IOException closed = new IOException("QRC session to " + this.host + " was closed");
+		this.pendingRequests.values().forEach(future -> future.completeExceptionally(closed));
 	}
 
 	/**
-	 * This method is used to send a JSON RPC to a device
+	 * Destroy the channel only if it is still backed by the given socket, so a failure seen on
+	 * an old socket does not close the socket created by another request in the meantime
 	 *
-	 * @param data This is the data to be sent
-	 * @return String[] This returns the reply received from the device.
+	 * @param client is the socket the failure was seen on
+	 * @param error is the failure
+	 * @param connectionState is the state to report
 	 */
-	protected String[] send(String data) throws Exception {
-		if (!this.isInitialized()) {
-			throw new IllegalStateException("QRCCommunicator cannot be used before init() is called");
-		}
-
-		if (null == data) {
-			throw new IllegalArgumentException("Send data is null");
-		}
-
-		if (this.logger.isTraceEnabled()) {
-			this.logger.trace("Sending command: ".concat(data).concat(" to: ").concat(this.host).concat(" port: ").concat(String.valueOf(this.port)));
-		}
-
+	private void destroyChannel(Socket client, Exception error, ConnectionState connectionState) {
 		Lock writeLock = this.lock.writeLock();
 		writeLock.lock();
-
-		String[] response;
 		try {
-			response = this.send(data, true);
+			this.status.setLastError(error);
+			this.status.setConnectionState(connectionState);
+			if (client == null || client == this.socket) {
+				this.destroyChannel();
+			}
 		} finally {
 			writeLock.unlock();
 		}
+	}
 
-		return response;
+	/**
+	 * This method is used to send a JSON RPC request to a device
+	 *
+	 * @param method This is the RPC method to call
+	 * @param params This is the values of the method parameters
+	 * @return String This returns the response of the request received from the device.
+	 */
+	protected String send(RpcMethod method, Object... params) throws Exception {
+		if (!this.isInitialized()) {
+			throw new IllegalStateException("QRCCommunicator cannot be used before init() is called");
+		}
+
+		if (null == method) {
+			throw new IllegalArgumentException("Send method is null");
+		}
+
+		return this.send(method, params, this.socketTimeout, true);
 	}
 
 	/**
-	 * This method is used to send a JSON RPC to a device
+	 * This method is used to send a JSON RPC request to a device and wait for the response with the same id
 	 *
-	 * @param data This is the data to be sent
+	 * @param method This is the RPC method to call
+	 * @param params This is the values of the method parameters
+	 * @param timeout This is the time in milliseconds to wait for the response
 	 * @param retryOnError This is the flag to retry sending data to device when error
-	 * @return String[] This returns the reply received from the device.
+	 * @return String This returns the response of the request received from the device.
 	 */
-	private String[] send(String data, boolean retryOnError) throws Exception {
+	private String send(RpcMethod method, Object[] params, long timeout, boolean retryOnError) throws Exception {
+		long id = this.requestId.incrementAndGet();
+		CompletableFuture<String> response = new CompletableFuture<>();
+		this.pendingRequests.put(id, response);
+		Socket client = null;
 		try {
-			if (!this.isChannelConnected()) {
-				this.createChannel();
-				this.status.setLastTimestamp(System.currentTimeMillis());
-				this.status.setConnectionState(ConnectionState.Connected);
-				this.status.setLastError(null);
-			}
-
-			if (this.logger.isDebugEnabled()) {
-				this.logger.debug("Sending: ".concat(data).concat(" to: ").concat(this.host).concat(" port: ").concat(String.valueOf(this.port)));
-			}
-
-			String[] response = this.internalSend(data);
+			client = this.obtainChannel();
 
-			if (this.logger.isDebugEnabled()) {
-				this.logger.debug("Received response: ".concat(Arrays.toString(response)).concat(" from: ").concat(this.host).concat(" port: ").concat(String.valueOf(this.port)));
-			}
+			this.write(client, method, id, params);
+			String reply = response.get(timeout, TimeUnit.MILLISECONDS);
 
 			if (this.logger.isTraceEnabled()) {
-				this.logger.trace("Received response: ".concat(Arrays.toString(response)).concat(" from: ").concat(this.host).concat(" port: ").concat(String.valueOf(this.port)));
+				this.logger.trace("Received response: ".concat(reply).concat(" from: ").concat(this.host).concat(" port: ").concat(String.valueOf(this.port)));
 			}
 
-			this.status.setLastTimestamp(System.currentTimeMillis());
-			return response;
-		} catch (CommandFailureException ex1) {
-			if (this.logger.isErrorEnabled()) {
-				this.logger.error(
-						"Command failed ".concat(data).concat(" to: ").concat(this.host).concat(" port: ").concat(String.valueOf(this.port)).concat(" connection state: ").concat(
-								String.valueOf(this.status.getConnectionState())),
-						ex1);
-			}
-
-			this.status.setLastTimestamp(System.currentTimeMillis());
+			this.lastActivityTimestamp = System.currentTimeMillis();
+			this.status.setLastTimestamp(this.lastActivityTimestamp);
+			return reply;
+		} catch (InterruptedException ex1) {
+			// The caller was cancelled, the session is still valid for the other callers
+			Thread.currentThread().interrupt();
 			throw ex1;
-		} catch (SocketTimeoutException ex2) {
+		} catch (TimeoutException ex2) {
 			if (this.logger.isDebugEnabled()) {
 				this.logger.debug(
-						"Time out while sending command: ".concat(data).concat(" to: ").concat(this.host).concat(" port: ").concat(String.valueOf(this.port)).concat(" connection state: ").concat(
+						"Time out while sending command: ".concat(describe(method, id, params)).concat(" to: ").concat(this.host).concat(" port: ").concat(String.valueOf(this.port)).concat(" connection state: ").concat(
 								String.valueOf(this.status.getConnectionState())).concat(" error: "), ex2);
 			}
 
-			this.status.setLastError(ex2);
-			this.status.setConnectionState(ConnectionState.Unknown);
-			this.destroyChannel();
-
-			if (retryOnError) {
-				return this.send(data, false);
-			} else {
-				throw ex2;
+			// Only the timed out request fails, the other requests in flight on the session keep waiting for their responses
+			if (this.handleTimeout(client, ex2) && retryOnError) {
+				return this.send(method, params, timeout, false);
 			}
+			throw new SocketTimeoutException("Timeout while waiting for response of request " + id);
 		} catch (Exception ex3) {
+			Throwable cause = ex3 instanceof ExecutionException && ex3.getCause() != null ? ex3.getCause() : ex3;
 			if (this.logger.isErrorEnabled()) {
-				this.logger.error("Error sending command: ".concat(data).concat(" to: ").concat(this.host).concat(" port: ").concat(String.valueOf(this.port)).concat(" connection state: ").concat(
-						String.valueOf(this.status.getConnectionState())).concat(" error: "), ex3);
+				this.logger.error("Error sending command: ".concat(describe(method, id, params)).concat(" to: ").concat(this.host).concat(" port: ").concat(String.valueOf(this.port)).concat(" connection state: ").concat(
+						String.valueOf(this.status.getConnectionState())).concat(" error: "), cause);
 			}
 
-			this.status.setLastError(ex3);
-			this.status.setConnectionState(ConnectionState.Failed);
-			this.destroyChannel();
+			this.destroyChannel(client, cause instanceof Exception ? (Exception) cause : ex3, ConnectionState.Failed);
 
 			if (retryOnError) {
-				return this.send(data, false);
+				return this.send(method, params, timeout, false);
+			} else if (cause instanceof Exception) {
+				throw (Exception) cause;
 			} else {
 				throw ex3;
 			}
+		} finally {
+			this.pendingRequests.remove(id);
+		}
+	}
+
+	/**
+	 * Count a request that timed out and destroy the session once {@link QSYSCoreConstant#QRC_MAX_CONSECUTIVE_TIMEOUTS}
+	 * requests in a row timed out, a single slow request does not fail the other requests in flight
+	 *
+	 * @param client is the socket the request was sent on
+	 * @param error is the timeout
+	 * @return true if the session was destroyed
+	 */
+	private boolean handleTimeout(Socket client, TimeoutException error) {
+		if (this.consecutiveTimeouts.incrementAndGet() < QSYSCoreConstant.QRC_MAX_CONSECUTIVE_TIMEOUTS) {
+			this.status.setLastError(error);
+			return false;
+		}
+		this.consecutiveTimeouts.set(0);
+		if (this.logger.isWarnEnabled()) {
+			this.logger.warn("Requests to: ".concat(this.host).concat(" port: ").concat(String.valueOf(this.port)).concat(" timed out repeatedly, QRC session is closed"));
+		}
+		this.destroyChannel(client, error, ConnectionState.Unknown);
+		return true;
+	}
+
+	/**
+	 * This method is used to send several JSON RPC requests of the same method in one JSON RPC batch frame.
+	 * If the core does not accept batches, the requests are sent one by one and batches are not used anymore.
+	 *
+	 * @param method This is the RPC method to call
+	 * @param paramsList This is the values of the method parameters of every request
+	 * @return List<String> This returns the responses in the order of the requests.
+	 */
+	protected List<String> sendBatch(RpcMethod method, List<Object[]> paramsList) throws Exception {
+		if (!this.isInitialized()) {
+			throw new IllegalStateException("QRCCommunicator cannot be used before init() is called");
+		}
+
+		if (null == method) {
+			throw new IllegalArgumentException("Send method is null");
+		}
+
+		if (!this.batchSupported || paramsList.size() < 2) {
+			return this.sendEach(method, paramsList);
+		}
+
+		List<Long> ids = new ArrayList<>(paramsList.size());
+		List<CompletableFuture<String>> responses = new ArrayList<>(paramsList.size());
+		for (Object[] params : paramsList) {
+			long id = this.requestId.incrementAndGet();
+			CompletableFuture<String> response = new CompletableFuture<>();
+			ids.add(id);
+			responses.add(response);
+			this.pendingRequests.put(id, response);
+			this.batchRequestIds.add(id);
+		}
+		Socket client = null;
+		try {
+			client = this.obtainChannel();
+
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Sending batch of " + paramsList.size() + " " + method.getName() + " requests to: " + this.host + " port: " + this.port);
+			}
+
+			this.writeBatch(client, method, ids, paramsList);
+			long deadline = System.currentTimeMillis() + this.socketTimeout;
+			List<String> replies = new ArrayList<>(paramsList.size());
+			for (CompletableFuture<String> response : responses) {
+				replies.add(response.get(Math.max(deadline - System.currentTimeMillis(), 1), TimeUnit.MILLISECONDS));
+			}
+			this.lastActivityTimestamp = System.currentTimeMillis();
+			this.status.setLastTimestamp(this.lastActivityTimestamp);
+			return replies;
+		} catch (InterruptedException ex1) {
+			Thread.currentThread().interrupt();
+			throw ex1;
+		} catch (TimeoutException ex2) {
+			// Sending the requests again one by one would add load to a core that is already slow
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Time out while sending batch of " + paramsList.size() + " " + method.getName() + " requests to: " + this.host + " port: " + this.port, ex2);
+			}
+			this.handleTimeout(client, ex2);
+			throw new SocketTimeoutException("Timeout while waiting for responses of batch of " + method.getName() + " requests");
+		} catch (Exception ex2) {
+			Throwable cause = ex2 instanceof ExecutionException && ex2.getCause() != null ? ex2.getCause() : ex2;
+			if (cause instanceof UnsupportedOperationException) {
+				this.batchSupported = false;
+				if (this.logger.isWarnEnabled()) {
+					this.logger.warn("JSON RPC batch is rejected by: ".concat(this.host).concat(", sending requests one by one: ").concat(cause.getMessage()));
+				}
+			} else {
+				if (this.logger.isErrorEnabled()) {
+					this.logger.error("Error sending batch of " + method.getName() + " requests to: " + this.host + " port: " + this.port, cause);
+				}
+				this.destroyChannel(client, cause instanceof Exception ? (Exception) cause : ex2, ConnectionState.Failed);
+			}
+			return this.sendEach(method, paramsList);
+		} finally {
+			for (Long id : ids) {
+				this.pendingRequests.remove(id);
+				this.batchRequestIds.remove(id);
+			}
+		}
+	}
+
+	/**
+	 * This method is used to send requests of the same method one by one
+	 *
+	 * @param method This is the RPC method to call
+	 * @param paramsList This is the values of the method parameters of every request
+	 * @return List<String> This returns the responses in the order of the requests.
+	 */
+	private List<String> sendEach(RpcMethod method, List<Object[]> paramsList) throws Exception {
+		List<String> replies = new ArrayList<>(paramsList.size());
+		for (Object[] params : paramsList) {
+			replies.add(this.send(method, params, this.socketTimeout, true));
+		}
+		return replies;
+	}
+
+	/**
+	 * Send NoOp request if the session was idle for {@link #keepAliveInterval}, so the core does not close it.
+	 * The request is skipped when other requests are in flight. If NoOp fails, the socket is considered
+	 * half-open and destroyed, next command creates a new one.
+	 */
+	private void sendKeepAlive() {
+		if (!this.isChannelConnected() || !this.pendingRequests.isEmpty()
+				|| System.currentTimeMillis() - this.lastActivityTimestamp < this.keepAliveInterval) {
+			return;
+		}
+		Socket client = this.socket;
+		try {
+			this.send(RpcMethod.NO_OP, new Object[0], QSYSCoreConstant.QRC_KEEP_ALIVE_TIMEOUT, false);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			if (e instanceof SocketTimeoutException) {
+				// No other request is in flight, an idle session that does not answer NoOp is half-open
+				this.destroyChannel(client, e, ConnectionState.Unknown);
+			}
+			if (this.logger.isWarnEnabled()) {
+				this.logger.warn("Keep-alive request failed, QRC session to: ".concat(this.host).concat(" port: ").concat(String.valueOf(this.port)).concat(" is closed"), e);
+			}
 		}
 	}
 
 	/**
-	 * This method used to send and receive response from device
+	 * This method used to send a request to the device
 	 *
-	 * @param outputData is the data to be sent
-	 * @return String array is the response from device
-	 * @throws IOException if read or write fail
+	 * @param client is the socket to write to
+	 * @param method is the RPC method of the request
+	 * @param id is the JSON RPC id of the request
+	 * @param params is the values of the method parameters
+	 * @throws IOException if write to stream fail
 	 */
-	private String[] internalSend(String outputData) throws IOException {
-		this.write(outputData);
-		return this.read(outputData, this.socket.getInputStream());
+	private void write(Socket client, RpcMethod method, long id, Object[] params) throws IOException {
+		this.outputLock.lock();
+		try {
+			this.requestEncoder.reset().appendRequest(method, id, params).endFrame();
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Sending: ".concat(this.requestEncoder.toString()).concat(" to: ").concat(this.host).concat(" port: ").concat(String.valueOf(this.port)));
+			}
+			this.flush(client);
+		} finally {
+			this.outputLock.unlock();
+		}
 	}
 
 	/**
-	 * This method used to send data to the device
+	 * This method used to send a JSON RPC batch of requests to the device
 	 *
-	 * @param outputData is the data to be sent
+	 * @param client is the socket to write to
+	 * @param method is the RPC method of the requests
+	 * @param ids is the JSON RPC ids of the requests
+	 * @param paramsList is the values of the method parameters of every request
 	 * @throws IOException if write to stream fail
 	 */
-	private void write(String outputData) throws IOException {
-		if (this.socket == null) {
-			throw new IllegalStateException("Socket connection was not established. Please check target host availability and credentials.");
-		} else {
-			OutputStream os = this.socket.getOutputStream();
-			OutputStreamWriter osw = new OutputStreamWriter(os);
-			osw.write(outputData);
-			osw.flush();
+	private void writeBatch(Socket client, RpcMethod method, List<Long> ids, List<Object[]> paramsList) throws IOException {
+		this.outputLock.lock();
+		try {
+			this.requestEncoder.reset().appendBatch(method, ids, paramsList).endFrame();
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace("Sending: ".concat(this.requestEncoder.toString()).concat(" to: ").concat(this.host).concat(" port: ").concat(String.valueOf(this.port)));
+			}
+			this.flush(client);
+		} finally {
+			this.outputLock.unlock();
 		}
 	}
 
 	/**
-	 * This method used to read response return from device
+	 * Write the frame of {@link #requestEncoder} to the socket, must be called while holding {@link #outputLock}
 	 *
-	 * @param command is the command sent to device
-	 * @param in is the input stream to read response
-	 * @return String array is the response from device
-	 * @throws IOException if read fail
-	 */
-	private String[] read(String command, InputStream in) throws IOException {
-		if (this.logger.isDebugEnabled()) {
-			this.logger.debug("DEBUG - Socket Communicator reading after command text \"".concat(command).concat("\" was sent to host ").concat(this.host));
-		}
-		// Count number of responses
-		long startTime = System.currentTimeMillis();
-		long timeout = 30 * 1000; // 30s read timeout
-		InputStreamReader inputStreamReader = new InputStreamReader(in);
-		StringBuilder stringBuilder = new StringBuilder();
-
-		do {
-			try {
-				int x = inputStreamReader.read();
-				if (x == -1) {
-					// Handle end of stream
-					throw new IOException("End of stream reached unexpectedly");
-				}
+	 * @param client is the socket to write to
+	 * @throws IOException if write to stream fail
+	 */
+	private void flush(Socket client) throws IOException {
+		OutputStream os = client.getOutputStream();
+		this.requestEncoder.writeTo(os);
+		os.flush();
+	}
 
-				stringBuilder.append((char) x);
-				// Char '\00' has int value is 0
-				// It is the symbol represents for the end of one response
-				if (x == 0 && verifyCommandGetControl(extractResponse(stringBuilder.toString()))) {
-					break;
-				}
-				// It's necessary to add read timeout to break the loop in case response data do not contain end character
-				if (System.currentTimeMillis() - startTime > timeout) {
-					throw new IOException("Timeout while waiting for response");
+	/**
+	 * Describe a request for logging
+	 *
+	 * @param method is the RPC method of the request
+	 * @param id is the JSON RPC id of the request
+	 * @param params is the values of the method parameters
+	 * @return description of the request
+	 */
+	private static String describe(RpcMethod method, long id, Object[] params) {
+		return method.getName() + " " + Arrays.toString(params) + " (id " + id + ")";
+	}
+
+	/**
+	 * Read frames from the socket until it is closed and route them to the waiting requests.
+	 * Runs on {@link #readerExecutorService}, one task per socket.
+	 *
+	 * @param client is the socket to read from
+	 */
+	private void readResponses(Socket client) {
+		QRCFrameDecoder frameDecoder = new QRCFrameDecoder();
+		try {
+			InputStream in = client.getInputStream();
+			while (!client.isClosed()) {
+				try {
+					this.dispatchFrame(frameDecoder.readFrame(in));
+				} catch (SocketTimeoutException e) {
+					// No data for socketTimeout, the session is checked by keep-alive requests
 				}
-			} catch (IOException e) {
+			}
+		} catch (Exception e) {
+			if (client == this.socket) {
 				logger.error("Error reading response from socket, socket server might close", e);
-				throw new IOException(e.getMessage());
-			} catch (Exception e) {
-				logger.error("Failed to read read response data of command " + command + " with error " + e.getMessage());
-				throw new IOException("Failed to read response data of command " + command);
+				this.destroyChannel(client, e, ConnectionState.Failed);
 			}
-		} while (true);
+		}
+	}
 
-		String response = stringBuilder.toString();
-		return extractResponse(response);
+	/**
+	 * Complete the request that has the same id as the frame. Frames without id are notifications
+	 * sent by the core on its own, they are passed to {@link #notificationListener}.
+	 *
+	 * @param frame JSON frame received from the device
+	 */
+	private void dispatchFrame(String frame) {
+		if (frame.trim().startsWith("[")) {
+			this.dispatchBatchFrame(frame);
+			return;
+		}
+		Long id = this.extractResponseId(frame);
+		if (id == null) {
+			if (!this.batchRequestIds.isEmpty() && this.isErrorResponse(frame)) {
+				// An error without id is the answer of a core that does not accept the batch as a whole
+				UnsupportedOperationException rejected = new UnsupportedOperationException(frame);
+				this.batchRequestIds.forEach(batchId -> Optional.ofNullable(this.pendingRequests.get(batchId)).ifPresent(response -> response.completeExceptionally(rejected)));
+				return;
+			}
+			Consumer<String> listener = this.notificationListener;
+			if (listener != null) {
+				listener.accept(frame);
+			} else if (this.logger.isTraceEnabled()) {
+				this.logger.trace("Skipping frame without request id: ".concat(frame));
+			}
+			return;
+		}
+		CompletableFuture<String> response = this.pendingRequests.remove(id);
+		this.consecutiveTimeouts.set(0);
+		if (response != null) {
+			response.complete(frame);
+		} else if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Skipping response of request " + id + " that is not waited anymore");
+		}
 	}
 
 	/**
-	 * Verifies whether the last element of the given data array contains a valid JSON
-	 * with a "result" field.
+	 * Route every response of a JSON RPC batch frame to its request
 	 *
-	 * @param data an array of {@link String}, where the last element is expected to be a JSON string
-	 * @return {@code true} if the parsed JSON contains the "result" field; {@code false} otherwise
-	 */
-	private boolean verifyCommandGetControl(String[] data) {
-		try{
-			String arr = data[data.length - 1];
-			JsonNode parseArr = objectMapper.readTree(arr);
-			if(parseArr.has("result")){
-				return true;
+	 * @param frame JSON array frame received from the device
+	 */
+	private void dispatchBatchFrame(String frame) {
+		try {
+			JsonNode responses = objectMapper.readTree(frame);
+			for (JsonNode response : responses) {
+				this.dispatchFrame(response.toString());
 			}
 		} catch (Exception e) {
-			return false;
+			if (this.logger.isWarnEnabled()) {
+				this.logger.warn("Unable to read batch frame: ".concat(frame), e);
+			}
 		}
-		return false;
 	}
 
 	/**
-	 * Compose responses data
+	 * Check whether the frame is a JSON RPC error response
+	 *
+	 * @param frame JSON frame received from the device
+	 * @return true if the frame has error field on the top level
 	 */
-	private String[] extractResponse(String response) {
+	private boolean isErrorResponse(String frame) {
+		try {
+			return objectMapper.readTree(frame).has(QSYSCoreConstant.ERROR);
+		} catch (Exception e) {
+			return false;
+		}
+	}
 
-		if (!response.contains("\00")) return new String[0];
-		List<String> result = new ArrayList<>();
-		if (this.numOfResponses == 1) {
-			result.add(QSYSCoreConstant.EMPTY);
+	/**
+	 * Retrieve the JSON RPC id of the frame. Only the top level fields are scanned,
+	 * the nested content is skipped without building a tree.
+	 *
+	 * @param frame JSON frame received from the device
+	 * @return id of the request the frame responds to, null if the frame is a notification or is not valid JSON
+	 */
+	private Long extractResponseId(String frame) {
+		try (JsonParser parser = objectMapper.getFactory().createParser(frame)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return null;
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.getCurrentName();
+				JsonToken value = parser.nextToken();
+				if (QSYSCoreConstant.ID.equals(fieldName)) {
+					return value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+				}
+				parser.skipChildren();
+			}
+		} catch (Exception e) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Unable to read id of frame: ".concat(frame), e);
+			}
 		}
-		result.addAll(Arrays.asList(response.split("\00")));
-		return result.toArray(new String[0]);
+		return null;
 	}
 
 	/**
@@ -505,7 +849,15 @@ public class QRCCommunicator extends BaseDevice implements Communicator {
 			this.logger.trace("Destroying communication channel to: ".concat(this.host).concat(" port: ").concat(String.valueOf(this.port)));
 		}
 
+		if (this.keepAliveExecutor != null) {
+			this.keepAliveExecutor.shutdownNow();
+			this.keepAliveExecutor = null;
+		}
 		this.destroyChannel();
+		if (this.readerExecutorService != null) {
+			this.readerExecutorService.shutdownNow();
+			this.readerExecutorService = null;
+		}
 		this.status.setConnectionState(ConnectionState.Disconnected);
 		super.internalDestroy();
 	}
@@ -524,5 +876,13 @@ public class QRCCommunicator extends BaseDevice implements Communicator {
 		if (this.port <= 0) {
 			throw new IllegalStateException("Invalid port property: ".concat(String.valueOf(this.port)).concat(" (must be positive number)"));
 		}
+
+		String poolName = "QRC " + this.host + ":" + this.port;
+		this.readerExecutorService = Executors.newCachedThreadPool(new NamedThreadFactory(poolName + " reader"));
+		if (this.keepAliveInterval > 0) {
+			long checkPeriod = Math.max(this.keepAliveInterval / 2, 1000);
+			this.keepAliveExecutor = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory(poolName + " keep-alive"));
+			this.keepAliveExecutor.scheduleWithFixedDelay(this::sendKeepAlive, checkPeriod, checkPeriod, TimeUnit.MILLISECONDS);
+		}
 	}
-}
\ No newline at end of file
+}
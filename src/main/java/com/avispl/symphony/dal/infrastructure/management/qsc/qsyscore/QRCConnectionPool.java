@@ -0,0 +1,569 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.rpc.RpcMethod;
+
+/**
+ * QRCConnectionPool keeps several QRC sessions to the same core, so requests sent by concurrent
+ * device collection threads are processed by the core in parallel instead of queueing on one session.
+ * The first connection is opened on init, more connections are opened lazily when all existing ones are busy,
+ * up to {@link #maxSize}. Each request is sent over the healthy connection with the least requests in flight,
+ * ties are resolved round-robin so the load is spread evenly.
+ * A connection that failed is skipped for {@link QSYSCoreConstant#QRC_CONNECTION_FAILURE_BACKOFF} milliseconds,
+ * unless no healthy connection is left.
+ * Control requests use a connection of their own, so they are not queued behind the monitoring requests.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class QRCConnectionPool {
+	private final Log logger = LogFactory.getLog(this.getClass());
+
+	private final String host;
+	private final int port;
+
+	/**
+	 * Maximum number of connections, the pool does not grow beyond it
+	 */
+	private volatile int maxSize;
+
+	/**
+	 * Opened connections, the first one is never removed
+	 */
+	private final List<PooledConnection> connections = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Connection reserved for control requests, opened by the first control, null until then or if it can not be opened
+	 */
+	private volatile PooledConnection controlConnection;
+
+	/**
+	 * Time the control connection could not be opened, it is not opened again before the failure backoff elapsed
+	 */
+	private volatile long controlConnectionFailureTimestamp;
+
+	/**
+	 * Start position of the next connection lookup
+	 */
+	private final AtomicInteger nextIndex = new AtomicInteger();
+
+	/**
+	 * Source of the connection indexes shown in the statistics
+	 */
+	private final AtomicInteger connectionCounter = new AtomicInteger();
+
+	/**
+	 * Listener of frames the core sends without request, set on every connection
+	 */
+	private volatile Consumer<String> notificationListener;
+
+	/**
+	 * Executor that runs the periodic health check
+	 */
+	private ScheduledExecutorService healthCheckExecutor;
+
+	/**
+	 * QRCConnectionPool with arg constructor
+	 *
+	 * @param host of the core
+	 * @param port of the QRC service
+	 * @param maxSize is maximum number of connections
+	 */
+	public QRCConnectionPool(String host, int port, int maxSize) {
+		this.host = host;
+		this.port = port;
+		this.maxSize = Math.max(maxSize, 1);
+	}
+
+	/**
+	 * Retrieves {@link #maxSize}
+	 *
+	 * @return value of {@link #maxSize}
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Sets {@link #maxSize} value, connections over the new size are closed by the next health check once they are idle
+	 *
+	 * @param maxSize new value of {@link #maxSize}
+	 */
+	public void setMaxSize(int maxSize) {
+		this.maxSize = Math.max(maxSize, 1);
+	}
+
+	/**
+	 * Sets {@link #notificationListener} value on the pool and all its connections
+	 *
+	 * @param notificationListener new value of {@link #notificationListener}
+	 */
+	public void setNotificationListener(Consumer<String> notificationListener) {
+		this.notificationListener = notificationListener;
+		for (PooledConnection connection : connections) {
+			connection.communicator.setNotificationListener(notificationListener);
+		}
+	}
+
+	/**
+	 * Open the first connection and start the health check
+	 *
+	 * @throws Exception if the connection can not be initialized
+	 */
+	public synchronized void init() throws Exception {
+		if (connections.isEmpty()) {
+			connections.add(createConnection());
+		}
+		if (healthCheckExecutor == null) {
+			healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("QRC " + host + ":" + port + " health check"));
+			healthCheckExecutor.scheduleWithFixedDelay(this::checkHealth, QSYSCoreConstant.QRC_CONNECTION_HEALTH_CHECK_INTERVAL,
+					QSYSCoreConstant.QRC_CONNECTION_HEALTH_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Close all connections and stop the health check
+	 */
+	public synchronized void destroy() {
+		if (healthCheckExecutor != null) {
+			healthCheckExecutor.shutdownNow();
+			healthCheckExecutor = null;
+		}
+		for (PooledConnection connection : connections) {
+			connection.communicator.destroy();
+		}
+		connections.clear();
+		if (controlConnection != null) {
+			controlConnection.communicator.destroy();
+			controlConnection = null;
+		}
+	}
+
+	/**
+	 * Send a JSON RPC request over the least loaded healthy connection
+	 *
+	 * @param method This is the RPC method to call
+	 * @param params This is the values of the method parameters
+	 * @return String This returns the response of the request received from the device.
+	 * @throws Exception if the request fails
+	 */
+	public String send(RpcMethod method, Object... params) throws Exception {
+		return send(checkout(), method, params);
+	}
+
+	/**
+	 * Send several JSON RPC requests of the same method in one batch over the least loaded healthy connection
+	 *
+	 * @param method This is the RPC method to call
+	 * @param paramsList This is the values of the method parameters of every request
+	 * @return List<String> This returns the responses in the order of the requests.
+	 * @throws Exception if the requests fail
+	 */
+	public List<String> sendBatch(RpcMethod method, List<Object[]> paramsList) throws Exception {
+		PooledConnection connection = checkout();
+		long start = System.nanoTime();
+		try {
+			List<String> responses = connection.communicator.sendBatch(method, paramsList);
+			connection.recordSuccess(System.nanoTime() - start);
+			return responses;
+		} catch (Exception e) {
+			connection.recordFailure(System.nanoTime() - start);
+			throw e;
+		} finally {
+			connection.inFlight.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Send a control request over the control connection, so it does not wait for the monitoring requests in flight.
+	 * The least loaded connection of the pool is used while the control connection is unhealthy or can not be opened.
+	 *
+	 * @param method This is the RPC method to call
+	 * @param params This is the values of the method parameters
+	 * @return String This returns the response of the request received from the device.
+	 * @throws Exception if the request fails
+	 */
+	public String sendControl(RpcMethod method, Object... params) throws Exception {
+		PooledConnection connection = controlConnection;
+		if (connection == null) {
+			connection = openControlConnection();
+		}
+		if (connection == null || !connection.isHealthy()) {
+			return send(checkout(), method, params);
+		}
+		connection.inFlight.incrementAndGet();
+		return send(connection, method, params);
+	}
+
+	/**
+	 * Send a JSON RPC request over the primary connection. Requests that depend on the state of the session,
+	 * such as change groups, must always use the same connection.
+	 *
+	 * @param method This is the RPC method to call
+	 * @param params This is the values of the method parameters
+	 * @return String This returns the response of the request received from the device.
+	 * @throws Exception if the request fails
+	 */
+	public String sendOnPrimary(RpcMethod method, Object... params) throws Exception {
+		PooledConnection connection = getPrimary();
+		connection.inFlight.incrementAndGet();
+		return send(connection, method, params);
+	}
+
+	/**
+	 * Retrieve the generation of the primary session, the value changes every time the session is reopened
+	 * and the state kept by the core for the old session is lost
+	 *
+	 * @return session generation of the primary connection
+	 */
+	public long getPrimarySessionGeneration() {
+		return getPrimary().communicator.getSessionGeneration();
+	}
+
+	/**
+	 * Send a JSON RPC request over a reserved connection and release it
+	 *
+	 * @param connection reserved connection
+	 * @param method This is the RPC method to call
+	 * @param params This is the values of the method parameters
+	 * @return String This returns the response of the request received from the device.
+	 * @throws Exception if the request fails
+	 */
+	private String send(PooledConnection connection, RpcMethod method, Object... params) throws Exception {
+		long start = System.nanoTime();
+		try {
+			String response = connection.communicator.send(method, params);
+			connection.recordSuccess(System.nanoTime() - start);
+			return response;
+		} catch (Exception e) {
+			connection.recordFailure(System.nanoTime() - start);
+			throw e;
+		} finally {
+			connection.inFlight.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Retrieve the statistics of every connection, shown in the statistics of the aggregator
+	 *
+	 * @return map of statistics names and values
+	 */
+	public Map<String, String> getStatistics() {
+		Map<String, String> statistics = new LinkedHashMap<>();
+		List<PooledConnection> allConnections = new ArrayList<>(connections);
+		if (controlConnection != null) {
+			allConnections.add(controlConnection);
+		}
+		for (PooledConnection connection : allConnections) {
+			String group = "QRCConnection" + connection.index + QSYSCoreConstant.HASH;
+			long requests = connection.requests.get();
+			statistics.put(group + "Requests", String.valueOf(requests));
+			statistics.put(group + "Failures", String.valueOf(connection.failures.get()));
+			statistics.put(group + "InFlight", String.valueOf(connection.inFlight.get()));
+			statistics.put(group + "AverageLatency(ms)", String.valueOf(requests == 0 ? 0 : connection.totalLatency.get() / requests / 1000000));
+			statistics.put(group + "Healthy", String.valueOf(connection.isHealthy()));
+		}
+		return statistics;
+	}
+
+	/**
+	 * Retrieve the first connection of the pool
+	 *
+	 * @return primary connection
+	 */
+	private PooledConnection getPrimary() {
+		if (connections.isEmpty()) {
+			throw new IllegalStateException("QRCConnectionPool cannot be used before init() is called");
+		}
+		return connections.get(0);
+	}
+
+	/**
+	 * Pick the connection for the next request and reserve it. A new connection is opened
+	 * when every healthy connection already has a request in flight and the pool is not full.
+	 * The lookup is repeated if the picked connection was retired by the health check before it could be reserved.
+	 *
+	 * @return reserved connection
+	 * @throws Exception if the pool is not initialized or a new connection can not be initialized
+	 */
+	private PooledConnection checkout() throws Exception {
+		while (true) {
+			PooledConnection selected = selectLeastLoaded(true);
+			if (selected == null) {
+				selected = selectLeastLoaded(false);
+			}
+			if (selected == null) {
+				throw new IllegalStateException("QRCConnectionPool cannot be used before init() is called");
+			}
+			if (selected.inFlight.get() > 0 && connections.size() < maxSize) {
+				PooledConnection created = growPool();
+				if (created != null && created.reserve()) {
+					return created;
+				}
+			}
+			if (selected.reserve()) {
+				return selected;
+			}
+		}
+	}
+
+	/**
+	 * Find the connection with the least requests in flight, starting the lookup from a rotating position
+	 *
+	 * @param healthyOnly whether connections that failed recently are skipped
+	 * @return connection, or null if there is no matching connection
+	 */
+	private PooledConnection selectLeastLoaded(boolean healthyOnly) {
+		List<PooledConnection> snapshot = new ArrayList<>(connections);
+		if (snapshot.isEmpty()) {
+			return null;
+		}
+		int start = Math.floorMod(nextIndex.getAndIncrement(), snapshot.size());
+		PooledConnection selected = null;
+		for (int i = 0; i < snapshot.size(); i++) {
+			PooledConnection connection = snapshot.get((start + i) % snapshot.size());
+			if (connection.isRetired() || healthyOnly && !connection.isHealthy()) {
+				continue;
+			}
+			if (selected == null || connection.inFlight.get() < selected.inFlight.get()) {
+				selected = connection;
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * Open one more connection if the pool is still not full
+	 *
+	 * @return new connection, or null if the pool is full or the connection can not be initialized
+	 */
+	private synchronized PooledConnection growPool() {
+		if (connections.isEmpty() || connections.size() >= maxSize) {
+			return null;
+		}
+		try {
+			PooledConnection connection = createConnection();
+			connections.add(connection);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Opened QRC connection " + connection.index + " to " + host + ", pool size: " + connections.size());
+			}
+			return connection;
+		} catch (Exception e) {
+			logger.warn("Unable to open additional QRC connection to " + host, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Open the control connection if it is not opened yet and did not fail to open recently
+	 *
+	 * @return control connection, or null if the pool is not initialized or the connection can not be opened
+	 */
+	private synchronized PooledConnection openControlConnection() {
+		if (controlConnection != null || connections.isEmpty()
+				|| System.currentTimeMillis() - controlConnectionFailureTimestamp < QSYSCoreConstant.QRC_CONNECTION_FAILURE_BACKOFF) {
+			return controlConnection;
+		}
+		try {
+			controlConnection = createConnection();
+			if (logger.isDebugEnabled()) {
+				logger.debug("Opened QRC control connection " + controlConnection.index + " to " + host);
+			}
+		} catch (Exception e) {
+			controlConnectionFailureTimestamp = System.currentTimeMillis();
+			logger.warn("Unable to open QRC control connection to " + host, e);
+		}
+		return controlConnection;
+	}
+
+	/**
+	 * Close idle connections that are over {@link #maxSize}, probe connections that failed recently and log the statistics of the pool.
+	 * A connection is retired before it is removed, so a request can no longer reserve it once it is closed.
+	 */
+	private void checkHealth() {
+		try {
+			synchronized (this) {
+				for (int i = connections.size() - 1; i >= maxSize; i--) {
+					PooledConnection connection = connections.get(i);
+					if (connection.retire()) {
+						connections.remove(i);
+						connection.communicator.destroy();
+					}
+				}
+			}
+			for (PooledConnection connection : connections) {
+				if (!connection.isHealthy() && connection.inFlight.get() == 0) {
+					probe(connection);
+				}
+			}
+			PooledConnection control = controlConnection;
+			if (control != null && !control.isHealthy() && control.inFlight.get() == 0) {
+				probe(control);
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("QRC connection pool statistics for " + host + ": " + getStatistics());
+			}
+		} catch (Exception e) {
+			logger.error("Error while checking QRC connection pool health", e);
+		}
+	}
+
+	/**
+	 * Send NoOp over a connection that failed recently, so it is back in rotation as soon as the core answers again
+	 *
+	 * @param connection to check
+	 */
+	private void probe(PooledConnection connection) {
+		if (!connection.reserve()) {
+			return;
+		}
+		long start = System.nanoTime();
+		try {
+			connection.communicator.send(RpcMethod.NO_OP);
+			connection.recordSuccess(System.nanoTime() - start);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			connection.recordFailure(System.nanoTime() - start);
+			if (logger.isDebugEnabled()) {
+				logger.debug("QRC connection " + connection.index + " to " + host + " is still unhealthy: " + e.getMessage());
+			}
+		} finally {
+			connection.inFlight.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Create and initialize a new connection
+	 *
+	 * @return new connection
+	 * @throws Exception if the connection can not be initialized
+	 */
+	private PooledConnection createConnection() throws Exception {
+		QRCCommunicator communicator = new QRCCommunicator();
+		communicator.setHost(host);
+		communicator.setPort(port);
+		communicator.setNotificationListener(notificationListener);
+		communicator.init();
+		return new PooledConnection(connectionCounter.incrementAndGet(), communicator);
+	}
+
+	/**
+	 * Connection of the pool with its usage statistics
+	 */
+	private static class PooledConnection {
+		/**
+		 * Value of {@link #inFlight} of a connection retired by the health check
+		 */
+		private static final int RETIRED = -1;
+
+		private final int index;
+		private final QRCCommunicator communicator;
+
+		/**
+		 * Number of requests in flight, {@link #RETIRED} once the connection is retired
+		 */
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicLong requests = new AtomicLong();
+		private final AtomicLong failures = new AtomicLong();
+		private final AtomicLong totalLatency = new AtomicLong();
+		private volatile long lastFailureTimestamp;
+
+		/**
+		 * PooledConnection with arg constructor
+		 *
+		 * @param index of the connection, starting from 1
+		 * @param communicator initialized communicator
+		 */
+		PooledConnection(int index, QRCCommunicator communicator) {
+			this.index = index;
+			this.communicator = communicator;
+		}
+
+		/**
+		 * Reserve the connection for a request unless it was retired
+		 *
+		 * @return true if the connection is reserved, false if it was retired
+		 */
+		boolean reserve() {
+			while (true) {
+				int current = inFlight.get();
+				if (current == RETIRED) {
+					return false;
+				}
+				if (inFlight.compareAndSet(current, current + 1)) {
+					return true;
+				}
+			}
+		}
+
+		/**
+		 * Retire the connection if it has no request in flight, it can not be reserved afterwards
+		 *
+		 * @return true if the connection is retired
+		 */
+		boolean retire() {
+			return inFlight.compareAndSet(0, RETIRED);
+		}
+
+		/**
+		 * Check whether the connection was retired
+		 *
+		 * @return true if the connection is retired
+		 */
+		boolean isRetired() {
+			return inFlight.get() == RETIRED;
+		}
+
+		/**
+		 * Check whether the connection did not fail recently
+		 *
+		 * @return true if the connection can be used
+		 */
+		boolean isHealthy() {
+			return System.currentTimeMillis() - lastFailureTimestamp >= QSYSCoreConstant.QRC_CONNECTION_FAILURE_BACKOFF;
+		}
+
+		/**
+		 * Record a successful request
+		 *
+		 * @param latency of the request in nanoseconds
+		 */
+		void recordSuccess(long latency) {
+			requests.incrementAndGet();
+			totalLatency.addAndGet(latency);
+			lastFailureTimestamp = 0;
+		}
+
+		/**
+		 * Record a failed request
+		 *
+		 * @param latency of the request in nanoseconds
+		 */
+		void recordFailure(long latency) {
+			requests.incrementAndGet();
+			failures.incrementAndGet();
+			totalLatency.addAndGet(latency);
+			lastFailureTimestamp = System.currentTimeMillis();
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QRCControlSink;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
+
+/**
+ * QRCControlParser reads a Component.GetControls response with a streaming parser and passes every control
+ * to a {@link QRCControlSink}, so no JSON tree is built for the controls array.
+ * Fields of a control other than Name, Type, Value and String are skipped without being read.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class QRCControlParser {
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private QRCControlParser() {
+	}
+
+	/**
+	 * Parse a Component.GetControls response into the sink
+	 *
+	 * @param response Component.GetControls response
+	 * @param sink receiver of the controls
+	 * @return true if the response has a result object with a controls array and its controls were passed to the sink,
+	 * false otherwise and the sink is not called
+	 * @throws IOException if the response is not valid JSON
+	 */
+	static boolean parse(String response, QRCControlSink sink) throws IOException {
+		try (JsonParser parser = JSON_FACTORY.createParser(response)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return false;
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+				if (QSYSCoreConstant.RESULT.equals(fieldName) && token == JsonToken.START_OBJECT) {
+					return parseResult(parser, sink);
+				}
+				parser.skipChildren();
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Parse the result object, the parser is positioned on the start of the object
+	 *
+	 * @param parser JSON parser
+	 * @param sink receiver of the controls
+	 * @return true if the result has a controls array
+	 * @throws IOException if the response is not valid JSON
+	 */
+	private static boolean parseResult(JsonParser parser, QRCControlSink sink) throws IOException {
+		String componentName = null;
+		boolean started = false;
+		boolean hasControls = false;
+		List<QRCControl> pendingControls = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String fieldName = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+			if (QSYSCoreConstant.CONTROL_NAME.equals(fieldName) && token.isScalarValue()) {
+				componentName = token == JsonToken.VALUE_NULL ? null : parser.getText();
+			} else if (QSYSCoreConstant.CONTROLS.equals(fieldName) && token == JsonToken.START_ARRAY) {
+				hasControls = true;
+				if (componentName != null && !started) {
+					sink.beginControls(componentName);
+					started = true;
+				}
+				QRCControl control = started ? new QRCControl() : null;
+				while (parser.nextToken() == JsonToken.START_OBJECT) {
+					if (!started) {
+						// Name of the component comes after the controls, keep them until the result is read completely
+						if (pendingControls == null) {
+							pendingControls = new ArrayList<>();
+						}
+						QRCControl pendingControl = new QRCControl();
+						if (parseControl(parser, pendingControl)) {
+							pendingControls.add(pendingControl);
+						}
+					} else if (parseControl(parser, control)) {
+						sink.onControl(control);
+					}
+				}
+			} else {
+				parser.skipChildren();
+			}
+		}
+		if (!hasControls) {
+			return false;
+		}
+		if (!started) {
+			sink.beginControls(componentName);
+			if (pendingControls != null) {
+				for (QRCControl control : pendingControls) {
+					sink.onControl(control);
+				}
+			}
+		}
+		sink.endControls();
+		return true;
+	}
+
+	/**
+	 * Parse a control object into the control instance, the parser is positioned on the start of the object
+	 *
+	 * @param parser JSON parser
+	 * @param control control instance to fill
+	 * @return true if the control has a name
+	 * @throws IOException if the response is not valid JSON
+	 */
+	private static boolean parseControl(JsonParser parser, QRCControl control) throws IOException {
+		control.setName(null);
+		control.setType(null);
+		control.setString(null);
+		control.setValue(null, null);
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String fieldName = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+			if (!token.isScalarValue()) {
+				parser.skipChildren();
+				continue;
+			}
+			switch (fieldName) {
+				case QSYSCoreConstant.CONTROL_NAME:
+					control.setName(textOrNull(parser, token));
+					break;
+				case QSYSCoreConstant.CONTROL_TYPE:
+					control.setType(textOrNull(parser, token));
+					break;
+				case QSYSCoreConstant.CONTROL_VALUE_STRING:
+					control.setString(textOrNull(parser, token));
+					break;
+				case QSYSCoreConstant.CONTROL_VALUE:
+					parseValue(parser, token, control);
+					break;
+				default:
+					break;
+			}
+		}
+		return control.getName() != null;
+	}
+
+	/**
+	 * Parse the value of a control, the text of numbers is the same as the text of the JSON tree node
+	 *
+	 * @param parser JSON parser
+	 * @param token current token
+	 * @param control control instance to fill
+	 * @throws IOException if the response is not valid JSON
+	 */
+	private static void parseValue(JsonParser parser, JsonToken token, QRCControl control) throws IOException {
+		switch (token) {
+			case VALUE_NUMBER_INT:
+				JsonParser.NumberType numberType = parser.getNumberType();
+				String integerText = numberType == JsonParser.NumberType.BIG_INTEGER ? parser.getBigIntegerValue().toString() : String.valueOf(parser.getLongValue());
+				control.setValue(integerText, QRCControl.ValueKind.INTEGER);
+				break;
+			case VALUE_NUMBER_FLOAT:
+				control.setValue(Double.toString(parser.getDoubleValue()), QRCControl.ValueKind.FLOAT);
+				break;
+			case VALUE_TRUE:
+			case VALUE_FALSE:
+				control.setValue(parser.getText(), QRCControl.ValueKind.BOOLEAN);
+				break;
+			case VALUE_STRING:
+				control.setValue(parser.getText(), QRCControl.ValueKind.STRING);
+				break;
+			default:
+				control.setValue(null, null);
+				break;
+		}
+	}
+
+	/**
+	 * Retrieve text of a scalar value
+	 *
+	 * @param parser JSON parser
+	 * @param token current token
+	 * @return text of the value, null for a JSON null
+	 * @throws IOException if the response is not valid JSON
+	 */
+	private static String textOrNull(JsonParser parser, JsonToken token) throws IOException {
+		return token == JsonToken.VALUE_NULL ? null : parser.getText();
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * QRCFrameDecoder splits the QRC byte stream into frames terminated by the NUL (0x00) character.
+ * Bytes are read from the socket in blocks, every byte is scanned for the delimiter exactly once,
+ * and a partially received frame is kept in the buffer until the rest of it arrives.
+ * The decoder is bound to a single socket session and must be reset when the socket is recreated.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class QRCFrameDecoder {
+	private static final int INITIAL_CAPACITY = 8192;
+	private static final byte FRAME_DELIMITER = 0x00;
+
+	private byte[] buffer = new byte[INITIAL_CAPACITY];
+
+	/**
+	 * Index of the first byte of the frame that is not completed yet
+	 */
+	private int frameStart;
+
+	/**
+	 * Index of the first byte that was not scanned for the delimiter yet
+	 */
+	private int scanPosition;
+
+	/**
+	 * Number of bytes stored in {@link #buffer}
+	 */
+	private int limit;
+
+	/**
+	 * Read the next complete frame from the stream. Bytes received after the delimiter stay in the buffer
+	 * and are used by the next call.
+	 *
+	 * @param in input stream of the socket
+	 * @return frame content without the delimiter, decoded as UTF-8
+	 * @throws IOException if the stream is closed or read fails
+	 */
+	String readFrame(InputStream in) throws IOException {
+		while (true) {
+			for (int i = scanPosition; i < limit; i++) {
+				if (buffer[i] == FRAME_DELIMITER) {
+					String frame = new String(buffer, frameStart, i - frameStart, StandardCharsets.UTF_8);
+					frameStart = i + 1;
+					scanPosition = frameStart;
+					if (frameStart == limit) {
+						reset();
+					}
+					return frame;
+				}
+			}
+			scanPosition = limit;
+			fill(in);
+		}
+	}
+
+	/**
+	 * Drop all buffered data
+	 */
+	void reset() {
+		frameStart = 0;
+		scanPosition = 0;
+		limit = 0;
+	}
+
+	/**
+	 * Read the next block of bytes from the stream, compacting or growing the buffer when it is full
+	 *
+	 * @param in input stream of the socket
+	 * @throws IOException if the stream is closed or read fails
+	 */
+	private void fill(InputStream in) throws IOException {
+		if (limit == buffer.length) {
+			int pending = limit - frameStart;
+			byte[] target = frameStart > 0 ? buffer : new byte[buffer.length * 2];
+			System.arraycopy(buffer, frameStart, target, 0, pending);
+			buffer = target;
+			scanPosition -= frameStart;
+			frameStart = 0;
+			limit = pending;
+		}
+		int count = in.read(buffer, limit, buffer.length - limit);
+		if (count == -1) {
+			throw new EOFException("End of stream reached unexpectedly");
+		}
+		limit += count;
+	}
+}
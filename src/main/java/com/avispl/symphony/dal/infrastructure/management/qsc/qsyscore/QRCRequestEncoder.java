@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.rpc.RpcMethod;
+
+/**
+ * QRCRequestEncoder writes JSON RPC requests as UTF-8 bytes into a buffer that is reused for every frame.
+ * The params template of every {@link RpcMethod} is compiled once into byte segments, string parameters are
+ * escaped as JSON strings, and every encoder caches the encoded Component.GetControls request of the components
+ * it polled up to the request id, so polling a device only copies bytes. The cache keeps the
+ * {@link #MAX_CACHED_COMPONENTS} components polled most recently.
+ * The encoder is not thread safe, it is used by a single connection while holding its output lock.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class QRCRequestEncoder {
+	private static final int INITIAL_CAPACITY = 1024;
+	private static final int MAX_CACHED_COMPONENTS = 4096;
+	private static final byte FRAME_DELIMITER = 0x00;
+	private static final byte[] ID_PREFIX = ",\"id\":".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] PLACEHOLDER = "%s".getBytes(StandardCharsets.UTF_8);
+
+	/**
+	 * Compiled request of every method, the request ends before the id value
+	 */
+	private static final Map<RpcMethod, Template> TEMPLATES = new EnumMap<>(RpcMethod.class);
+
+	static {
+		for (RpcMethod method : RpcMethod.values()) {
+			TEMPLATES.put(method, new Template(method));
+		}
+	}
+
+	/**
+	 * Encoded Component.GetControls request of the components polled most recently, in access order,
+	 * the request ends before the id value
+	 */
+	private final Map<String, byte[]> getControlsCache = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+			return size() > MAX_CACHED_COMPONENTS;
+		}
+	};
+
+	private byte[] buffer = new byte[INITIAL_CAPACITY];
+
+	/**
+	 * Number of bytes stored in {@link #buffer}
+	 */
+	private int length;
+
+	/**
+	 * Drop the content of the buffer to start a new frame
+	 *
+	 * @return this encoder
+	 */
+	QRCRequestEncoder reset() {
+		length = 0;
+		return this;
+	}
+
+	/**
+	 * Append a request to the frame
+	 *
+	 * @param method method of the request
+	 * @param id JSON RPC id of the request, the response has the same id
+	 * @param params values of the parameters, in the order of the placeholders of {@link RpcMethod#getParamsString(RpcMethod)}
+	 * @return this encoder
+	 */
+	QRCRequestEncoder appendRequest(RpcMethod method, long id, Object... params) {
+		if (method == RpcMethod.GET_CONTROLS && params.length == 1 && params[0] != null) {
+			String componentName = String.valueOf(params[0]);
+			byte[] request = getControlsCache.get(componentName);
+			if (request == null) {
+				request = TEMPLATES.get(method).encode(params);
+				getControlsCache.put(componentName, request);
+			}
+			append(request);
+		} else {
+			TEMPLATES.get(method).encodeTo(this, params);
+		}
+		appendLong(id);
+		append((byte) '}');
+		return this;
+	}
+
+	/**
+	 * Append a batch of requests of the same method to the frame
+	 *
+	 * @param method method of the requests
+	 * @param ids JSON RPC ids of the requests
+	 * @param paramsList values of the parameters of every request
+	 * @return this encoder
+	 */
+	QRCRequestEncoder appendBatch(RpcMethod method, List<Long> ids, List<Object[]> paramsList) {
+		append((byte) '[');
+		for (int i = 0; i < ids.size(); i++) {
+			if (i > 0) {
+				append((byte) ',');
+			}
+			appendRequest(method, ids.get(i), paramsList.get(i));
+		}
+		append((byte) ']');
+		return this;
+	}
+
+	/**
+	 * Terminate the frame with the NUL delimiter
+	 *
+	 * @return this encoder
+	 */
+	QRCRequestEncoder endFrame() {
+		append(FRAME_DELIMITER);
+		return this;
+	}
+
+	/**
+	 * Write the frame to the stream
+	 *
+	 * @param out output stream of the socket
+	 * @throws IOException if write to stream fail
+	 */
+	void writeTo(OutputStream out) throws IOException {
+		out.write(buffer, 0, length);
+	}
+
+	/**
+	 * Decode the frame for logging, the delimiter is not included
+	 *
+	 * @return frame as string
+	 */
+	@Override
+	public String toString() {
+		int end = length > 0 && buffer[length - 1] == FRAME_DELIMITER ? length - 1 : length;
+		return new String(buffer, 0, end, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Append a byte, growing the buffer when it is full
+	 *
+	 * @param value byte to append
+	 */
+	private void append(byte value) {
+		ensureCapacity(1);
+		buffer[length++] = value;
+	}
+
+	/**
+	 * Append bytes, growing the buffer when it is full
+	 *
+	 * @param bytes bytes to append
+	 */
+	private void append(byte[] bytes) {
+		ensureCapacity(bytes.length);
+		System.arraycopy(bytes, 0, buffer, length, bytes.length);
+		length += bytes.length;
+	}
+
+	/**
+	 * Append decimal digits of a number without creating a string
+	 *
+	 * @param value number to append
+	 */
+	private void appendLong(long value) {
+		if (value < 0) {
+			append(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+			return;
+		}
+		int digits = 1;
+		for (long rest = value / 10; rest > 0; rest /= 10) {
+			digits++;
+		}
+		ensureCapacity(digits);
+		for (int i = length + digits - 1; i >= length; i--) {
+			buffer[i] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+		length += digits;
+	}
+
+	/**
+	 * Grow the buffer so it can store the given number of additional bytes
+	 *
+	 * @param additional number of bytes to append
+	 */
+	private void ensureCapacity(int additional) {
+		if (length + additional > buffer.length) {
+			byte[] target = new byte[Math.max(buffer.length * 2, length + additional)];
+			System.arraycopy(buffer, 0, target, 0, length);
+			buffer = target;
+		}
+	}
+
+	/**
+	 * Request of a method compiled into literal byte segments and parameter placeholders.
+	 * Placeholders enclosed in quotes are JSON strings and are escaped, the others are written as they are.
+	 */
+	private static class Template {
+		private final List<byte[]> segments = new ArrayList<>();
+		private final List<Boolean> quotedParams = new ArrayList<>();
+
+		/**
+		 * Compile the request of the method, whitespace outside of strings is removed
+		 *
+		 * @param method method of the request
+		 */
+		Template(RpcMethod method) {
+			String request = "{\"jsonrpc\":\"2.0\",\"method\":\"" + method.getName() + "\",\"params\":"
+					+ compact(RpcMethod.getParamsString(method));
+			byte[] bytes = request.getBytes(StandardCharsets.UTF_8);
+			int segmentStart = 0;
+			for (int i = 0; i + 1 < bytes.length; i++) {
+				if (bytes[i] == PLACEHOLDER[0] && bytes[i + 1] == PLACEHOLDER[1]) {
+					segments.add(copy(bytes, segmentStart, i));
+					quotedParams.add(i > 0 && bytes[i - 1] == '"' && i + 2 < bytes.length && bytes[i + 2] == '"');
+					segmentStart = i + PLACEHOLDER.length;
+					i++;
+				}
+			}
+			byte[] tail = copy(bytes, segmentStart, bytes.length);
+			byte[] last = new byte[tail.length + ID_PREFIX.length];
+			System.arraycopy(tail, 0, last, 0, tail.length);
+			System.arraycopy(ID_PREFIX, 0, last, tail.length, ID_PREFIX.length);
+			segments.add(last);
+		}
+
+		/**
+		 * Write the request up to the id value
+		 *
+		 * @param encoder encoder to write to
+		 * @param params values of the parameters
+		 */
+		void encodeTo(QRCRequestEncoder encoder, Object[] params) {
+			for (int i = 0; i < quotedParams.size(); i++) {
+				encoder.append(segments.get(i));
+				String value = i < params.length ? String.valueOf(params[i]) : String.valueOf((Object) null);
+				encoder.append(quotedParams.get(i) ? JsonStringEncoder.getInstance().quoteAsUTF8(value) : value.getBytes(StandardCharsets.UTF_8));
+			}
+			encoder.append(segments.get(segments.size() - 1));
+		}
+
+		/**
+		 * Encode the request up to the id value into a new array
+		 *
+		 * @param params values of the parameters
+		 * @return encoded request
+		 */
+		byte[] encode(Object[] params) {
+			QRCRequestEncoder encoder = new QRCRequestEncoder();
+			encodeTo(encoder, params);
+			return copy(encoder.buffer, 0, encoder.length);
+		}
+
+		/**
+		 * Remove whitespace outside of JSON strings
+		 *
+		 * @param json JSON template
+		 * @return compact template
+		 */
+		private static String compact(String json) {
+			StringBuilder builder = new StringBuilder(json.length());
+			boolean inString = false;
+			for (int i = 0; i < json.length(); i++) {
+				char c = json.charAt(i);
+				if (c == '"' && (i == 0 || json.charAt(i - 1) != '\\')) {
+					inString = !inString;
+				}
+				if (inString || !Character.isWhitespace(c)) {
+					builder.append(c);
+				}
+			}
+			return builder.toString();
+		}
+
+		/**
+		 * Copy a range of bytes
+		 *
+		 * @param bytes source bytes
+		 * @param from index of the first byte
+		 * @param to index after the last byte
+		 * @return copied bytes
+		 */
+		private static byte[] copy(byte[] bytes, int from, int to) {
+			byte[] result = new byte[to - from];
+			System.arraycopy(bytes, from, result, 0, result.length);
+			return result;
+		}
+	}
+}
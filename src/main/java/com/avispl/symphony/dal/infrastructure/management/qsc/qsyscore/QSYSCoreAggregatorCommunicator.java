@@ -4,10 +4,11 @@
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
 
 import java.io.IOException;
-import java.math.RoundingMode;
+import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -19,12 +20,13 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.util.CollectionUtils;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.common.math.IntMath;
 import javax.security.auth.login.FailedLoginException;
 
 import com.avispl.symphony.api.dal.control.Controller;
@@ -74,14 +76,6 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 */
 	private volatile boolean devicePaused = true;
 
-	/**
-	 * We don't want the statistics to be collected constantly, because if there's not a big list of devices -
-	 * new devices' statistics loop will be launched before the next monitoring iteration. To avoid that -
-	 * this variable stores a timestamp which validates it, so when the devices' statistics is done collecting, variable
-	 * is set to currentTime + 30s, at the same time, calling {@link #retrieveMultipleStatistics()} and updating the
-	 */
-	private long nextDevicesCollectionIterationTimestamp;
-
 	/**
 	 * This parameter holds timestamp of when we need to stop performing API calls
 	 * It used when device stop retrieving statistic. Updated each time of called #retrieveMultipleStatistics
@@ -103,6 +97,14 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 */
 	private synchronized void updateAggregatorStatus() {
 		devicePaused = validRetrieveStatisticsTimestamp < System.currentTimeMillis();
+		DeviceCollectionScheduler scheduler = deviceCollectionScheduler;
+		if (scheduler != null) {
+			if (devicePaused) {
+				scheduler.pause();
+			} else {
+				scheduler.resume();
+			}
+		}
 	}
 
 	/**
@@ -118,99 +120,35 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 		updateAggregatorStatus();
 	}
 
-	class DeviceLoader implements Runnable {
-		private volatile List<String> deviceIds;
-		private volatile boolean inProgress;
-		private volatile boolean dataFetchCompleted = false;
-		/**
-		 * Parameters constructors
-		 *
-		 * @param deviceIds list all id of device
-		 */
-		public DeviceLoader(List<String> deviceIds) {
-			this.deviceIds = deviceIds;
-			inProgress = true;
-		}
-
-		@Override
-		public void run() {
-			loop:
-			while (inProgress) {
-				try {
-					try {
-						TimeUnit.MILLISECONDS.sleep(500);
-					} catch (InterruptedException e) {
-						logger.info(String.format("Sleep for 0.5 second was interrupted with error message: %s", e.getMessage()));
-					}
-
-					if (!inProgress) {
-						break loop;
-					}
-
-					// next line will determine whether QSYS monitoring was paused
-					updateAggregatorStatus();
-					if (devicePaused) {
-						continue loop;
-					}
-					if (logger.isDebugEnabled()) {
-						logger.debug("Fetching aggregated devices statuses for device list: " + String.join(",", this.deviceIds));
-					}
-
-					long currentTimestamp = System.currentTimeMillis();
-					if (!dataFetchCompleted && nextDevicesCollectionIterationTimestamp <= currentTimestamp) {
-						if (!deviceMap.isEmpty()) {
-							retrieveAggregatedDeviceByIdList(this.deviceIds);
-						}
-						dataFetchCompleted = true;
-						lastMonitoringCycleDuration = Math.max((System.currentTimeMillis() - currentTimestamp) / 1000, 1L);
-					}
-
-					if (logger.isDebugEnabled()) {
-						logger.debug("Finished collecting devices statistics cycle at " + new Date() + ", total duration: " + lastMonitoringCycleDuration);
-					}
-
-					while (nextDevicesCollectionIterationTimestamp > System.currentTimeMillis()) {
-						try {
-							TimeUnit.MILLISECONDS.sleep(1000);
-						} catch (InterruptedException e) {
-							logger.info(String.format("Sleep for 1 second was interrupted with error message: %s", e.getMessage()));
-						}
-					}
-
-					if (!inProgress) {
-						break loop;
-					}
-					if (dataFetchCompleted) {
-						try {
-							nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + (getMonitoringRate() * 60000L);
-						} catch (NoSuchMethodError nsme) {
-							nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + 60000L;
-							logger.warn("Unsupported feature: getMonitoringRate isn't available on current Cloud Connector version.", nsme);
-						}
-						dataFetchCompleted = false;
-					}
-
-					if (logger.isDebugEnabled()) {
-						logger.debug("Finished collecting devices statistics cycle at " + new Date());
-					}
-				} catch (Exception e) {
-					logger.error("Unexpected error occurred during main device collection cycle", e);
-				}
-			}
-			logger.debug("Main device collection loop is completed, in progress marker: " + inProgress);
-		}
-	}
-
 	/**
-	 * Executor that runs all the async operations, that is posting and
-	 * {@link #devicesExecutionPool} is keeping track of
+	 * Scheduler that runs the collection of aggregated devices
 	 */
-	private ExecutorService executorService;
+	private volatile DeviceCollectionScheduler deviceCollectionScheduler;
 	/**
 	 * Executor service for QRC requests
 	 * @since 1.2.0
 	 * */
 	private ExecutorService qrcExecutorService;
+
+	/**
+	 * Runs the stages retrieving the aggregator statistics in parallel
+	 */
+	private ExecutorService statisticsStageExecutorService;
+
+	/**
+	 * Confirms the controlled values with Component.Get after controlProperty returned, in the order of the controls
+	 */
+	private volatile ExecutorService controlConfirmationExecutorService;
+
+	/**
+	 * Runs the controls in order per named component and concurrently across components
+	 */
+	private volatile ControlDispatcher controlDispatcher;
+
+	/**
+	 * Statistics of every aggregator statistics stage from the last time it succeeded, used when the stage fails or times out
+	 */
+	private final Map<String, Map<String, String>> lastStageStatistics = new ConcurrentHashMap<>();
 	/**
 	 * QRC process, responsible for aggregated devices collection from the remote API
 	 * @since 1.2.0
@@ -244,6 +182,11 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 */
 	private volatile int deviceStatisticsCollectionThreads;
 
+	/**
+	 * Sizes the device statistics collection from the measured latency of the core
+	 */
+	private final AdaptivePollingController adaptivePollingController = new AdaptivePollingController();
+
 	/** Adapter metadata properties - adapter version and build date */
 	private Properties adapterProperties;
 
@@ -258,14 +201,153 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	private volatile String pollingInterval;
 
 	private String qrcPort = String.valueOf(QSYSCoreConstant.QRC_PORT);
-	private boolean isEmergencyDelivery = false;
+
+	/**
+	 * Maximum number of QRC sessions opened to the core, sessions are opened on demand
+	 * when concurrent device collection threads find all existing sessions busy
+	 */
+	private String qrcConnectionPoolSize = String.valueOf(QSYSCoreConstant.DEFAULT_QRC_CONNECTION_POOL_SIZE);
+
+	/**
+	 * Mode of retrieving the controls of aggregated devices, one of {@link QRCMonitoringMode} names.
+	 * Poll requests all controls every cycle, ChangeGroup requests only the controls changed since the previous cycle,
+	 * AutoPoll lets the core push the changed controls as they happen.
+	 */
+	private String qrcMonitoringMode = QRCMonitoringMode.POLL.getName();
+
+	/**
+	 * Rate in seconds the core pushes changed controls with, used when {@link #qrcMonitoringMode} is AutoPoll
+	 */
+	private String qrcAutoPollRate = String.valueOf(QSYSCoreConstant.DEFAULT_AUTO_POLL_RATE);
+
+	/**
+	 * Number of Component.GetControls requests sent in one JSON RPC batch frame in Poll mode, 1 disables batches
+	 */
+	private String qrcBatchSize = String.valueOf(QSYSCoreConstant.DEFAULT_QRC_BATCH_SIZE);
+
+	/**
+	 * Interval in seconds of the status polling in Poll mode. Between the full refreshes of a device only its Status and
+	 * StatusLed controls are requested with Component.Get, 0 disables the status polling.
+	 */
+	private String qrcStatusPollingInterval = String.valueOf(QSYSCoreConstant.DEFAULT_QRC_STATUS_POLLING_INTERVAL);
+
+	/**
+	 * Interval in seconds of the full Component.GetControls refresh in Poll mode per device type, comma separated
+	 * {@code QSYSType:seconds} values, e.g. {@code Loudspeaker:600,Amplifier:300}. Devices of types not listed are
+	 * fully refreshed every monitoring cycle.
+	 */
+	private String qrcFullRefreshInterval;
+
+	/**
+	 * Interval in seconds Component.GetComponents runs again even if the running design did not change
+	 */
+	private String qrcDiscoveryInterval = String.valueOf(QSYSCoreConstant.DEFAULT_QRC_DISCOVERY_INTERVAL);
+
+	/**
+	 * Code and name of the running design from the last StatusGet, null if the design is unknown
+	 */
+	private volatile String runningDesign;
+
+	/**
+	 * Running design and device filters the inventory was discovered with, null if the last discovery failed
+	 */
+	private volatile String discoveredDesign;
+
+	/**
+	 * Timestamp of the next discovery when the running design does not change
+	 */
+	private volatile long nextDiscoveryTimestamp;
+
+	/**
+	 * Ids of the gain components found by the last discovery
+	 */
+	private volatile List<String> gainComponentIds = Collections.emptyList();
+
+	/**
+	 * Full refresh intervals in milliseconds by QSYSType, parsed from {@link #qrcFullRefreshInterval}
+	 */
+	private volatile Map<String, Long> fullRefreshIntervals = Collections.emptyMap();
+
+	/**
+	 * Time in seconds the responses of the core REST endpoints are reused, comma separated {@code Endpoint:seconds}
+	 * values for the CoreInfo, Network and Redundancy endpoints, 0 requests the endpoint every monitoring cycle.
+	 */
+	private String coreMetadataCacheTTL = QSYSCoreConstant.DEFAULT_CORE_METADATA_CACHE_TTL;
+
+	/**
+	 * Time in milliseconds the response of every core REST endpoint is reused, parsed from {@link #coreMetadataCacheTTL}
+	 */
+	private volatile Map<String, Long> coreMetadataCacheTTLs = Collections.emptyMap();
+
+	/**
+	 * Responses of the core REST endpoints
+	 */
+	private final RestMetadataCache restMetadataCache = new RestMetadataCache();
+
+	/**
+	 * State and running design of the core from the last StatusGet, the cached REST responses are dropped when it changes
+	 */
+	private volatile String coreState;
+
+	/**
+	 * Whether the core is redundant according to the last StatusGet, null if it is unknown
+	 */
+	private volatile Boolean coreRedundant;
+
+	/**
+	 * Timestamp of the next full refresh of every device with a full refresh interval
+	 */
+	private final Map<String, Long> nextFullRefreshTimestamps = new ConcurrentHashMap<>();
+
+	/**
+	 * Timestamp of the next status polling of every device
+	 */
+	private final Map<String, Long> nextStatusPollingTimestamps = new ConcurrentHashMap<>();
+	private volatile boolean isEmergencyDelivery = false;
 	private LoginInfo loginInfo;
-	private ExtendedStatistics localExtStats;
+
+	/**
+	 * Statistics of the core returned by {@link #getMultipleStatistics()}. A published instance is not modified,
+	 * a control of a gain component publishes an updated copy.
+	 */
+	private final AtomicReference<ExtendedStatistics> localExtStats = new AtomicReference<>();
 
 	/**
 	 * Enable/disable controllable properties on aggregated devices
 	 * */
 	private boolean configManagement = false;
+
+	/**
+	 * Return only the aggregated devices changed since the previous call of {@link #retrieveMultipleStatistics()},
+	 * all devices are returned every {@link #deltaFullSyncInterval}
+	 */
+	private boolean deltaStatistics = false;
+
+	/**
+	 * Interval in seconds all aggregated devices are returned when {@link #deltaStatistics} is enabled
+	 */
+	private String deltaFullSyncInterval = String.valueOf(QSYSCoreConstant.DEFAULT_DELTA_FULL_SYNC_INTERVAL);
+
+	/**
+	 * Refresh the controls of the devices requested by {@link #retrieveMultipleStatistics(List)} in the background,
+	 * the refreshed values are returned by the following requests
+	 */
+	private boolean refreshRequestedDevices = false;
+
+	/**
+	 * Ids of devices requested by {@link #retrieveMultipleStatistics(List)} waiting for the background refresh
+	 */
+	private final Set<String> requestedDeviceIds = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Snapshot returned by the previous call of {@link #retrieveMultipleStatistics()}
+	 */
+	private volatile AggregatedDeviceSnapshot lastReturnedSnapshot = AggregatedDeviceSnapshot.EMPTY;
+
+	/**
+	 * Timestamp all aggregated devices are returned again when {@link #deltaStatistics} is enabled
+	 */
+	private volatile long nextFullSyncTimestamp;
 	/**
 	 * Filter by plugin name
 	 */
@@ -289,7 +371,7 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	/**
 	 * Map store and update all device can not get information
 	 */
-	private volatile Map<String, Integer> errorDeviceMap = new HashMap<>();
+	private final Map<String, Integer> errorDeviceMap = new ConcurrentHashMap<>();
 
 	/**
 	 * Stack store all error device id to loop throughout it
@@ -306,11 +388,6 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 */
 	private Set<String> filterDeviceByQSYSTypeSet;
 
-	/**
-	 * list all thread
-	 */
-	private List<Future> deviceExecutionPool = new ArrayList<>();
-
 	/**
 	 * Filter component by name
 	 */
@@ -331,6 +408,16 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 */
 	public volatile TreeMap<String, QSYSPeripheralDevice> deviceMap = new TreeMap<>();
 
+	/**
+	 * Devices kept between the discovery passes, {@link #deviceMap} is replaced by its snapshot after every pass
+	 */
+	private final DeviceInventory deviceInventory = new DeviceInventory();
+
+	/**
+	 * Routes of the controllable properties of the aggregated devices
+	 */
+	private final ControlRoutingTable controlRoutingTable = new ControlRoutingTable();
+
 	/**
 	 * Map of ID device and device detail
 	 */
@@ -349,14 +436,14 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	private int rrIndex = 0;
 
 	/**
-	 * Pool for keeping all the async operations in, to track any operations in progress and cancel them if needed
+	 * Pool of QRC sessions shared by the aggregator and the device collection threads
 	 */
-	private List<Future> devicesExecutionPool = new ArrayList<>();
+	private QRCConnectionPool qrcConnectionPool;
 
 	/**
-	 * qrcCommunicator instance
+	 * Change group monitor used when {@link #qrcMonitoringMode} is ChangeGroup or AutoPoll
 	 */
-	private QRCCommunicator qrcCommunicator;
+	private QRCChangeGroupMonitor qrcChangeGroupMonitor;
 
 	/**
 	 * A mapper for reading and writing JSON using Jackson library.
@@ -373,21 +460,14 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	private final ReentrantLock reentrantLock = new ReentrantLock();
 
 	/**
-	 * List of aggregated device
-	 */
-	private List<AggregatedDevice> resultAggregatedDeviceList = Collections.synchronizedList(new ArrayList<>());
-
-	/**
-	 * The variable checks if qrcCommunicator is initial at the first time
+	 * Aggregated devices published after the devices are collected, read by {@link #retrieveMultipleStatistics()} without locking
 	 */
-	private volatile boolean isQrcCommunicatorFirstTimeInit = true;
+	private final AtomicReference<AggregatedDeviceSnapshot> aggregatedDeviceSnapshot = new AtomicReference<>(AggregatedDeviceSnapshot.EMPTY);
 
 	public QSYSCoreAggregatorCommunicator() throws IOException {
 		adapterProperties = new Properties();
 		adapterProperties.load(getClass().getResourceAsStream("/version.properties"));
 		this.setTrustAllCertificates(true);
-
-		qrcExecutorService = Executors.newFixedThreadPool(1);
 	}
 
 	/**
@@ -408,6 +488,60 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 		this.configManagement = configManagement;
 	}
 
+	/**
+	 * Retrieves {@link #deltaStatistics}
+	 *
+	 * @return value of {@link #deltaStatistics}
+	 */
+	public boolean isDeltaStatistics() {
+		return deltaStatistics;
+	}
+
+	/**
+	 * Sets {@link #deltaStatistics} value
+	 *
+	 * @param deltaStatistics new value of {@link #deltaStatistics}
+	 */
+	public void setDeltaStatistics(boolean deltaStatistics) {
+		this.deltaStatistics = deltaStatistics;
+	}
+
+	/**
+	 * Retrieves {@link #refreshRequestedDevices}
+	 *
+	 * @return value of {@link #refreshRequestedDevices}
+	 */
+	public boolean isRefreshRequestedDevices() {
+		return refreshRequestedDevices;
+	}
+
+	/**
+	 * Sets {@link #refreshRequestedDevices} value
+	 *
+	 * @param refreshRequestedDevices new value of {@link #refreshRequestedDevices}
+	 */
+	public void setRefreshRequestedDevices(boolean refreshRequestedDevices) {
+		this.refreshRequestedDevices = refreshRequestedDevices;
+	}
+
+	/**
+	 * Retrieves {@link #deltaFullSyncInterval}
+	 *
+	 * @return value of {@link #deltaFullSyncInterval}
+	 */
+	public String getDeltaFullSyncInterval() {
+		return deltaFullSyncInterval;
+	}
+
+	/**
+	 * Sets {@link #deltaFullSyncInterval} value
+	 *
+	 * @param deltaFullSyncInterval new value of {@link #deltaFullSyncInterval}
+	 */
+	public void setDeltaFullSyncInterval(String deltaFullSyncInterval) {
+		this.deltaFullSyncInterval = deltaFullSyncInterval;
+	}
+
 	/**
 	 * Retrieves {@link #historicalProperties}
 	 *
@@ -447,6 +581,150 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 		this.qrcPort = qrcPort;
 	}
 
+	/**
+	 * Retrieves {@link #qrcConnectionPoolSize}
+	 *
+	 * @return value of {@link #qrcConnectionPoolSize}
+	 */
+	public String getQrcConnectionPoolSize() {
+		return qrcConnectionPoolSize;
+	}
+
+	/**
+	 * Sets {@link #qrcConnectionPoolSize} value
+	 *
+	 * @param qrcConnectionPoolSize new value of {@link #qrcConnectionPoolSize}
+	 */
+	public void setQrcConnectionPoolSize(String qrcConnectionPoolSize) {
+		this.qrcConnectionPoolSize = qrcConnectionPoolSize;
+	}
+
+	/**
+	 * Retrieves {@link #qrcMonitoringMode}
+	 *
+	 * @return value of {@link #qrcMonitoringMode}
+	 */
+	public String getQrcMonitoringMode() {
+		return qrcMonitoringMode;
+	}
+
+	/**
+	 * Sets {@link #qrcMonitoringMode} value
+	 *
+	 * @param qrcMonitoringMode new value of {@link #qrcMonitoringMode}
+	 */
+	public void setQrcMonitoringMode(String qrcMonitoringMode) {
+		this.qrcMonitoringMode = qrcMonitoringMode;
+	}
+
+	/**
+	 * Retrieves {@link #qrcAutoPollRate}
+	 *
+	 * @return value of {@link #qrcAutoPollRate}
+	 */
+	public String getQrcAutoPollRate() {
+		return qrcAutoPollRate;
+	}
+
+	/**
+	 * Sets {@link #qrcAutoPollRate} value
+	 *
+	 * @param qrcAutoPollRate new value of {@link #qrcAutoPollRate}
+	 */
+	public void setQrcAutoPollRate(String qrcAutoPollRate) {
+		this.qrcAutoPollRate = qrcAutoPollRate;
+	}
+
+	/**
+	 * Retrieves {@link #qrcBatchSize}
+	 *
+	 * @return value of {@link #qrcBatchSize}
+	 */
+	public String getQrcBatchSize() {
+		return qrcBatchSize;
+	}
+
+	/**
+	 * Sets {@link #qrcBatchSize} value
+	 *
+	 * @param qrcBatchSize new value of {@link #qrcBatchSize}
+	 */
+	public void setQrcBatchSize(String qrcBatchSize) {
+		this.qrcBatchSize = qrcBatchSize;
+	}
+
+	/**
+	 * Retrieves {@link #qrcStatusPollingInterval}
+	 *
+	 * @return value of {@link #qrcStatusPollingInterval}
+	 */
+	public String getQrcStatusPollingInterval() {
+		return qrcStatusPollingInterval;
+	}
+
+	/**
+	 * Sets {@link #qrcStatusPollingInterval} value
+	 *
+	 * @param qrcStatusPollingInterval new value of {@link #qrcStatusPollingInterval}
+	 */
+	public void setQrcStatusPollingInterval(String qrcStatusPollingInterval) {
+		this.qrcStatusPollingInterval = qrcStatusPollingInterval;
+	}
+
+	/**
+	 * Retrieves {@link #qrcFullRefreshInterval}
+	 *
+	 * @return value of {@link #qrcFullRefreshInterval}
+	 */
+	public String getQrcFullRefreshInterval() {
+		return qrcFullRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #qrcFullRefreshInterval} value
+	 *
+	 * @param qrcFullRefreshInterval new value of {@link #qrcFullRefreshInterval}
+	 */
+	public void setQrcFullRefreshInterval(String qrcFullRefreshInterval) {
+		this.qrcFullRefreshInterval = qrcFullRefreshInterval;
+	}
+
+	/**
+	 * Retrieves {@link #coreMetadataCacheTTL}
+	 *
+	 * @return value of {@link #coreMetadataCacheTTL}
+	 */
+	public String getCoreMetadataCacheTTL() {
+		return coreMetadataCacheTTL;
+	}
+
+	/**
+	 * Sets {@link #coreMetadataCacheTTL} value
+	 *
+	 * @param coreMetadataCacheTTL new value of {@link #coreMetadataCacheTTL}
+	 */
+	public void setCoreMetadataCacheTTL(String coreMetadataCacheTTL) {
+		this.coreMetadataCacheTTL = coreMetadataCacheTTL;
+	}
+
+	/**
+	 * Retrieves {@link #qrcDiscoveryInterval}
+	 *
+	 * @return value of {@link #qrcDiscoveryInterval}
+	 */
+	public String getQrcDiscoveryInterval() {
+		return qrcDiscoveryInterval;
+	}
+
+	/**
+	 * Sets {@link #qrcDiscoveryInterval} value
+	 *
+	 * @param qrcDiscoveryInterval new value of {@link #qrcDiscoveryInterval}
+	 */
+	public void setQrcDiscoveryInterval(String qrcDiscoveryInterval) {
+		this.qrcDiscoveryInterval = qrcDiscoveryInterval;
+	}
+
 	/**
 	 * Retrieves {@link #filterGainComponentByName}
 	 *
@@ -545,9 +823,6 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 */
 	@Override
 	public List<Statistics> getMultipleStatistics() throws Exception {
-		if (qrcExecutorService == null) {
-			qrcExecutorService = Executors.newFixedThreadPool(1);
-		}
 		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
 		// This is to make sure if populateMonitoringAndControllableProperties the statistics is being fetched before/after any set of control operations
 		reentrantLock.lock();
@@ -558,13 +833,10 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 				Map<String, String> dynamicStatistics = new HashMap<>();
 				List<AdvancedControllableProperty> controllableProperties = new ArrayList<>();
 
-				// The QSys Core socket closes automatically after 60 seconds (as specified in the API document),
-				// however if we let it close automatically that results in unexpected behavior for the adapter, so we close it intentionally.
-				resetSocketConnection();
-
-				if (qrcCommunicator == null) {
+				// The QRC session is kept open between cycles, QRCCommunicator sends NoOp while the session is idle
+				// so the core does not close it after 60 seconds
+				if (qrcConnectionPool == null) {
 					initQRCCommunicator();
-					isQrcCommunicatorFirstTimeInit = false;
 				}
 
 				//Create loginInfo
@@ -574,20 +846,13 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 
 				retrieveTokenFromCore();
 
-				//Because there are some threads that keep running when the next getMultiple is called,
-				// so we have to stop all those threads just before the next getMultiple runs
-				if (executorService != null) {
-					for (Future future : deviceExecutionPool) {
-						future.cancel(true);
-					}
-					deviceExecutionPool.clear();
-				}
-
 				filterGainComponentByNameSet = handleGainInputFromUser(filterGainComponentByName);
 				filterPluginByNameSet = handleSplitPluginConfig();
 				if (localPollingInterval == 0) {
 					filterDeviceByNameSet = convertUserInput(filterDeviceByName);
 					updateFilterDeviceTypeSet();
+					fullRefreshIntervals = calculatingFullRefreshIntervals();
+					coreMetadataCacheTTLs = calculatingIntervals("coreMetadataCacheTTL", coreMetadataCacheTTL, "Endpoint:seconds");
 				}
 				populateQSYSAggregatorMonitoringData(stats);
 
@@ -607,7 +872,12 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 				}
 
 				retrieveMetadata(stats, dynamicStatistics);
+				QRCConnectionPool connectionPool = qrcConnectionPool;
+				if (connectionPool != null) {
+					stats.putAll(connectionPool.getStatistics());
+				}
 				reconcileCacheWithDeviceMap(stats);
+				publishAggregatedDeviceSnapshot();
 
 				int currentSizeDeviceMap = deviceMap.isEmpty()
 						? mapOfIdAndAggregatedDeviceList.size()
@@ -617,14 +887,14 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 				extendedStatistics.setStatistics(stats);
 				extendedStatistics.setDynamicStatistics(dynamicStatistics);
 				extendedStatistics.setControllableProperties(controllableProperties);
-				localExtStats = extendedStatistics;
+				localExtStats.set(extendedStatistics);
 			}
 			isEmergencyDelivery = false;
 		} finally {
 			reentrantLock.unlock();
 		}
 
-		return Collections.singletonList(localExtStats);
+		return Collections.singletonList(localExtStats.get());
 	}
 
 	/**
@@ -635,28 +905,88 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 */
 	@Override
 	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		reentrantLock.lock();
+		controlPropertyList(Collections.singletonList(controllableProperty));
+	}
 
-		if (localExtStats == null) {
-			return;
+	/**
+	 * {@inheritDoc}
+	 * This method is recalled by Symphony to control a list of properties
+	 *
+	 * @param controllableProperties This is the list of properties to be controlled
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
+		if (CollectionUtils.isEmpty(controllableProperties)) {
+			throw new IllegalArgumentException("QSYSCoreCommunicator: Controllable properties cannot be null or empty");
 		}
+		controlPropertyList(controllableProperties);
+	}
 
-		try {
-			isEmergencyDelivery = true;
+	/**
+	 * Control a list of properties. Only the latest value of every property is sent, and the controls of the aggregated
+	 * devices and of the gain components are grouped by component, so every component receives one Component.Set with all its controls.
+	 * The controls are queued per named component on {@link #controlDispatcher}, so they keep their order within a component,
+	 * run concurrently across components and do not wait for the monitoring cycle holding {@link #reentrantLock}.
+	 *
+	 * @param controllableProperties list of properties to be controlled
+	 * @throws Exception if a control fails, thrown once all other properties were controlled
+	 */
+	private void controlPropertyList(List<ControllableProperty> controllableProperties) throws Exception {
+		if (localExtStats.get() == null) {
+			return;
+		}
+		isEmergencyDelivery = true;
 
-			resetSocketConnection();
+		if (qrcConnectionPool == null) {
+			reentrantLock.lock();
+			try {
+				if (qrcConnectionPool == null) {
+					initQRCCommunicator();
+				}
+			} finally {
+				reentrantLock.unlock();
+			}
+		}
+		ControlDispatcher dispatcher = controlDispatcher;
+		if (dispatcher == null) {
+			throw new IllegalStateException("Controls can not be dispatched, the adapter is not initialized");
+		}
+		ControlPlan controlPlan = planControls(controllableProperties);
+		Map<String, CompletableFuture<Void>> dispatchedControls = new LinkedHashMap<>();
+		controlPlan.getGainControls().forEach((gainComponent, controls) -> dispatchedControls.put(gainComponent, dispatcher.submit(gainComponent, () -> {
+			gainControl(gainComponent, controls);
+			controls.forEach(control -> updateGainControlByMetricName(control.metric.getMetric(), control.value, control.property));
+			return null;
+		})));
+		controlPlan.getDeviceControls().forEach((deviceId, controls) -> dispatchedControls.put(deviceId, dispatcher.submit(deviceId, () -> {
+			handleControlAggregated(deviceId, controls);
+			return null;
+		})));
+		awaitControls(dispatchedControls, controlPlan.getErrors());
+	}
 
-			//delete when done
-			if (qrcCommunicator == null) {
-				initQRCCommunicator();
+	/**
+	 * Keep the latest value of every property and group the controls by the aggregated device or gain component they are sent to
+	 *
+	 * @param controllableProperties list of properties to be controlled
+	 * @return controls grouped by component, and errors of the properties that can not be controlled
+	 */
+	ControlPlan planControls(List<ControllableProperty> controllableProperties) {
+		// A later value of the same property supersedes the earlier one and keeps its position, ex: the positions of a slider drag
+		Map<String, ControllableProperty> latestProperties = new LinkedHashMap<>();
+		for (ControllableProperty controllableProperty : controllableProperties) {
+			if (controllableProperty.getProperty() == null) {
+				throw new IllegalArgumentException("PropertyControl must not be null");
 			}
+			String key = controllableProperty.getDeviceId() + QSYSCoreConstant.HASH + controllableProperty.getProperty();
+			latestProperties.put(key, controllableProperty);
+		}
+
+		ControlPlan controlPlan = new ControlPlan();
+		for (ControllableProperty controllableProperty : latestProperties.values()) {
 			String propertyControl = controllableProperty.getProperty();
 			String value = String.valueOf(controllableProperty.getValue());
 			String deviceId = removeAggregatorPrefix(controllableProperty.getDeviceId());
-
-			if (propertyControl == null) {
-				throw new IllegalArgumentException("PropertyControl must not be null");
-			}
 			String[] splitProperty = propertyControl.split(QSYSCoreConstant.HASH);
 
 			// Ex: Gain:Named Component#Gain Value Control
@@ -668,59 +998,80 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 			}
 			QSYSPeripheralDevice aggregatedDevice = mapOfIdAndAggregatedDeviceList.get(deviceId);
 			if (aggregatedDevice != null) {
-				Map<String, String> properties = aggregatedDevice.getStats();
-				List<AdvancedControllableProperty> advancedControllableProperties = aggregatedDevice.getAdvancedControllableProperties();
 				String QSYSTypeCommand = aggregatedDevice.getType();
-
 				if (QSYSTypeCommand == null) {
-					logger.error(QSYSCoreConstant.MISSING_QSYS_TYPE_ERR + deviceId + QSYSCoreConstant.SEMICOLON + properties);
-					throw new IllegalArgumentException(QSYSCoreConstant.MISSING_QSYS_TYPE_ERR + deviceId);
+					logger.error(QSYSCoreConstant.MISSING_QSYS_TYPE_ERR + deviceId + QSYSCoreConstant.SEMICOLON + aggregatedDevice.getStats());
+					// The other properties are still controlled, the error is thrown once they completed
+					controlPlan.errors.add(new IllegalArgumentException(QSYSCoreConstant.MISSING_QSYS_TYPE_ERR + deviceId));
+					continue;
 				}
-				String metricProperty = getMetricProperty(propertyControl, QSYSTypeCommand, metricName);
-				String metric = getMetric(propertyControl, QSYSTypeCommand, metricName);
-
-				if (StringUtils.isNotNullOrEmpty(metricProperty)) {
-					if (splitProperty[0].contains(QSYSCoreConstant.CHANNEL)) {
-						String indexChannel = convertChannelNameToIndex(splitProperty[0]);
-						metricProperty = metricProperty.replace(QSYSCoreConstant.FORMAT_STRING, indexChannel);
-					}
-					handleControlAggregated(metricProperty, deviceId, value);
-					aggregatedDevice.controlDevice(aggregatedDevice, metric, value, propertyControl);
-					updateValueForTheControllableProperty(propertyControl, value, properties, advancedControllableProperties);
+				ControlRoutingTable.Route route = controlRoutingTable.resolve(QSYSTypeCommand, propertyControl, metricName);
+				if (route != null && StringUtils.isNotNullOrEmpty(route.getControlName())) {
+					controlPlan.deviceControls.computeIfAbsent(deviceId, id -> new ArrayList<>()).add(new PendingControl(aggregatedDevice, route, propertyControl, value));
+					continue;
 				}
 			}
 			List<String> splitComponent = Arrays.asList(splitProperty[0].split(QSYSCoreConstant.COLON, 2));
 			switch (splitComponent.get(0)) {
 				case QSYSCoreConstant.GAIN:
 					String gainComponent = splitComponent.size() > 1 ? splitComponent.get(1) : splitComponent.get(0);
-					gainControl(metricName, gainComponent, value);
-					updateGainControlByMetricName(metricName, value, propertyControl);
+					GainControllingMetric gainControllingMetric;
+					try {
+						gainControllingMetric = GainControllingMetric.getByMetric(metricName);
+					} catch (IllegalArgumentException e) {
+						logger.error("Error when control " + propertyControl, e);
+						controlPlan.errors.add(new ResourceNotReachableException("Error when control " + gainComponent + " component", e));
+						continue;
+					}
+					controlPlan.gainControls.computeIfAbsent(gainComponent, component -> new ArrayList<>())
+							.add(new PendingGainControl(gainControllingMetric, propertyControl, value));
 					break;
 				default:
 					logger.debug("Component Name doesn't support: " + metricName);
 			}
-			TimeUnit.MILLISECONDS.sleep(500);
-		} finally {
-			reentrantLock.unlock();
 		}
+		return controlPlan;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * This method is recalled by Symphony to control a list of properties
+	 * Wait for the dispatched controls, the first error is thrown once all controls completed and the other errors are added to it as suppressed
 	 *
-	 * @param controllableProperties This is the list of properties to be controlled
+	 * @param dispatchedControls dispatched controls by the name of the controlled component or property
+	 * @param controlErrors errors of the properties that were not dispatched
+	 * @throws Exception if a property was not dispatched, or a control fails or does not complete within {@link QSYSCoreConstant#CONTROL_TIMEOUT}
 	 */
-	@Override
-	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
-		if (CollectionUtils.isEmpty(controllableProperties)) {
-			throw new IllegalArgumentException("QSYSCoreCommunicator: Controllable properties cannot be null or empty");
+	private void awaitControls(Map<String, CompletableFuture<Void>> dispatchedControls, List<Exception> controlErrors) throws Exception {
+		Exception controlException = null;
+		for (Exception exception : controlErrors) {
+			if (controlException == null) {
+				controlException = exception;
+			} else {
+				controlException.addSuppressed(exception);
+			}
 		}
-
-		for (ControllableProperty controllableProperty : controllableProperties) {
-			controlProperty(controllableProperty);
+		long deadline = System.currentTimeMillis() + QSYSCoreConstant.CONTROL_TIMEOUT;
+		for (Map.Entry<String, CompletableFuture<Void>> entry : dispatchedControls.entrySet()) {
+			Exception exception = null;
+			try {
+				entry.getValue().get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+			} catch (ExecutionException e) {
+				exception = e.getCause() instanceof Exception ? (Exception) e.getCause() : new ResourceNotReachableException("Error when control " + entry.getKey(), e.getCause());
+			} catch (TimeoutException e) {
+				exception = new ResourceNotReachableException("Control of " + entry.getKey() + " timed out", e);
+			}
+			if (exception == null) {
+				continue;
+			}
+			logger.error(exception.getMessage(), exception.getCause());
+			if (controlException == null) {
+				controlException = exception;
+			} else {
+				controlException.addSuppressed(exception);
+			}
+		}
+		if (controlException != null) {
+			throw controlException;
 		}
-
 	}
 
 	/**
@@ -729,58 +1080,71 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 */
 	@Override
 	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+		AggregatedDeviceSnapshot snapshot = retrieveAggregatedDeviceSnapshot();
+		AggregatedDeviceSnapshot previousSnapshot = lastReturnedSnapshot;
+		lastReturnedSnapshot = snapshot;
+		if (!deltaStatistics) {
+			return snapshot.getAggregatedDevices();
+		}
+		long currentTimestamp = System.currentTimeMillis();
+		if (currentTimestamp >= nextFullSyncTimestamp) {
+			nextFullSyncTimestamp = currentTimestamp + calculatingDeltaFullSyncInterval() * 1000L;
+			return snapshot.getAggregatedDevices();
+		}
+		List<AggregatedDevice> changedDevices = snapshot.getChangedAggregatedDevices(previousSnapshot);
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Returning %s of %s aggregated devices changed since the previous call", changedDevices.size(), snapshot.getAggregatedDevices().size()));
+		}
+		return changedDevices;
+	}
+
+	/**
+	 * Queue the devices for the collection and retrieve the published snapshot of the aggregated devices
+	 *
+	 * @return snapshot of the aggregated devices
+	 */
+	private AggregatedDeviceSnapshot retrieveAggregatedDeviceSnapshot() {
 		if (mapOfIdAndAggregatedDeviceList.isEmpty()) {
-			return Collections.emptyList();
+			return AggregatedDeviceSnapshot.EMPTY;
 		}
 		refreshTimestamps();
 
 //		if (!deviceMap.isEmpty()) {
 //			retrieveAggregatedDeviceByIdList(new ArrayList<>(deviceMap.keySet()));
 //		}
-		Map<String, QSYSPeripheralDevice> snapshot = snapshotDevices();
-		resultAggregatedDeviceList.clear();
-		for (Map.Entry<String, QSYSPeripheralDevice> entry : snapshot.entrySet()) {
-			AggregatedDevice aggregatedDevice = buildAggregatedDevice(entry.getKey(), entry.getValue());
-			if (aggregatedDevice != null) {
-				if (!configManagement) {
-					if (logger.isDebugEnabled()) {
-						logger.debug(String.format("configManagement is set to false, removing device %s controllable properties.", aggregatedDevice.getDeviceId()));
-					}
-					// Since SY core caches controllable properties, we need to create a dummy object to replace existing controls with
-					List<AdvancedControllableProperty> controls = aggregatedDevice.getControllableProperties();
-					controls.clear();
-					controls.add(ControllablePropertyFactory.createText(QSYSCoreConstant.EMPTY,QSYSCoreConstant.EMPTY));
-				}
-				resultAggregatedDeviceList.add(aggregatedDevice);
-			}
+		AggregatedDeviceSnapshot snapshot = aggregatedDeviceSnapshot.get();
+		if (!calculatingBuildSignature().equals(snapshot.getBuildSignature()) || snapshot.size() != mapOfIdAndAggregatedDeviceList.size()) {
+			// Adapter properties changed since the snapshot was published, or devices were added or removed
+			snapshot = publishAggregatedDeviceSnapshot();
 		}
 
 		if (localPollingInterval == 0) {
 			localPollingInterval = QSYSCoreConstant.MIN_POLLING_INTERVAL;
 			localPollingInterval = calculatingLocalPollingInterval();
-			deviceStatisticsCollectionThreads = calculatingThreadQuantity();
+			deviceStatisticsCollectionThreads = adaptivePollingController.getThreadQuantity();
+			if (qrcConnectionPool != null) {
+				// Device collection threads are the only concurrent QRC clients, more sessions than threads would stay idle
+				qrcConnectionPool.setMaxSize(Math.min(calculatingQrcConnectionPoolSize(), deviceStatisticsCollectionThreads));
+			}
 
+			// A new pass over all devices starts. Devices a slowed down pass did not reach stay at the front of the queue,
+			// the devices with errors and the other devices follow them
+			Set<String> queuedDeviceIds = new LinkedHashSet<>(deviceIdDequeue);
+			queuedDeviceIds.retainAll(deviceMap.keySet());
 			for (String deviceId : errorDeviceMap.keySet()) {
 				if (deviceMap.containsKey(deviceId)) {
-					deviceIdDequeue.addLast(deviceId);
-				}
-			}
-
-			for (String deviceId : deviceMap.keySet()) {
-				if (!errorDeviceMap.containsKey(deviceId)) {
-					deviceIdDequeue.addLast(deviceId);
+					queuedDeviceIds.add(deviceId);
 				}
 			}
+			queuedDeviceIds.addAll(deviceMap.keySet());
+			deviceIdDequeue.clear();
+			deviceIdDequeue.addAll(queuedDeviceIds);
 		} else {
-			int batchSize = QSYSCoreConstant.MAX_DEVICE_QUANTITY_PER_THREAD;
+			int batchSize = adaptivePollingController.getThreadQuantity() * adaptivePollingController.getDevicesPerThread();
 			refillQueueRoundRobin(batchSize);
 		}
-		int currentSizeDeviceMap = deviceMap.isEmpty()
-				? mapOfIdAndAggregatedDeviceList.size()
-				: deviceMap.size();
-
-		populateAggregatedMonitoringData(currentSizeDeviceMap);
-		return resultAggregatedDeviceList;
+		populateAggregatedMonitoringData();
+		return snapshot;
 	}
 
 	/**
@@ -788,11 +1152,54 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 */
 	@Override
 	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> listDeviceId) throws Exception {
-		return retrieveMultipleStatistics().stream().filter(aggregatedDevice -> listDeviceId.contains(withAggregatorPrefix(aggregatedDevice.getDeviceId()))).collect(Collectors.toList());
+		// Only the published snapshot is read, the collection is driven by retrieveMultipleStatistics()
+		AggregatedDeviceSnapshot snapshot = aggregatedDeviceSnapshot.get();
+		List<String> deviceIds = new ArrayList<>(listDeviceId.size());
+		List<AggregatedDevice> aggregatedDevices = new ArrayList<>(listDeviceId.size());
+		for (String requestedDeviceId : listDeviceId) {
+			String deviceId = removeAggregatorPrefix(requestedDeviceId);
+			AggregatedDeviceSnapshot.Entry entry = snapshot.getEntry(deviceId);
+			if (entry == null) {
+				continue;
+			}
+			deviceIds.add(deviceId);
+			if (entry.getAggregatedDevice() != null) {
+				aggregatedDevices.add(entry.getAggregatedDevice());
+			}
+		}
+		if (refreshRequestedDevices && !deviceIds.isEmpty()) {
+			scheduleRequestedDeviceRefresh(deviceIds);
+		}
+		return aggregatedDevices;
+	}
+
+	/**
+	 * Refresh the requested devices in the background on {@link #deviceCollectionScheduler}, the refreshed devices are
+	 * returned by the next call once the snapshot is published. Devices already waiting for a refresh are not queued twice.
+	 *
+	 * @param deviceIds ids of requested devices
+	 */
+	private void scheduleRequestedDeviceRefresh(List<String> deviceIds) {
+		DeviceCollectionScheduler scheduler = deviceCollectionScheduler;
+		if (devicePaused || qrcConnectionPool == null || scheduler == null || !requestedDeviceIds.addAll(deviceIds)) {
+			return;
+		}
+		scheduler.execute(() -> {
+			List<String> refreshedDeviceIds = new ArrayList<>(requestedDeviceIds);
+			requestedDeviceIds.removeAll(refreshedDeviceIds);
+			if (refreshedDeviceIds.isEmpty() || qrcConnectionPool == null) {
+				return;
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Refreshing requested aggregated devices: " + String.join(",", refreshedDeviceIds));
+			}
+			retrieveAggregatedDeviceByIdList(refreshedDeviceIds);
+			publishAggregatedDeviceSnapshot();
+		});
 	}
 
 	/**
-	 * Init instance of QRCCommunicator
+	 * Init pool of QRC connections
 	 *
 	 * @throws Exception if init fail
 	 */
@@ -806,20 +1213,168 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 		} catch (Exception e) {
 			throw new ResourceNotReachableException("QRC Port must be a valid port number", e);
 		}
-		qrcCommunicator = new QRCCommunicator();
-		qrcCommunicator.setHost(this.host);
-		qrcCommunicator.setPort(port);
-		qrcCommunicator.init();
+		int poolSize = calculatingQrcConnectionPoolSize();
+		if (deviceStatisticsCollectionThreads > 0) {
+			poolSize = Math.min(poolSize, deviceStatisticsCollectionThreads);
+		}
+		qrcConnectionPool = new QRCConnectionPool(this.host, port, poolSize);
+		qrcConnectionPool.init();
+		QRCMonitoringMode monitoringMode = QRCMonitoringMode.getByName(qrcMonitoringMode);
+		if (monitoringMode == QRCMonitoringMode.CHANGE_GROUP || monitoringMode == QRCMonitoringMode.AUTO_POLL) {
+			QRCChangeGroupMonitor changeGroupMonitor = new QRCChangeGroupMonitor(qrcConnectionPool, objectMapper);
+			if (monitoringMode == QRCMonitoringMode.AUTO_POLL) {
+				changeGroupMonitor.enableAutoPoll(calculatingAutoPollRate(), deviceIds -> applyPushedControls(changeGroupMonitor, deviceIds));
+			}
+			qrcChangeGroupMonitor = changeGroupMonitor;
+		}
+	}
+
+	/**
+	 * calculating rate of AutoPoll in seconds from {@link #qrcAutoPollRate}
+	 *
+	 * @return AutoPoll rate in seconds
+	 */
+	private double calculatingAutoPollRate() {
+		double rate = QSYSCoreConstant.DEFAULT_AUTO_POLL_RATE;
+		if (StringUtils.isNotNullOrEmpty(qrcAutoPollRate)) {
+			try {
+				rate = Double.parseDouble(qrcAutoPollRate.trim());
+			} catch (NumberFormatException e) {
+				logger.error(String.format("Invalid qrcAutoPollRate value: %s, using default value: %s", qrcAutoPollRate, rate));
+			}
+		}
+		return Math.max(rate, QSYSCoreConstant.MIN_AUTO_POLL_RATE);
+	}
+
+	/**
+	 * calculating number of Component.GetControls requests sent in one JSON RPC batch from {@link #qrcBatchSize}
+	 *
+	 * @return batch size, 1 if batches are disabled
+	 */
+	private int calculatingQrcBatchSize() {
+		int batchSize = QSYSCoreConstant.DEFAULT_QRC_BATCH_SIZE;
+		if (StringUtils.isNotNullOrEmpty(qrcBatchSize)) {
+			try {
+				batchSize = Integer.parseInt(qrcBatchSize.trim());
+			} catch (NumberFormatException e) {
+				logger.error(String.format("Invalid qrcBatchSize value: %s, using default value: %s", qrcBatchSize, batchSize));
+			}
+		}
+		return Math.max(1, Math.min(batchSize, QSYSCoreConstant.MAX_DEVICE_QUANTITY_PER_THREAD));
+	}
+
+	/**
+	 * calculating interval of the status polling in seconds from {@link #qrcStatusPollingInterval}
+	 *
+	 * @return status polling interval in seconds, 0 if the status polling is disabled
+	 */
+	private int calculatingQrcStatusPollingInterval() {
+		int interval = QSYSCoreConstant.DEFAULT_QRC_STATUS_POLLING_INTERVAL;
+		if (StringUtils.isNotNullOrEmpty(qrcStatusPollingInterval)) {
+			try {
+				interval = Integer.parseInt(qrcStatusPollingInterval.trim());
+			} catch (NumberFormatException e) {
+				logger.error(String.format("Invalid qrcStatusPollingInterval value: %s, using default value: %s", qrcStatusPollingInterval, interval));
+			}
+		}
+		if (interval <= 0) {
+			return 0;
+		}
+		return Math.max(interval, QSYSCoreConstant.MIN_QRC_STATUS_POLLING_INTERVAL);
+	}
+
+	/**
+	 * calculating interval of the full sync in seconds from {@link #deltaFullSyncInterval}
+	 *
+	 * @return full sync interval in seconds
+	 */
+	private int calculatingDeltaFullSyncInterval() {
+		int interval = QSYSCoreConstant.DEFAULT_DELTA_FULL_SYNC_INTERVAL;
+		if (StringUtils.isNotNullOrEmpty(deltaFullSyncInterval)) {
+			try {
+				interval = Integer.parseInt(deltaFullSyncInterval.trim());
+			} catch (NumberFormatException e) {
+				logger.error(String.format("Invalid deltaFullSyncInterval value: %s, using default value: %s", deltaFullSyncInterval, interval));
+			}
+		}
+		return Math.max(interval, QSYSCoreConstant.MIN_DELTA_FULL_SYNC_INTERVAL);
+	}
+
+	/**
+	 * calculating interval of the discovery in seconds from {@link #qrcDiscoveryInterval}
+	 *
+	 * @return discovery interval in seconds
+	 */
+	private int calculatingQrcDiscoveryInterval() {
+		int interval = QSYSCoreConstant.DEFAULT_QRC_DISCOVERY_INTERVAL;
+		if (StringUtils.isNotNullOrEmpty(qrcDiscoveryInterval)) {
+			try {
+				interval = Integer.parseInt(qrcDiscoveryInterval.trim());
+			} catch (NumberFormatException e) {
+				logger.error(String.format("Invalid qrcDiscoveryInterval value: %s, using default value: %s", qrcDiscoveryInterval, interval));
+			}
+		}
+		return Math.max(interval, QSYSCoreConstant.MIN_QRC_DISCOVERY_INTERVAL);
+	}
+
+	/**
+	 * calculating full refresh intervals in milliseconds by QSYSType from {@link #qrcFullRefreshInterval}
+	 *
+	 * @return full refresh intervals by QSYSType, empty if every device is fully refreshed every cycle
+	 */
+	private Map<String, Long> calculatingFullRefreshIntervals() {
+		return calculatingIntervals("qrcFullRefreshInterval", qrcFullRefreshInterval, "QSYSType:seconds");
+	}
+
+	/**
+	 * calculating intervals in milliseconds from comma separated {@code key:seconds} values
+	 *
+	 * @param propertyName name of the adapter property, used in the error log
+	 * @param value value of the adapter property
+	 * @param expectedFormat format of an item, used in the error log
+	 * @return intervals by key, items with an interval of 0 or less are not included
+	 */
+	private Map<String, Long> calculatingIntervals(String propertyName, String value, String expectedFormat) {
+		if (StringUtils.isNullOrEmpty(value)) {
+			return Collections.emptyMap();
+		}
+		Map<String, Long> intervals = new HashMap<>();
+		for (String item : value.split(QSYSCoreConstant.COMMA)) {
+			int separator = item.lastIndexOf(QSYSCoreConstant.COLON);
+			if (separator <= 0) {
+				if (StringUtils.isNotNullOrEmpty(item.trim())) {
+					logger.error(String.format("Invalid %s value: %s, expected %s", propertyName, item, expectedFormat));
+				}
+				continue;
+			}
+			String key = item.substring(0, separator).trim();
+			try {
+				long interval = Long.parseLong(item.substring(separator + 1).trim());
+				if (interval > 0) {
+					intervals.put(key, interval * 1000L);
+				}
+			} catch (NumberFormatException e) {
+				logger.error(String.format("Invalid %s value: %s, expected %s", propertyName, item, expectedFormat));
+			}
+		}
+		return intervals;
 	}
 
 	/**
-	 * Reset socket connection for each polling interval
+	 * calculating maximum number of QRC connections from {@link #qrcConnectionPoolSize}
+	 *
+	 * @return Number of QRC connections
 	 */
-	public void resetSocketConnection() {
-		if (!isQrcCommunicatorFirstTimeInit && qrcCommunicator != null) {
-			qrcCommunicator.destroyChannel();
-			qrcCommunicator = null;
+	private int calculatingQrcConnectionPoolSize() {
+		int poolSize = QSYSCoreConstant.DEFAULT_QRC_CONNECTION_POOL_SIZE;
+		if (StringUtils.isNotNullOrEmpty(qrcConnectionPoolSize)) {
+			try {
+				poolSize = Integer.parseInt(qrcConnectionPoolSize.trim());
+			} catch (NumberFormatException e) {
+				logger.error(String.format("Invalid qrcConnectionPoolSize value: %s, using default value: %s", qrcConnectionPoolSize, poolSize));
+			}
 		}
+		return Math.max(QSYSCoreConstant.MIN_THREAD_QUANTITY, Math.min(poolSize, QSYSCoreConstant.MAX_THREAD_QUANTITY));
 	}
 
 	/**
@@ -855,37 +1410,63 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 
 		mapOfIdAndAggregatedDeviceList.clear();
 		deviceIdDequeue = new ArrayDeque<>();
-		nextDevicesCollectionIterationTimestamp = 0;
-		resultAggregatedDeviceList.clear();
-		deviceMap.clear();
+		nextFullRefreshTimestamps.clear();
+		nextStatusPollingTimestamps.clear();
+		requestedDeviceIds.clear();
+		runningDesign = null;
+		discoveredDesign = null;
+		gainComponentIds = Collections.emptyList();
+		restMetadataCache.invalidate();
+		coreState = null;
+		coreRedundant = null;
+		aggregatedDeviceSnapshot.set(AggregatedDeviceSnapshot.EMPTY);
+		lastReturnedSnapshot = AggregatedDeviceSnapshot.EMPTY;
+		nextFullSyncTimestamp = 0;
+		deviceInventory.clear();
+		deviceMap = new TreeMap<>();
 		loginInfo = null;
 		localPollingInterval = 0;
-		if (localExtStats != null) {
-			if (localExtStats.getStatistics() != null) {
-				localExtStats.getStatistics().clear();
+		ExtendedStatistics extendedStatistics = localExtStats.get();
+		if (extendedStatistics != null) {
+			if (extendedStatistics.getStatistics() != null) {
+				extendedStatistics.getStatistics().clear();
 			}
-			if (localExtStats.getDynamicStatistics() != null) {
-				localExtStats.getDynamicStatistics().clear();
+			if (extendedStatistics.getDynamicStatistics() != null) {
+				extendedStatistics.getDynamicStatistics().clear();
 			}
-			if (localExtStats.getControllableProperties() != null) {
-				localExtStats.getControllableProperties().clear();
+			if (extendedStatistics.getControllableProperties() != null) {
+				extendedStatistics.getControllableProperties().clear();
 			}
 		}
-		if (executorService != null) {
-			executorService.shutdownNow();
-			executorService = null;
+		if (deviceCollectionScheduler != null) {
+			deviceCollectionScheduler.shutdown();
+			deviceCollectionScheduler = null;
 		}
 		if (qrcExecutorService != null) {
 			qrcExecutorService.shutdownNow();
 			qrcExecutorService = null;
 		}
-		if (qrcCommunicator != null) {
-			qrcCommunicator.destroyChannel();
-			qrcCommunicator = null;
+		if (statisticsStageExecutorService != null) {
+			statisticsStageExecutorService.shutdownNow();
+			statisticsStageExecutorService = null;
+		}
+		if (controlConfirmationExecutorService != null) {
+			controlConfirmationExecutorService.shutdownNow();
+			controlConfirmationExecutorService = null;
+		}
+		if (controlDispatcher != null) {
+			controlDispatcher.shutdown();
+			controlDispatcher = null;
+		}
+		lastStageStatistics.clear();
+		if (qrcChangeGroupMonitor != null) {
+			qrcChangeGroupMonitor.destroy();
+			qrcChangeGroupMonitor = null;
+		}
+		if (qrcConnectionPool != null) {
+			qrcConnectionPool.destroy();
+			qrcConnectionPool = null;
 		}
-		isQrcCommunicatorFirstTimeInit = true;
-		devicesExecutionPool.forEach(future -> future.cancel(true));
-		devicesExecutionPool.clear();
 		filterPluginByNameSet.clear();
 		super.internalDestroy();
 	}
@@ -898,6 +1479,11 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 		loginInfo = null;
 		localPollingInterval = 0;
 		adapterInitializationTimestamp = System.currentTimeMillis();
+		// Threads are created when the adapter is initialized and stopped by internalDestroy, so a constructed adapter holds none
+		qrcExecutorService = Executors.newSingleThreadExecutor(new NamedThreadFactory("QSYS QRC components"));
+		statisticsStageExecutorService = Executors.newFixedThreadPool(QSYSCoreConstant.STATISTICS_STAGE_QUANTITY, new NamedThreadFactory("QSYS statistics stage"));
+		controlConfirmationExecutorService = Executors.newSingleThreadExecutor(new NamedThreadFactory("QSYS control confirmation"));
+		controlDispatcher = new ControlDispatcher(QSYSCoreConstant.CONTROL_DISPATCHER_THREADS);
 		if (logger.isDebugEnabled()) {
 			logger.debug("Internal init is called.");
 		}
@@ -946,10 +1532,102 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 * @throws ResourceNotReachableException when failedMonitor said all device monitoring data are failed to get
 	 */
 	private void populateQSYSAggregatorMonitoringData(Map<String, String> stats) throws Exception {
-		retrieveQSYSAggregatorInfo(stats);
-		retrieveQSYSAggregatorNetworkInfo(stats);
-		retrieveQSYSAggregatorRedundancy(stats);
-		retrieveQSYSAggregatorDesign(stats);
+		long restStageTimeout = getTimeout() + QSYSCoreConstant.STATISTICS_STAGE_TIMEOUT_MARGIN;
+		Map<String, StatisticsStage> restStages = new LinkedHashMap<>();
+		restStages.put(QSYSCoreConstant.CORE_INFO_ENDPOINT, new StatisticsStage(restStageTimeout, this::retrieveQSYSAggregatorInfo));
+		restStages.put(QSYSCoreConstant.NETWORK_ENDPOINT, new StatisticsStage(restStageTimeout, this::retrieveQSYSAggregatorNetworkInfo));
+		restStages.put(QSYSCoreConstant.REDUNDANCY_ENDPOINT, new StatisticsStage(restStageTimeout, this::retrieveQSYSAggregatorRedundancy));
+		Map<String, StatisticsStage> stages = new LinkedHashMap<>(restStages);
+		stages.put(QSYSCoreConstant.DESIGN_STAGE, new StatisticsStage(QSYSCoreConstant.QRC_STATUS_STAGE_TIMEOUT, this::retrieveQSYSAggregatorDesign));
+		runStatisticsStages(stages, stats);
+
+		// StatusGet is cheap and runs every cycle, a change of the state or the design drops the cached REST responses
+		String currentCoreState = stats.get(QSYSCoreDesignMetric.STATE.getName()) + QSYSCoreConstant.SEMICOLON
+				+ stats.get(QSYSCoreDesignMetric.IS_REDUNDANCY.getName()) + QSYSCoreConstant.SEMICOLON + runningDesign;
+		String previousCoreState = coreState;
+		coreState = currentCoreState;
+		if (previousCoreState != null && !previousCoreState.equals(currentCoreState)) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Core state changed from %s to %s, core information is requested again", previousCoreState, currentCoreState));
+			}
+			restMetadataCache.invalidate();
+			runStatisticsStages(restStages, stats);
+		}
+	}
+
+	/**
+	 * Run the aggregator statistics stages in parallel and merge their statistics in the order of the stages.
+	 * A stage that fails or does not complete within its timeout contributes the statistics of the last time it
+	 * succeeded, the error is thrown if the stage never succeeded or if every stage failed.
+	 *
+	 * @param stages stages by name
+	 * @param stats Map store all information
+	 * @throws FailedLoginException if the core rejects the credentials
+	 * @throws Exception if a stage fails without statistics of a previous success, or every stage fails
+	 */
+	private void runStatisticsStages(Map<String, StatisticsStage> stages, Map<String, String> stats) throws Exception {
+		long startTimestamp = System.currentTimeMillis();
+		Map<String, Future<Map<String, String>>> futures = new LinkedHashMap<>();
+		stages.forEach((stageName, stage) -> futures.put(stageName, statisticsStageExecutorService.submit(() -> {
+			Map<String, String> stageStatistics = new HashMap<>();
+			stage.retriever.retrieve(stageStatistics);
+			return stageStatistics;
+		})));
+		Exception failure = null;
+		int failedStages = 0;
+		try {
+			for (Map.Entry<String, Future<Map<String, String>>> entry : futures.entrySet()) {
+				String stageName = entry.getKey();
+				long remainingTime = startTimestamp + stages.get(stageName).timeout - System.currentTimeMillis();
+				try {
+					Map<String, String> stageStatistics = entry.getValue().get(Math.max(remainingTime, 0), TimeUnit.MILLISECONDS);
+					lastStageStatistics.put(stageName, stageStatistics);
+					stats.putAll(stageStatistics);
+					continue;
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof FailedLoginException) {
+						throw (FailedLoginException) e.getCause();
+					}
+					failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+				} catch (TimeoutException e) {
+					entry.getValue().cancel(true);
+					failure = new ResourceNotReachableException(String.format("Retrieving %s did not complete within %s ms", stageName, stages.get(stageName).timeout), e);
+				}
+				failedStages++;
+				Map<String, String> lastStatistics = lastStageStatistics.get(stageName);
+				if (lastStatistics == null) {
+					throw failure;
+				}
+				logger.warn(String.format("Unable to retrieve %s, using the last known values", stageName), failure);
+				stats.putAll(lastStatistics);
+			}
+		} finally {
+			for (Future<Map<String, String>> future : futures.values()) {
+				future.cancel(true);
+			}
+		}
+		if (failedStages == stages.size()) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Send a GET request to a core REST endpoint, the response is reused for the time to live of the endpoint
+	 * in {@link #coreMetadataCacheTTLs}
+	 *
+	 * @param endpoint name of the endpoint in {@link #coreMetadataCacheTTL}
+	 * @param path path of the endpoint
+	 * @return response of the endpoint
+	 * @throws Exception if the request fail
+	 */
+	private String doCachedGet(String endpoint, String path) throws Exception {
+		return restMetadataCache.get(buildDeviceFullPath(path), coreMetadataCacheTTLs.getOrDefault(endpoint, 0L), (url, eTag) -> {
+			HttpHeaders headers = new HttpHeaders();
+			if (eTag != null) {
+				headers.setIfNoneMatch(eTag);
+			}
+			return doRequest(url, HttpMethod.GET, headers, null, String.class);
+		});
 	}
 
 	/**
@@ -959,7 +1637,7 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 */
 	private void retrieveQSYSAggregatorInfo(Map<String, String> stats) throws Exception {
 		try {
-			DeviceInfo deviceInfo = objectMapper.readValue(doGet(buildDeviceFullPath(QSYSCoreURL.BASE_URI + QSYSCoreURL.DEVICE_INFO)), DeviceInfo.class);
+			DeviceInfo deviceInfo = objectMapper.readValue(doCachedGet(QSYSCoreConstant.CORE_INFO_ENDPOINT, QSYSCoreURL.BASE_URI + QSYSCoreURL.DEVICE_INFO), DeviceInfo.class);
 			if (deviceInfo != null && deviceInfo.getDeviceInfoData() != null) {
 				for (QSYSCoreSystemMetric propertiesName : QSYSCoreSystemMetric.values()) {
 					if (QSYSCoreSystemMetric.UPTIME.getName().equals(propertiesName.getName())) {
@@ -988,21 +1666,21 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	/**
 	 * Retrieves the redundancy group information
 	 * The method fetches data from a remote service, and populates the `stats` map with redundancy metrics.
+	 * The request is skipped when the last StatusGet reported that the core is not redundant.
 	 *
 	 * @param stats Map store all the relevant redundancy information
 	 */
 	private void retrieveQSYSAggregatorRedundancy(Map<String, String> stats) {
+		if (Boolean.FALSE.equals(coreRedundant)) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Core is not redundant, redundancy information is not requested");
+			}
+			return;
+		}
 		try{
-			String response = doGet(buildDeviceFullPath(QSYSCoreURL.BASE_URI + QSYSCoreURL.LIST_ITEM_ACTIVE));
-			JsonNode root = objectMapper.readTree(response);
-			JsonNode dataNode = root.get("data");
-			List<RedundancyWrapper> redundancyList = objectMapper.readValue(
-					dataNode.toString(),
-					new TypeReference<List<RedundancyWrapper>>() {}
-			);
-			Optional<RedundancyWrapper> optional = redundancyList.stream().findFirst();
-			if (optional.isPresent()) {
-				RedundancyWrapper processorRedundancy = optional.get();
+			String response = doCachedGet(QSYSCoreConstant.REDUNDANCY_ENDPOINT, QSYSCoreURL.BASE_URI + QSYSCoreURL.LIST_ITEM_ACTIVE);
+			RedundancyWrapper processorRedundancy = findProcessorRedundancy(response);
+			if (processorRedundancy != null) {
 				for (QSYSCoreRedundancyMetric metric : QSYSCoreRedundancyMetric.values()) {
 					stats.put(
 							QSYSCoreConstant.REDUNDANCY + QSYSCoreConstant.HASH + metric.getName(),
@@ -1016,6 +1694,37 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 		}
 	}
 
+	/**
+	 * Find the first item with redundancy information in the system items response. The data array is read
+	 * item by item and the rest of the response is not parsed once the item is found.
+	 *
+	 * @param response system items response
+	 * @return item with redundancy information, null if there is none
+	 * @throws IOException if the response is not valid JSON
+	 */
+	private RedundancyWrapper findProcessorRedundancy(String response) throws IOException {
+		try (JsonParser parser = objectMapper.getFactory().createParser(response)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return null;
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+				if (QSYSCoreConstant.DATA.equals(fieldName) && token == JsonToken.START_ARRAY) {
+					while (parser.nextToken() == JsonToken.START_OBJECT) {
+						RedundancyWrapper item = objectMapper.readValue(parser, RedundancyWrapper.class);
+						if (item != null && item.getRedundancyInfos() != null) {
+							return item;
+						}
+					}
+					return null;
+				}
+				parser.skipChildren();
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Get network information of aggregator device
 	 *
@@ -1023,7 +1732,7 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 */
 	private void retrieveQSYSAggregatorNetworkInfo(Map<String, String> stats) {
 		try {
-			DeviceLANInfo deviceLANInfo = objectMapper.readValue(doGet(buildDeviceFullPath(QSYSCoreURL.BASE_URI + QSYSCoreURL.DEVICE_LAN_INFO)), DeviceLANInfo.class);
+			DeviceLANInfo deviceLANInfo = objectMapper.readValue(doCachedGet(QSYSCoreConstant.NETWORK_ENDPOINT, QSYSCoreURL.BASE_URI + QSYSCoreURL.DEVICE_LAN_INFO), DeviceLANInfo.class);
 			if (deviceLANInfo != null && deviceLANInfo.getNetworkInfo() != null) {
 				for (QSYSCoreNetworkMetric networkMetric : QSYSCoreNetworkMetric.values()) {
 					if (QSYSCoreNetworkMetric.HOSTNAME.getName().equals(networkMetric.getName())) {
@@ -1048,26 +1757,20 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 */
 	private void retrieveQSYSAggregatorDesign(Map<String, String> stats) {
 		try {
-			RpcMethod method = RpcMethod.STATUS_GET;
-			String request = String.format(RpcMethod.getRequest(), method.getName(), RpcMethod.getParamsString(method));
-			List<String> response = Arrays.asList(qrcCommunicator.send(request));
-
-			Optional<String> validResponse = response.stream()
-					.filter(res -> res.contains(QSYSCoreConstant.CMD_RESULT) && !res.contains(QSYSCoreConstant.CMD_METHOD))
-					.findFirst();
-
-			if (validResponse.isPresent()) {
-				DesignInfo designInfo = objectMapper.readValue(validResponse.get(), DesignInfo.class);
-				if (designInfo != null && designInfo.getResult() != null) {
-					for (QSYSCoreDesignMetric qsysCoreDesignMetric : QSYSCoreDesignMetric.values()) {
-						stats.put(qsysCoreDesignMetric.getName(), designInfo.getValueByMetricName(qsysCoreDesignMetric));
-					}
+			String response = qrcConnectionPool.send(RpcMethod.STATUS_GET);
+			DesignInfo designInfo = objectMapper.readValue(response, DesignInfo.class);
+			if (designInfo != null && designInfo.getResult() != null) {
+				for (QSYSCoreDesignMetric qsysCoreDesignMetric : QSYSCoreDesignMetric.values()) {
+					stats.put(qsysCoreDesignMetric.getName(), designInfo.getValueByMetricName(qsysCoreDesignMetric));
 				}
+				String designCode = designInfo.getValueByMetricName(QSYSCoreDesignMetric.DESIGN_CODE);
+				runningDesign = StringUtils.isNotNullOrEmpty(designCode)
+						? designCode + QSYSCoreConstant.SEMICOLON + designInfo.getValueByMetricName(QSYSCoreDesignMetric.DESIGN_NAME) : null;
+				coreRedundant = designInfo.getResult().getIsRedundant() == null ? null : Boolean.valueOf(designInfo.getResult().getIsRedundant());
 			} else {
-				response.stream()
-						.filter(res -> res.contains(QSYSCoreConstant.CMD_ERROR))
-						.findFirst()
-						.ifPresent(err -> logger.warn("STATUS_GET request resulted in an error for aggregator " + aggregatorDeviceName + ": " + err));
+				runningDesign = null;
+				coreRedundant = null;
+				logger.warn("STATUS_GET request resulted in an error for aggregator " + aggregatorDeviceName + ": " + response);
 			}
 		} catch (Exception e) {
 			throw new RuntimeException("Unable to retrieve core design metrics.", e);
@@ -1101,50 +1804,77 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 * @param controllableProperties controllable list of aggregator
 	 */
 	private void populateQSYSComponent(Map<String, String> stats, List<AdvancedControllableProperty> controllableProperties) {
+		String design = runningDesign == null ? null : String.join(QSYSCoreConstant.SEMICOLON, runningDesign,
+				String.valueOf(filterDeviceByName), String.valueOf(filterDeviceByQSYSType), String.valueOf(filterPluginByName));
+		if (design != null && design.equals(discoveredDesign) && System.currentTimeMillis() < nextDiscoveryTimestamp) {
+			// The components of the design did not change, only the gain components are read again
+			if (logger.isDebugEnabled()) {
+				logger.debug("Running design did not change, Component.GetComponents is skipped: " + runningDesign);
+			}
+			for (String gainComponentId : gainComponentIds) {
+				retrieveGainComponent(stats, controllableProperties, gainComponentId);
+			}
+			return;
+		}
+		discoveredDesign = null;
 		try {
-			RpcMethod method = RpcMethod.GET_COMPONENTS;
-			String request = String.format(RpcMethod.getRequest(), method.getName(), RpcMethod.getParamsString(method));
-			List<String> response = Arrays.asList(qrcCommunicator.send(request));
-
-			Optional<String> validResponse = response.stream()
-					.filter(res -> res.contains(QSYSCoreConstant.CMD_RESULT) && !res.contains(QSYSCoreConstant.CMD_METHOD))
-					.findFirst();
-
-			if (validResponse.isPresent() ) {
-				ComponentWrapper componentWrapper = objectMapper.readValue(response.get(0), ComponentWrapper.class);
-				if (componentWrapper.getResult() != null) {
-
-					//Because some device could be removed, so we need save all existed device
-					Set<String> existDeviceSet = new HashSet<>();
-					deviceMap.clear();
-					for (ComponentInfo componentInfo : componentWrapper.getResult()) {
-						if (QSYSCoreConstant.GAIN_TYPE.equals(componentInfo.getType())) {
-							retrieveGainComponent(stats, controllableProperties, componentInfo.getId());
-							continue;
-						}
-						if (componentInfo.getType() != null && QSYSCoreConstant.SUPPORTED_DEVICE_TYPE.contains(componentInfo.getType()) || componentInfo.getType()
-								.contains(QSYSCoreConstant.PLUGIN)) {
-							retrieveDevice(existDeviceSet, componentInfo);
-						} else {
-							existDeviceSet.add(componentInfo.getId());
-						}
+			String response = qrcConnectionPool.send(RpcMethod.GET_COMPONENTS);
+			ComponentWrapper componentWrapper = objectMapper.readValue(response, ComponentWrapper.class);
+			if (componentWrapper.getResult() != null) {
+
+				List<String> gainComponents = new ArrayList<>();
+				deviceInventory.beginDiscovery();
+				for (ComponentInfo componentInfo : componentWrapper.getResult()) {
+					if (QSYSCoreConstant.GAIN_TYPE.equals(componentInfo.getType())) {
+						gainComponents.add(componentInfo.getId());
+						retrieveGainComponent(stats, controllableProperties, componentInfo.getId());
+						continue;
+					}
+					if (componentInfo.getType() != null && QSYSCoreConstant.SUPPORTED_DEVICE_TYPE.contains(componentInfo.getType()) || componentInfo.getType()
+							.contains(QSYSCoreConstant.PLUGIN)) {
+						retrieveDevice(componentInfo);
 					}
-					//Remove device does not exist
-					deviceMap.keySet().retainAll(existDeviceSet);
-					mapOfIdAndAggregatedDeviceList.keySet().retainAll(deviceMap.keySet());
 				}
+				//Devices not seen in this discovery are evicted, the others keep their instance
+				DeviceInventory.Changes changes = deviceInventory.endDiscovery();
+				if (!changes.isEmpty()) {
+					deviceMap = deviceInventory.snapshot();
+					removeDevices(changes.getRemovedDeviceIds());
+					if (logger.isDebugEnabled()) {
+						logger.debug(String.format("Discovered devices changed, added: %s, removed: %s", changes.getAddedDeviceIds(), changes.getRemovedDeviceIds()));
+					}
+				}
+				gainComponentIds = gainComponents;
+				discoveredDesign = design;
+				nextDiscoveryTimestamp = System.currentTimeMillis() + calculatingQrcDiscoveryInterval() * 1000L;
 			} else {
-				response.stream()
-						.filter(res -> res.contains(QSYSCoreConstant.CMD_ERROR))
-						.findFirst()
-						.ifPresent(err -> logger.warn("Have error response: " + err));
+				logger.warn("Have error response: " + response);
 			}
 		} catch (Exception e) {
-			deviceMap.clear();
+			// The inventory and the device map are kept, the discovery runs again in the next cycle
 			logger.error("Unable to retrieve QSYS Component.", e);
 		}
 	}
 
+	/**
+	 * Drop the cached data of the devices removed from the inventory
+	 *
+	 * @param removedDeviceIds ids of the removed devices
+	 */
+	private void removeDevices(List<String> removedDeviceIds) {
+		if (removedDeviceIds.isEmpty()) {
+			return;
+		}
+		for (String deviceId : removedDeviceIds) {
+			mapOfIdAndAggregatedDeviceList.remove(deviceId);
+			nextFullRefreshTimestamps.remove(deviceId);
+			nextStatusPollingTimestamps.remove(deviceId);
+		}
+		if (qrcChangeGroupMonitor != null) {
+			qrcChangeGroupMonitor.retainDevices(deviceMap.keySet());
+		}
+	}
+
 	/**
 	 * Synchronizes the cache with the current discovery results: adds missing IDs from {@code deviceMap}
 	 * (reusing existing instances) and removes IDs that no longer exist in {@code deviceMap}.
@@ -1186,19 +1916,26 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	}
 
 	/**
-	 * Retrieve information of device
+	 * Retrieve information of device, the device of a component seen by the previous discovery is kept.
+	 * The filters are checked before the component is marked as seen, so a kept device the filters no longer
+	 * accept is evicted when the discovery ends.
 	 *
-	 * @param existDeviceSet set store all exist device
 	 * @param componentInfo component info of device
 	 */
-	private void retrieveDevice(Set<String> existDeviceSet, ComponentInfo componentInfo) {
+	private void retrieveDevice(ComponentInfo componentInfo) {
 		if (!StringUtils.isNullOrEmpty(filterDeviceByName) && !filterDeviceByNameSet.contains(componentInfo.getName())
 				|| !StringUtils.isNullOrEmpty(filterDeviceByQSYSType) && !filterDeviceByQSYSTypeSet.contains(componentInfo.getType())) {
 			return;
 		}
-		existDeviceSet.add(componentInfo.getId());
+		boolean plugin = componentInfo.getType().contains(QSYSCoreConstant.PLUGIN);
+		if (plugin && !isPluginAccepted(componentInfo)) {
+			return;
+		}
+		if (deviceInventory.markSeen(componentInfo.getId(), componentInfo.getType()) != null) {
+			return;
+		}
 		QSYSPeripheralDevice device;
-		if (componentInfo.getType().contains(QSYSCoreConstant.PLUGIN)) {
+		if (plugin) {
 			device = populateDeviceHasTypeIsPlugin(componentInfo);
 			if (device != null) {
 				device.setType(QSYSCoreConstant.EXTERNAL);
@@ -1207,8 +1944,8 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 			device = createDeviceByType(componentInfo.getType());
 			device.setType(componentInfo.getType());
 		}
-		if (device != null && !deviceMap.containsKey(componentInfo.getId())) {
-			deviceMap.put(componentInfo.getId(), device);
+		if (device != null) {
+			deviceInventory.add(componentInfo.getId(), componentInfo.getType(), device);
 		}
 	}
 
@@ -1220,17 +1957,25 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 */
 	private QSYSPeripheralDevice populateDeviceHasTypeIsPlugin(ComponentInfo componentInfo) {
 		QSYSPeripheralDevice device = null;
-		if (componentInfo.getId() == null) {
-			return device;
-		}
-
-		String id = componentInfo.getId().toLowerCase(Locale.ROOT);
-		if (!filterPluginByNameSet.isEmpty() && isPluginNameExits(id)) {
+		if (isPluginAccepted(componentInfo)) {
 			return new PluginDevice();
 		}
 		return device;
 	}
 
+	/**
+	 * Check if a plugin component is monitored, only plugins named in {@link #filterPluginByName} are
+	 *
+	 * @param componentInfo component info of device
+	 * @return true if the id of the plugin is in the plugin filter
+	 */
+	private boolean isPluginAccepted(ComponentInfo componentInfo) {
+		if (componentInfo.getId() == null || filterPluginByNameSet.isEmpty()) {
+			return false;
+		}
+		return isPluginNameExits(componentInfo.getId().toLowerCase(Locale.ROOT));
+	}
+
 	/**
 	 * Checks if the provided plugin ID contains any of the names in the filter set.
 	 *
@@ -1298,54 +2043,50 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 			return;
 		}
 		try {
-			String request = String.format(RpcMethod.getRequest(), RpcMethod.GET_CONTROLS.getName(), RpcMethod.getParamsString(RpcMethod.GET_CONTROLS));
-			request = String.format(request, deviceId);
-			List<String> response = Arrays.asList(qrcCommunicator.send(request));
-			if (response.size() > 1) {
-				JsonNode deviceControlInfo = objectMapper.readValue(response.get(1), JsonNode.class);
-
-				if (deviceControlInfo != null && deviceControlInfo.get(QSYSCoreConstant.RESULT) != null) {
-					String groupName = QSYSCoreConstant.GAIN + QSYSCoreConstant.COLON + deviceId;
-					JsonNode deviceControls = deviceControlInfo.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS);
-					for (JsonNode control : deviceControls) {
-						GainControllingMetric gainControllingMetric = GainControllingMetric.getByName(control.get(QSYSCoreConstant.CONTROL_NAME).asText());
-						if (gainControllingMetric == null) {
-							continue;
-						}
-						String propertyName = groupName + QSYSCoreConstant.HASH + gainControllingMetric.getMetric();
-						switch (gainControllingMetric) {
-							case GAIN_VALUE_CONTROL:
-								Float value = tryParseFloatOrNull(control.get(QSYSCoreConstant.CONTROL_VALUE).asText());
-								if (value != null) {
-									value = Math.round(value * 100) / 100.0f;
-									stats.put(groupName + QSYSCoreConstant.HASH + GainControllingMetric.CURRENT_GAIN_VALUE.getMetric(), String.valueOf(value));
-
-									Float firstValue = tryParseFloatOrNull(control.get(QSYSCoreConstant.CONTROL_VALUE_MIN).asText());
-									Float secondValue = tryParseFloatOrNull(control.get(QSYSCoreConstant.CONTROL_VALUE_MAX).asText());
-
-									if (firstValue != null && secondValue != null) {
-										Float minValue = Math.min(firstValue, secondValue);
-										Float maxValue = Math.max(firstValue, secondValue);
-
-										minValue = Math.round(minValue * 100) / 100.0f;
-										maxValue = Math.round(maxValue * 100) / 100.0f;
-
-										if (minValue != null && maxValue != null && !minValue.equals(maxValue)) {
-											stats.put(propertyName, String.valueOf(value));
-											controllableProperties.add(ControllablePropertyFactory.createSlider(propertyName, minValue, maxValue, value));
-										}
+			String response = qrcConnectionPool.send(RpcMethod.GET_CONTROLS, deviceId);
+			JsonNode deviceControlInfo = objectMapper.readValue(response, JsonNode.class);
+
+			if (deviceControlInfo != null && deviceControlInfo.get(QSYSCoreConstant.RESULT) != null) {
+				String groupName = QSYSCoreConstant.GAIN + QSYSCoreConstant.COLON + deviceId;
+				JsonNode deviceControls = deviceControlInfo.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS);
+				for (JsonNode control : deviceControls) {
+					GainControllingMetric gainControllingMetric = GainControllingMetric.getByName(control.get(QSYSCoreConstant.CONTROL_NAME).asText());
+					if (gainControllingMetric == null) {
+						continue;
+					}
+					String propertyName = groupName + QSYSCoreConstant.HASH + gainControllingMetric.getMetric();
+					switch (gainControllingMetric) {
+						case GAIN_VALUE_CONTROL:
+							Float value = tryParseFloatOrNull(control.get(QSYSCoreConstant.CONTROL_VALUE).asText());
+							if (value != null) {
+								value = Math.round(value * 100) / 100.0f;
+								stats.put(groupName + QSYSCoreConstant.HASH + GainControllingMetric.CURRENT_GAIN_VALUE.getMetric(), String.valueOf(value));
+
+								Float firstValue = tryParseFloatOrNull(control.get(QSYSCoreConstant.CONTROL_VALUE_MIN).asText());
+								Float secondValue = tryParseFloatOrNull(control.get(QSYSCoreConstant.CONTROL_VALUE_MAX).asText());
+
+								if (firstValue != null && secondValue != null) {
+									Float minValue = Math.min(firstValue, secondValue);
+									Float maxValue = Math.max(firstValue, secondValue);
+
+									minValue = Math.round(minValue * 100) / 100.0f;
+									maxValue = Math.round(maxValue * 100) / 100.0f;
+
+									if (minValue != null && maxValue != null && !minValue.equals(maxValue)) {
+										stats.put(propertyName, String.valueOf(value));
+										controllableProperties.add(ControllablePropertyFactory.createSlider(propertyName, minValue, maxValue, value));
 									}
 								}
-								break;
-							case BYPASS_CONTROL:
-							case MUTE_CONTROL:
-							case INVERT_CONTROL:
-								stats.put(propertyName, QSYSCoreConstant.EMPTY);
-								controllableProperties.add(ControllablePropertyFactory.createSwitch(propertyName, QSYSCoreConstant.FALSE.equals(control.get(QSYSCoreConstant.CONTROL_VALUE).asText()) ? 0 : 1));
-								break;
-							default:
-								logger.debug("The property name doesn't support:" + gainControllingMetric.getMetric());
-						}
+							}
+							break;
+						case BYPASS_CONTROL:
+						case MUTE_CONTROL:
+						case INVERT_CONTROL:
+							stats.put(propertyName, QSYSCoreConstant.EMPTY);
+							controllableProperties.add(ControllablePropertyFactory.createSwitch(propertyName, QSYSCoreConstant.FALSE.equals(control.get(QSYSCoreConstant.CONTROL_VALUE).asText()) ? 0 : 1));
+							break;
+						default:
+							logger.debug("The property name doesn't support:" + gainControllingMetric.getMetric());
 					}
 				}
 			}
@@ -1362,13 +2103,11 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 * @param property the property i property name
 	 */
 	private void updateGainControlByMetricName(String metricName, String value, String property) {
-		Map<String, String> stats = localExtStats.getStatistics();
-		List<AdvancedControllableProperty> advancedControllableProperties = localExtStats.getControllableProperties();
-
 		GainControllingMetric gainControllingMetric = GainControllingMetric.getByMetric(metricName);
+		String currentGainProperty = null;
 		switch (gainControllingMetric) {
 			case GAIN_VALUE_CONTROL:
-				stats.put(property.split(QSYSCoreConstant.HASH)[0] + QSYSCoreConstant.HASH + GainControllingMetric.CURRENT_GAIN_VALUE.getMetric(), value);
+				currentGainProperty = property.split(QSYSCoreConstant.HASH)[0] + QSYSCoreConstant.HASH + GainControllingMetric.CURRENT_GAIN_VALUE.getMetric();
 				break;
 			case BYPASS_CONTROL:
 			case MUTE_CONTROL:
@@ -1377,7 +2116,26 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 			default:
 				logger.debug("The property name doesn't support:" + gainControllingMetric.getMetric());
 		}
-		updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
+		String updatedGainProperty = currentGainProperty;
+		// Runs on the control dispatcher, possibly for several gain components at once and while getMultipleStatistics() publishes
+		// new statistics, so an updated copy is published only if the statistics were not replaced in the meantime
+		localExtStats.updateAndGet(extendedStatistics -> {
+			if (extendedStatistics == null) {
+				return null;
+			}
+			Map<String, String> stats = new HashMap<>(extendedStatistics.getStatistics());
+			if (updatedGainProperty != null) {
+				stats.put(updatedGainProperty, value);
+			}
+			List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>(extendedStatistics.getControllableProperties());
+			updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
+
+			ExtendedStatistics updatedStatistics = new ExtendedStatistics();
+			updatedStatistics.setStatistics(stats);
+			updatedStatistics.setDynamicStatistics(extendedStatistics.getDynamicStatistics());
+			updatedStatistics.setControllableProperties(advancedControllableProperties);
+			return updatedStatistics;
+		});
 	}
 
 
@@ -1387,120 +2145,120 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 * @param property is name of the metric
 	 * @param value the value is value of properties
 	 * @param extendedStatistics list statistics property
-	 * @param advancedControllableProperties the advancedControllableProperties is list AdvancedControllableProperties
+	 * @param advancedControllableProperties the advancedControllableProperties is list AdvancedControllableProperties, the updated property
+	 * is replaced by a copy with the value, so the published property is not modified
 	 */
 	private void updateValueForTheControllableProperty(String property, String value, Map<String, String> extendedStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
-		if (!advancedControllableProperties.isEmpty()) {
-			for (AdvancedControllableProperty advancedControllableProperty : advancedControllableProperties) {
-				if (advancedControllableProperty.getName().equals(property)) {
-					extendedStatistics.put(property, value);
-					advancedControllableProperty.setValue(value);
-					break;
-				}
+		for (int i = 0; i < advancedControllableProperties.size(); i++) {
+			AdvancedControllableProperty advancedControllableProperty = advancedControllableProperties.get(i);
+			if (advancedControllableProperty.getName().equals(property)) {
+				extendedStatistics.put(property, value);
+				advancedControllableProperties.set(i, new AdvancedControllableProperty(property, new Date(), advancedControllableProperty.getType(), value));
+				break;
 			}
 		}
 	}
 
 	/**
-	 * Handles the control of an aggregated device by sending a request to set a specific control metric.
-	 * The communication with the device is carried out using the RPC protocol, where:
-	 * - The request is sent using the `SET_CONTROLS` RPC method.
-	 * - The parameters for the request are formatted as: `property`, `metricName`, and `value` (the value is wrapped in quotes if not "1" or "0").
+	 * Handles the controls of an aggregated device by sending one Component.Set with all its controls over the control
+	 * connection. Once the core acknowledges the controls, the values are applied to the cached state of the device
+	 * and confirmed in the background.
 	 *
-	 * @param metricName The name of the metric to be controlled.
-	 * @param property   The property associated with the metric.
-	 * @param value      The value to be set for the control. If the value is "1" or "0", it is sent as-is; otherwise, it is wrapped in double quotes.
+	 * @param deviceId id of the controlled device
+	 * @param pendingControls controls to send
+	 * @throws ResourceNotReachableException if the controls can not be set
 	 */
-	private void handleControlAggregated(String metricName, String property, String value) {
-		RpcMethod method = RpcMethod.SET_CONTROLS;
-		String request = String.format(RpcMethod.getRequest(), method.getName(), RpcMethod.getParamsString(method));
-		request = String.format(request, property, metricName,
-				("1".equals(value) || "0".equals(value)) ? value : "\"" + value + "\"");
-
+	private void handleControlAggregated(String deviceId, List<PendingControl> pendingControls) {
+		ArrayNode controls = objectMapper.createArrayNode();
+		for (PendingControl pendingControl : pendingControls) {
+			ObjectNode control = controls.addObject().put(QSYSCoreConstant.CONTROL_NAME, pendingControl.route.getControlName());
+			if ("1".equals(pendingControl.value) || "0".equals(pendingControl.value)) {
+				control.put(QSYSCoreConstant.CONTROL_VALUE, Integer.parseInt(pendingControl.value));
+			} else {
+				control.put(QSYSCoreConstant.CONTROL_VALUE, pendingControl.value);
+			}
+		}
 		try {
-			List<String> response = Arrays.asList(qrcCommunicator.send(request));
-			if (response.size() > 1) {
-				JsonNode responseControl = objectMapper.readValue(response.get(1), JsonNode.class);
+			String response = qrcConnectionPool.sendControl(RpcMethod.SET_CONTROL_LIST, deviceId, controls.toString());
+			JsonNode responseControl = objectMapper.readValue(response, JsonNode.class);
 
-				if (!responseControl.has(QSYSCoreConstant.RESULT) || !responseControl.get(QSYSCoreConstant.RESULT).asText().equals(QSYSCoreConstant.TRUE)) {
-					throw new IllegalStateException("Error: cannot set value of component " + metricName);
-				}
+			if (!responseControl.has(QSYSCoreConstant.RESULT) || !responseControl.get(QSYSCoreConstant.RESULT).asText().equals(QSYSCoreConstant.TRUE)) {
+				throw new IllegalStateException("Error: cannot set value of component " + deviceId);
 			}
 		} catch (Exception e) {
-			throw new ResourceNotReachableException("Error when control " + metricName + " component", e);
+			throw new ResourceNotReachableException("Error when control " + deviceId + " component", e);
 		}
+		applyControlAggregated(deviceId, pendingControls);
+		publishAggregatedDeviceSnapshot();
 	}
 
 	/**
-	 * Retrieves the property associated with a given metric name for a specific device model.
+	 * Apply the controls acknowledged by the core to the cached state of the device and confirm them in the background
 	 *
-	 * @param property  The name of the metric to look up.
-	 * @param deviceModel The model of the device to determine the appropriate metric class.
-	 * @return The corresponding property of the metric if found, otherwise null.
+	 * @param deviceId id of the controlled device
+	 * @param pendingControls acknowledged controls of the device
 	 */
-	private String getMetricProperty(String property, String deviceModel, String metricValue) {
-		Class<? extends DeviceMetric> metricClass = getDeviceMetricClass(deviceModel);
-		if (metricClass == null) {
-			return null;
-		}
-		for (DeviceMetric metric : metricClass.getEnumConstants()) {
-			String metricPattern = metric.getMetric();
-			if (metricPattern.contains(QSYSCoreConstant.FORMAT_STRING)
-					&& property.contains(QSYSCoreConstant.HASH)
-					&& property.startsWith(QSYSCoreConstant.CHANNEL) && metricPattern.contains(metricValue)) {
-				return metric.getProperty();
-			}
-			if (metricPattern.equalsIgnoreCase(property)) {
-				return metric.getProperty();
+	private void applyControlAggregated(String deviceId, List<PendingControl> pendingControls) {
+		QSYSPeripheralDevice device = pendingControls.get(0).device;
+		List<String> controlNames = new ArrayList<>(pendingControls.size());
+		synchronized (device) {
+			for (PendingControl pendingControl : pendingControls) {
+				device.controlDevice(device, pendingControl.route.getMetric().getMetric(), pendingControl.value, pendingControl.property);
+				AdvancedControllableProperty advancedControllableProperty = device.getAdvancedControllableProperty(pendingControl.property);
+				if (advancedControllableProperty != null) {
+					device.getStats().put(pendingControl.property, pendingControl.value);
+					advancedControllableProperty.setValue(pendingControl.value);
+				}
+				controlNames.add(pendingControl.route.getControlName());
 			}
+			device.markStateChanged();
 		}
-		return null;
+		confirmControlAggregated(deviceId, device, controlNames);
 	}
 
 	/**
-	 * Retrieves the metric based on the given property, device model, and metric value.
+	 * Confirm the values of the controlled properties in the background with a Component.Get of the controls, the values
+	 * returned by the core replace the values applied when the controls were acknowledged.
+	 * In change group mode the change group already reports the controls, so no request is sent.
 	 *
-	 * @param property The property to be matched with the metric pattern.
-	 * @param deviceModel The model of the device, used to retrieve the corresponding metric class.
-	 * @param metricValue The metric value to check if the property and metric pattern match.
+	 * @param deviceId id of the controlled device
+	 * @param device controlled device
+	 * @param controlNames names of the QRC controls
 	 */
-	private String getMetric(String property, String deviceModel, String metricValue) {
-		Class<? extends DeviceMetric> metricClass = getDeviceMetricClass(deviceModel);
-		if (metricClass == null) {
-			return null;
+	private void confirmControlAggregated(String deviceId, QSYSPeripheralDevice device, List<String> controlNames) {
+		QRCConnectionPool connectionPool = qrcConnectionPool;
+		ExecutorService confirmationExecutorService = controlConfirmationExecutorService;
+		if (qrcChangeGroupMonitor != null || connectionPool == null || confirmationExecutorService == null) {
+			return;
 		}
-		for (DeviceMetric metric : metricClass.getEnumConstants()) {
-			String metricPattern = metric.getMetric();
-			if (metricPattern.contains(QSYSCoreConstant.FORMAT_STRING)
-					&& property.contains(QSYSCoreConstant.HASH)
-					&& property.startsWith(QSYSCoreConstant.CHANNEL) && metricPattern.contains(metricValue)) {
-				return metric.getMetric();
-			}
-			if (metricPattern.equalsIgnoreCase(property)) {
-				return metric.getMetric();
+		ArrayNode controls = objectMapper.createArrayNode();
+		controlNames.forEach(controlName -> controls.addObject().put(QSYSCoreConstant.CONTROL_NAME, controlName));
+		String joinedControlNames = String.join(QSYSCoreConstant.COMMA, controlNames);
+		try {
+			confirmationExecutorService.submit(() -> {
+				try {
+					String response = connectionPool.send(RpcMethod.GET, deviceId, controls.toString());
+					if (deviceMap.get(deviceId) != device) {
+						return;
+					}
+					boolean confirmed;
+					synchronized (device) {
+						confirmed = QRCControlParser.parse(response, device.createStatusControlSink());
+					}
+					if (!confirmed) {
+						logger.warn("Error confirming controls " + joinedControlNames + " of device " + deviceId + ": " + response);
+						return;
+					}
+					publishAggregatedDeviceSnapshot();
+				} catch (Exception e) {
+					logger.error("Can not confirm controls " + joinedControlNames + " of aggregated device have id is " + deviceId, e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Control confirmation is stopped, controls " + joinedControlNames + " of device " + deviceId + " are not confirmed");
 			}
 		}
-		return null;
-	}
-
-
-	/**
-	 * Retrieves the corresponding DeviceMetric class based on the given device type.
-	 *
-	 * @param deviceType The type of the device.
-	 * @return The corresponding DeviceMetric class, or null if the device type is unknown.
-	 */
-	private Class<? extends DeviceMetric> getDeviceMetricClass(String deviceType) {
-		if (QSYSCoreConstant.TRANSMITTER_DEVICE.equals(deviceType)) {
-			return TransmitterDeviceMetric.class;
-		} else if (QSYSCoreConstant.RECEIVER_DEVICE.equals(deviceType)) {
-			return ReceiverDeviceMetric.class;
-		} else if (QSYSCoreConstant.LOUDSPEAKER_DEVICE.equals(deviceType)) {
-			return LoudSpeakerDeviceMetric.class;
-		} else if (QSYSCoreConstant.AMPLIFIER_DEVICE.equals(deviceType)) {
-			return AmplifierDeviceMetric.class;
-		}
-		return null;
 	}
 
 	/**
@@ -1631,23 +2389,65 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 * Refresh aggregator-level timestamps to keep the data loader active.
 	 */
 	private void refreshTimestamps() {
-		nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
 		updateValidRetrieveStatisticsTimestamp();
 	}
 
 	/**
-	 * Take a thread-safe snapshot of the device map.
+	 * Publish a new snapshot of the aggregated devices. An {@link AggregatedDevice} is rebuilt only for the devices
+	 * whose instance or state version changed since the previous snapshot, or for all devices when the adapter properties
+	 * they are built with changed. The previous snapshot is kept if nothing changed.
+	 *
+	 * @return published snapshot
+	 */
+	private AggregatedDeviceSnapshot publishAggregatedDeviceSnapshot() {
+		synchronized (aggregatedDeviceSnapshot) {
+			AggregatedDeviceSnapshot previous = aggregatedDeviceSnapshot.get();
+			String buildSignature = calculatingBuildSignature();
+			boolean sameBuild = buildSignature.equals(previous.getBuildSignature());
+			boolean changed = !sameBuild || previous.size() != mapOfIdAndAggregatedDeviceList.size();
+			Map<String, AggregatedDeviceSnapshot.Entry> entries = new HashMap<>();
+			List<AggregatedDevice> aggregatedDevices = new ArrayList<>();
+			for (Map.Entry<String, QSYSPeripheralDevice> deviceEntry : mapOfIdAndAggregatedDeviceList.entrySet()) {
+				String deviceId = deviceEntry.getKey();
+				QSYSPeripheralDevice device = deviceEntry.getValue();
+				AggregatedDeviceSnapshot.Entry entry = sameBuild ? previous.getEntry(deviceId) : null;
+				// The version is read under the same lock the statistics are copied with, so an entry never pairs
+				// a version with the statistics of another version
+				synchronized (device) {
+					long stateVersion = device.getStateVersion();
+					if (entry == null || !entry.isBuiltFrom(device, stateVersion)) {
+						entry = new AggregatedDeviceSnapshot.Entry(device, stateVersion, buildAggregatedDevice(deviceId, device));
+						changed = true;
+					}
+				}
+				entries.put(deviceId, entry);
+				if (entry.getAggregatedDevice() != null) {
+					aggregatedDevices.add(entry.getAggregatedDevice());
+				}
+			}
+			if (!changed) {
+				return previous;
+			}
+			AggregatedDeviceSnapshot snapshot = new AggregatedDeviceSnapshot(previous.getVersion() + 1, buildSignature, entries, aggregatedDevices);
+			aggregatedDeviceSnapshot.set(snapshot);
+			return snapshot;
+		}
+	}
+
+	/**
+	 * calculating signature of the adapter properties the aggregated devices are built with
 	 *
-	 * @return a shallow copy of the current device map
+	 * @return build signature
 	 */
-	private Map<String, QSYSPeripheralDevice> snapshotDevices() {
-		synchronized (mapOfIdAndAggregatedDeviceList) {
-			return new HashMap<>(mapOfIdAndAggregatedDeviceList);
-		}
+	private String calculatingBuildSignature() {
+		return String.join(QSYSCoreConstant.SEMICOLON, String.valueOf(configManagement), String.valueOf(historicalProperties),
+				String.valueOf(filterDeviceByQSYSTypeSet), String.valueOf(filterDeviceByNameSet));
 	}
 
 	/**
 	 * Build an AggregatedDevice object from a QSYSPeripheralDevice.
+	 * The statistics and controllable properties are copied while the device is locked, so the device can be updated
+	 * while the aggregated device is read.
 	 *
 	 * @param id  device identifier
 	 * @param device peripheral device with raw stats
@@ -1661,7 +2461,17 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 		AggregatedDevice aggregatedDevice = new AggregatedDevice();
 		aggregatedDevice.setDeviceId(withAggregatorPrefix(id));
 
-		Map<String, String> props = device.getStats();
+		Map<String, String> props;
+		List<AdvancedControllableProperty> deviceControls = new ArrayList<>();
+		synchronized (device) {
+			props = new HashMap<>(device.getStats());
+			if (configManagement) {
+				// Values of the properties are updated in place by the controls
+				for (AdvancedControllableProperty property : device.getAdvancedControllableProperties()) {
+					deviceControls.add(new AdvancedControllableProperty(property.getName(), property.getTimestamp(), property.getType(), property.getValue()));
+				}
+			}
+		}
 		setDeviceStatus(props, aggregatedDevice);
 		aggregatedDevice.setProperties(props);
 
@@ -1669,7 +2479,17 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 		aggregatedDevice.setDeviceName(withAggregatorPrefix(displayName));
 
 		provisionTypedStatistics(aggregatedDevice.getProperties(), aggregatedDevice);
-		aggregatedDevice.setControllableProperties(device.getAdvancedControllableProperties());
+		List<AdvancedControllableProperty> controls = new ArrayList<>();
+		if (configManagement) {
+			controls.addAll(deviceControls);
+		} else {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("configManagement is set to false, removing device %s controllable properties.", aggregatedDevice.getDeviceId()));
+			}
+			// Since SY core caches controllable properties, we need to create a dummy object to replace existing controls with
+			controls.add(ControllablePropertyFactory.createText(QSYSCoreConstant.EMPTY,QSYSCoreConstant.EMPTY));
+		}
+		aggregatedDevice.setControllableProperties(controls);
 		aggregatedDevice.setTimestamp(System.currentTimeMillis());
 		return aggregatedDevice;
 	}
@@ -1760,59 +2580,330 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	 * Get all information of device list in a thread
 	 *
 	 * @param deviceIdsNeedToUpdate device id list need to get information
+	 * @return number of devices whose controls were requested with Component.GetControls, 0 if the change group was used
+	 */
+	private int retrieveAggregatedDeviceByIdList(List<String> deviceIdsNeedToUpdate) {
+		QRCChangeGroupMonitor changeGroupMonitor = qrcChangeGroupMonitor;
+		if (changeGroupMonitor != null) {
+			retrieveAggregatedDeviceByChangeGroup(changeGroupMonitor, deviceIdsNeedToUpdate);
+			return 0;
+		}
+		deviceIdsNeedToUpdate = retrieveDevicesNeedFullRefresh(deviceIdsNeedToUpdate);
+		int batchSize = calculatingQrcBatchSize();
+		if (batchSize > 1) {
+			retrieveAggregatedDeviceByBatch(deviceIdsNeedToUpdate, batchSize);
+		} else {
+			for (String deviceId : deviceIdsNeedToUpdate) {
+				try {
+					String response = qrcConnectionPool.send(RpcMethod.GET_CONTROLS, deviceId);
+					updateAggregatedDevice(deviceId, response);
+				} catch (Exception e) {
+					logger.error("Can not retrieve information of aggregated device have id is " + deviceId, e);
+				}
+			}
+		}
+		return deviceIdsNeedToUpdate.size();
+	}
+
+	/**
+	 * Retrieve controls of aggregated devices with JSON RPC batches of {@code batchSize} Component.GetControls requests
+	 *
+	 * @param deviceIdsNeedToUpdate list device id need to update
+	 * @param batchSize number of requests in one batch
 	 */
-	private void retrieveAggregatedDeviceByIdList(List<String> deviceIdsNeedToUpdate) {
-		for (String deviceId : deviceIdsNeedToUpdate) {
+	private void retrieveAggregatedDeviceByBatch(List<String> deviceIdsNeedToUpdate, int batchSize) {
+		for (int from = 0; from < deviceIdsNeedToUpdate.size(); from += batchSize) {
+			List<String> deviceIds = deviceIdsNeedToUpdate.subList(from, Math.min(from + batchSize, deviceIdsNeedToUpdate.size()));
+			List<Object[]> paramsList = deviceIds.stream().map(deviceId -> new Object[] { deviceId }).collect(Collectors.toList());
+			List<String> responses;
 			try {
-				String request = String.format(RpcMethod.getRequest(), RpcMethod.GET_CONTROLS.getName(), RpcMethod.getParamsString(RpcMethod.GET_CONTROLS));
-				request = String.format(request, deviceId);
-				List<String> response = Arrays.asList(qrcCommunicator.send(request));
-				Optional<String> validResponse = response.stream()
-						.filter(res -> res.contains(QSYSCoreConstant.CMD_RESULT) && !res.contains(QSYSCoreConstant.CMD_METHOD))
-						.findFirst();
-
-				if (validResponse.isPresent()) {
-					JsonNode deviceControlResponse = objectMapper.readValue(validResponse.get(), JsonNode.class);
-					deviceMap.get(deviceId).monitoringDevice(deviceControlResponse);
-					mapOfIdAndAggregatedDeviceList.put(deviceId, deviceMap.get(deviceId));
-					errorDeviceMap.remove(deviceId);
-				} else {
-					response.stream()
-							.filter(res -> res.contains(QSYSCoreConstant.CMD_ERROR))
-							.findFirst()
-							.ifPresent(err -> logger.warn("Error retrieving controls for device " + deviceId + ": " + err));
+				responses = qrcConnectionPool.sendBatch(RpcMethod.GET_CONTROLS, paramsList);
+			} catch (Exception e) {
+				logger.error("Can not retrieve information of aggregated devices " + String.join(",", deviceIds), e);
+				continue;
+			}
+			for (int i = 0; i < deviceIds.size(); i++) {
+				try {
+					updateAggregatedDevice(deviceIds.get(i), responses.get(i));
+				} catch (Exception e) {
+					logger.error("Can not retrieve information of aggregated device have id is " + deviceIds.get(i), e);
 				}
+			}
+		}
+	}
+
+	/**
+	 * Update aggregated device with Component.GetControls response, the controls are streamed into the device
+	 * without building a JSON tree of the response. The device is locked while it is parsed, the status polling,
+	 * the control confirmation and {@link #retrieveMultipleStatistics()} access it from other threads.
+	 *
+	 * @param deviceId id of device
+	 * @param response Component.GetControls response
+	 * @throws Exception if the response can not be read
+	 */
+	private void updateAggregatedDevice(String deviceId, String response) throws Exception {
+		QSYSPeripheralDevice device = deviceMap.get(deviceId);
+		if (device == null) {
+			// The device was removed by the discovery while its controls were requested
+			return;
+		}
+		boolean parsed;
+		synchronized (device) {
+			parsed = QRCControlParser.parse(response, device.createControlSink());
+		}
+		if (parsed) {
+			mapOfIdAndAggregatedDeviceList.put(deviceId, device);
+			errorDeviceMap.remove(deviceId);
+			scheduleNextRefresh(deviceId, device);
+		} else {
+			logger.warn("Error retrieving controls for device " + deviceId + ": " + response);
+		}
+	}
+
+	/**
+	 * Schedule the next full refresh and the next status polling of a device after its controls were retrieved
+	 *
+	 * @param deviceId id of device
+	 * @param device device
+	 */
+	private void scheduleNextRefresh(String deviceId, QSYSPeripheralDevice device) {
+		long currentTimestamp = System.currentTimeMillis();
+		Long fullRefreshInterval = fullRefreshIntervals.get(getQSYSType(device));
+		if (fullRefreshInterval != null) {
+			nextFullRefreshTimestamps.put(deviceId, currentTimestamp + fullRefreshInterval);
+		} else {
+			nextFullRefreshTimestamps.remove(deviceId);
+		}
+		nextStatusPollingTimestamps.put(deviceId, currentTimestamp + calculatingQrcStatusPollingInterval() * 1000L);
+	}
+
+	/**
+	 * Retrieve the devices whose full refresh is due, devices of types without a full refresh interval and devices
+	 * without statistics are always refreshed
+	 *
+	 * @param deviceIds list device id of the batch
+	 * @return list device id need a full refresh
+	 */
+	private List<String> retrieveDevicesNeedFullRefresh(List<String> deviceIds) {
+		if (fullRefreshIntervals.isEmpty()) {
+			return deviceIds;
+		}
+		long currentTimestamp = System.currentTimeMillis();
+		List<String> deviceIdsNeedFullRefresh = new ArrayList<>(deviceIds.size());
+		for (String deviceId : deviceIds) {
+			Long nextFullRefreshTimestamp = nextFullRefreshTimestamps.get(deviceId);
+			QSYSPeripheralDevice device = deviceMap.get(deviceId);
+			if (nextFullRefreshTimestamp == null || nextFullRefreshTimestamp <= currentTimestamp
+					|| device == null || mapOfIdAndAggregatedDeviceList.get(deviceId) != device) {
+				deviceIdsNeedFullRefresh.add(deviceId);
+			}
+		}
+		if (logger.isDebugEnabled() && deviceIdsNeedFullRefresh.size() < deviceIds.size()) {
+			logger.debug(String.format("Full refresh of %s devices is not due, only their status is polled", deviceIds.size() - deviceIdsNeedFullRefresh.size()));
+		}
+		return deviceIdsNeedFullRefresh;
+	}
+
+	/**
+	 * Poll the status of the devices with statistics, run by {@link #deviceCollectionScheduler}
+	 *
+	 * @return delay in milliseconds until the status polling of the next device is due, negative to stop the status polling
+	 */
+	private long pollAggregatedDeviceStatus() {
+		updateAggregatorStatus();
+		int statusPollingInterval = calculatingQrcStatusPollingInterval();
+		if (devicePaused || statusPollingInterval <= 0 || qrcChangeGroupMonitor != null) {
+			return -1;
+		}
+		List<String> deviceIds = new ArrayList<>(mapOfIdAndAggregatedDeviceList.keySet());
+		retrieveAggregatedDeviceStatus(deviceIds);
+		publishAggregatedDeviceSnapshot();
+		long currentTimestamp = System.currentTimeMillis();
+		long nextTimestamp = currentTimestamp + statusPollingInterval * 1000L;
+		for (String deviceId : deviceIds) {
+			nextTimestamp = Math.min(nextTimestamp, nextStatusPollingTimestamps.getOrDefault(deviceId, nextTimestamp));
+		}
+		return Math.max(nextTimestamp - currentTimestamp, QSYSCoreConstant.MIN_QRC_STATUS_POLLING_DELAY);
+	}
+
+	/**
+	 * Retrieve the status controls of the devices whose status polling is due with Component.Get requests.
+	 * Only used in Poll mode, the change group already reports changed status controls.
+	 *
+	 * @param deviceIds list device id to poll
+	 */
+	private void retrieveAggregatedDeviceStatus(List<String> deviceIds) {
+		int statusPollingInterval = calculatingQrcStatusPollingInterval();
+		QRCConnectionPool connectionPool = qrcConnectionPool;
+		if (statusPollingInterval <= 0 || qrcChangeGroupMonitor != null || connectionPool == null) {
+			return;
+		}
+		long currentTimestamp = System.currentTimeMillis();
+		List<String> deviceIdsNeedStatus = new ArrayList<>();
+		List<Object[]> paramsList = new ArrayList<>();
+		for (String deviceId : deviceIds) {
+			QSYSPeripheralDevice device = deviceMap.get(deviceId);
+			Long nextStatusPollingTimestamp = nextStatusPollingTimestamps.get(deviceId);
+			if (device == null || mapOfIdAndAggregatedDeviceList.get(deviceId) != device
+					|| nextStatusPollingTimestamp != null && nextStatusPollingTimestamp > currentTimestamp) {
+				continue;
+			}
+			nextStatusPollingTimestamps.put(deviceId, currentTimestamp + statusPollingInterval * 1000L);
+			List<String> controlNames = device.getStatusControlNames();
+			if (controlNames.isEmpty()) {
+				continue;
+			}
+			ArrayNode controls = objectMapper.createArrayNode();
+			controlNames.forEach(controlName -> controls.addObject().put(QSYSCoreConstant.CONTROL_NAME, controlName));
+			deviceIdsNeedStatus.add(deviceId);
+			paramsList.add(new Object[] { deviceId, controls.toString() });
+		}
+		int batchSize = calculatingQrcBatchSize();
+		for (int from = 0; from < deviceIdsNeedStatus.size(); from += batchSize) {
+			int to = Math.min(from + batchSize, deviceIdsNeedStatus.size());
+			List<String> responses;
+			try {
+				responses = connectionPool.sendBatch(RpcMethod.GET, paramsList.subList(from, to));
 			} catch (Exception e) {
-				logger.error("Can not retrieve information of aggregated device have id is " + deviceId, e);
+				logger.error("Can not retrieve status of aggregated devices " + String.join(",", deviceIdsNeedStatus.subList(from, to)), e);
+				continue;
+			}
+			for (int i = from; i < to; i++) {
+				try {
+					updateAggregatedDeviceStatus(deviceIdsNeedStatus.get(i), responses.get(i - from));
+				} catch (Exception e) {
+					logger.error("Can not retrieve status of aggregated device have id is " + deviceIdsNeedStatus.get(i), e);
+				}
 			}
 		}
 	}
 
 	/**
-	 * Control the gain component
+	 * Update the status statistics of aggregated device with Component.Get response, the other statistics are kept.
+	 * The device is locked while it is parsed, a full refresh of the device may run on a batch thread at the same time.
 	 *
-	 * @param metricName metricName of gain
-	 * @param namedComponent namedComponent of gain component
-	 * @param value value to change of gain component
+	 * @param deviceId id of device
+	 * @param response Component.Get response
+	 * @throws Exception if the response can not be read
+	 */
+	private void updateAggregatedDeviceStatus(String deviceId, String response) throws Exception {
+		QSYSPeripheralDevice device = deviceMap.get(deviceId);
+		if (device == null) {
+			return;
+		}
+		boolean parsed;
+		synchronized (device) {
+			parsed = QRCControlParser.parse(response, device.createStatusControlSink());
+		}
+		if (!parsed) {
+			// The status controls of the component changed, the next cycle refreshes all its controls
+			nextFullRefreshTimestamps.remove(deviceId);
+			logger.warn("Error retrieving status controls for device " + deviceId + ": " + response);
+		}
+	}
+
+	/**
+	 * Update aggregated devices from the change group, only devices with changed controls are parsed again
+	 *
+	 * @param changeGroupMonitor change group monitor
+	 * @param deviceIdsNeedToUpdate list device id need to update
 	 */
-	private void gainControl(String metricName, String namedComponent, String value) {
-		RpcMethod method = RpcMethod.SET_CONTROLS;
-		String request = String.format(RpcMethod.getRequest(), method.getName(), RpcMethod.getParamsString(method));
-		request = String.format(request, namedComponent, GainControllingMetric.getByMetric(metricName).getProperty(), value);
+	private void retrieveAggregatedDeviceByChangeGroup(QRCChangeGroupMonitor changeGroupMonitor, List<String> deviceIdsNeedToUpdate) {
 		try {
-			List<String> response = Arrays.asList(qrcCommunicator.send(request));
-			if (response.size() > 1) {
-				JsonNode responseControl = objectMapper.readValue(response.get(1), JsonNode.class);
+			changeGroupMonitor.refresh(deviceIdsNeedToUpdate);
+		} catch (Exception e) {
+			logger.error("Can not poll change group for aggregated devices " + String.join(",", deviceIdsNeedToUpdate), e);
+		}
+		for (String deviceId : deviceIdsNeedToUpdate) {
+			applyChangeGroupControls(changeGroupMonitor, deviceId);
+		}
+	}
+
+	/**
+	 * Hand the devices whose controls were pushed by the core over to {@link #deviceCollectionScheduler}, so the devices
+	 * are not parsed on the reader thread of the QRC session. Without a scheduler the changes stay in the change group monitor
+	 * and are applied by the next monitoring cycle.
+	 *
+	 * @param changeGroupMonitor change group monitor
+	 * @param deviceIds ids of devices with changed controls
+	 */
+	private void applyPushedControls(QRCChangeGroupMonitor changeGroupMonitor, Set<String> deviceIds) {
+		DeviceCollectionScheduler scheduler = deviceCollectionScheduler;
+		if (scheduler != null) {
+			scheduler.execute(() -> deviceIds.forEach(deviceId -> applyChangeGroupControls(changeGroupMonitor, deviceId)));
+		}
+	}
 
-				if (!responseControl.has(QSYSCoreConstant.RESULT) || !responseControl.get(QSYSCoreConstant.RESULT).asText().equals(QSYSCoreConstant.TRUE)) {
-					throw new IllegalStateException("Error: cannot set gain value of component " + namedComponent);
+	/**
+	 * Apply the controls cached by the change group to the aggregated device if they changed or the device was recreated.
+	 * Called by device collection threads, which may handle the same device concurrently in AutoPoll mode, so the device is locked
+	 * while its statistics are rebuilt.
+	 *
+	 * @param changeGroupMonitor change group monitor
+	 * @param deviceId id of device
+	 */
+	private void applyChangeGroupControls(QRCChangeGroupMonitor changeGroupMonitor, String deviceId) {
+		try {
+			QSYSPeripheralDevice device = deviceMap.get(deviceId);
+			JsonNode changedControls = changeGroupMonitor.pollChangedControls(deviceId);
+			if (device == null) {
+				return;
+			}
+			if (changedControls == null && mapOfIdAndAggregatedDeviceList.get(deviceId) != device) {
+				// The device was recreated by the discovery, it has no statistics until the cached controls are applied
+				changedControls = changeGroupMonitor.getControls(deviceId);
+			}
+			if (changedControls != null) {
+				synchronized (device) {
+					device.monitoringDevice(changedControls);
 				}
 			}
+			if (changedControls != null || mapOfIdAndAggregatedDeviceList.containsKey(deviceId)) {
+				mapOfIdAndAggregatedDeviceList.put(deviceId, device);
+				errorDeviceMap.remove(deviceId);
+			}
+		} catch (Exception e) {
+			logger.error("Can not retrieve information of aggregated device have id is " + deviceId, e);
+		}
+	}
+
+	/**
+	 * Control the gain component, all controls of the component are sent in one Component.Set
+	 *
+	 * @param namedComponent namedComponent of gain component
+	 * @param pendingGainControls controls to send, numeric values are sent as JSON numbers
+	 */
+	private void gainControl(String namedComponent, List<PendingGainControl> pendingGainControls) {
+		try {
+			String response = qrcConnectionPool.sendControl(RpcMethod.SET_CONTROL_LIST, namedComponent, buildGainControls(pendingGainControls));
+			JsonNode responseControl = objectMapper.readValue(response, JsonNode.class);
+
+			if (!responseControl.has(QSYSCoreConstant.RESULT) || !responseControl.get(QSYSCoreConstant.RESULT).asText().equals(QSYSCoreConstant.TRUE)) {
+				throw new IllegalStateException("Error: cannot set gain value of component " + namedComponent);
+			}
 		} catch (Exception e) {
 			throw new ResourceNotReachableException("Error when control " + namedComponent + " component", e);
 		}
 	}
 
+	/**
+	 * Build the Controls parameter of the Component.Set of a gain component
+	 *
+	 * @param pendingGainControls controls to send, numeric values are sent as JSON numbers
+	 * @return JSON array of the controls
+	 */
+	String buildGainControls(List<PendingGainControl> pendingGainControls) {
+		ArrayNode controls = objectMapper.createArrayNode();
+		for (PendingGainControl pendingGainControl : pendingGainControls) {
+			ObjectNode control = controls.addObject().put(QSYSCoreConstant.CONTROL_NAME, pendingGainControl.metric.getProperty());
+			try {
+				control.put(QSYSCoreConstant.CONTROL_VALUE, new BigDecimal(pendingGainControl.value));
+			} catch (NumberFormatException e) {
+				control.put(QSYSCoreConstant.CONTROL_VALUE, pendingGainControl.value);
+			}
+		}
+		return controls.toString();
+	}
 
 	/**
 	 * Convert milliseconds to date
@@ -1889,6 +2980,16 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 		}
 	}
 
+	/**
+	 * Get QSYSType of device, as shown in the properties of the aggregated device
+	 *
+	 * @param device device
+	 * @return QSYSType of device
+	 */
+	private String getQSYSType(QSYSPeripheralDevice device) {
+		return QSYSCoreConstant.EXTERNAL.equals(device.getType()) ? QSYSCoreConstant.EXTERNAL : getTypeByResponseType(device.getType());
+	}
+
 	/**
 	 * get type of device by response type
 	 *
@@ -1957,7 +3058,9 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	}
 
 	/**
-	 * calculating local polling interval
+	 * calculating local polling interval, the number of monitoring cycles all devices are refreshed in.
+	 * The collection is sized by {@link #adaptivePollingController} to refresh all devices in {@link #pollingInterval}
+	 * cycles, the interval is longer only when the core can not keep up.
 	 *
 	 * @throws IllegalArgumentException when get limit rate exceed error
 	 */
@@ -1968,40 +3071,29 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 				pollingIntervalValue = Integer.parseInt(pollingInterval);
 			}
 
-			int minPollingInterval = calculatingMinPollingInterval();
-			if (pollingIntervalValue < minPollingInterval) {
-				logger.error(String.format("invalid pollingInterval value, pollingInterval must greater than: %s", minPollingInterval));
-				return minPollingInterval;
+			int plannedPollingInterval = adaptivePollingController.plan(deviceMap.size(), pollingIntervalValue, calculatingMonitoringCycleDuration());
+			if (pollingIntervalValue < plannedPollingInterval) {
+				logger.warn(String.format("pollingInterval %s can not be reached with latency %.1f ms per device, using %s", pollingIntervalValue,
+						adaptivePollingController.getLatency(), plannedPollingInterval));
 			}
-			return pollingIntervalValue;
+			return plannedPollingInterval;
 		} catch (Exception e) {
 			throw new IllegalArgumentException(String.format("Unexpected pollingInterval value: %s", pollingInterval), e);
 		}
 	}
 
 	/**
-	 * calculating minimum of polling interval
+	 * calculating duration of a monitoring cycle
 	 *
-	 * @return Number of polling interval
+	 * @return duration of a monitoring cycle in milliseconds
 	 */
-	private int calculatingMinPollingInterval() {
-		if (!deviceMap.isEmpty()) {
-			return IntMath.divide(deviceMap.size(), QSYSCoreConstant.MAX_THREAD_QUANTITY * QSYSCoreConstant.MAX_DEVICE_QUANTITY_PER_THREAD, RoundingMode.CEILING);
-		}
-		return QSYSCoreConstant.MIN_POLLING_INTERVAL;
-	}
-
-	/**
-	 * calculating thread quantity
-	 */
-	private int calculatingThreadQuantity() {
-		if (deviceMap.isEmpty()) {
-			return QSYSCoreConstant.MIN_THREAD_QUANTITY;
-		}
-		if (deviceMap.size() / localPollingInterval < QSYSCoreConstant.MAX_THREAD_QUANTITY * QSYSCoreConstant.MAX_DEVICE_QUANTITY_PER_THREAD) {
-			return IntMath.divide(deviceMap.size(), localPollingInterval * QSYSCoreConstant.MAX_DEVICE_QUANTITY_PER_THREAD, RoundingMode.CEILING);
+	private long calculatingMonitoringCycleDuration() {
+		try {
+			return getMonitoringRate() * 60000L;
+		} catch (NoSuchMethodError nsme) {
+			logger.warn("Unsupported feature: getMonitoringRate isn't available on current Cloud Connector version.", nsme);
+			return 60000L;
 		}
-		return QSYSCoreConstant.MAX_THREAD_QUANTITY;
 	}
 
 	/**
@@ -2036,19 +3128,37 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	}
 
 	/**
-	 * Retrieve information for all remote devices
-	 *
-	 * @param currentSizeDeviceMap Current size of cachedClients List, this param use to check number of clients was change or not
+	 * Retrieve information for all remote devices, the devices taken from {@link #deviceIdDequeue} are split into batches
+	 * collected by the threads of {@link #deviceCollectionScheduler}
 	 */
-	private void populateAggregatedMonitoringData(int currentSizeDeviceMap) {
-		if (executorService == null || currentSizeDeviceMap != deviceMap.size()) {
-			executorService = Executors.newFixedThreadPool(deviceStatisticsCollectionThreads);
+	private void populateAggregatedMonitoringData() {
+		DeviceCollectionScheduler scheduler = deviceCollectionScheduler;
+		if (scheduler == null) {
+			scheduler = new DeviceCollectionScheduler(deviceStatisticsCollectionThreads, this::pollAggregatedDeviceStatus);
+			deviceCollectionScheduler = scheduler;
+		} else {
+			scheduler.setThreadQuantity(deviceStatisticsCollectionThreads);
+		}
+		updateAggregatorStatus();
+
+		// Devices of batches the previous cycle could not start are collected first in this cycle
+		List<String> cancelledDeviceIds = scheduler.cancelPendingBatches();
+		if (!cancelledDeviceIds.isEmpty()) {
+			Set<String> queuedDeviceIds = new HashSet<>(deviceIdDequeue);
+			for (int i = cancelledDeviceIds.size() - 1; i >= 0; i--) {
+				String deviceId = cancelledDeviceIds.get(i);
+				if (queuedDeviceIds.add(deviceId)) {
+					deviceIdDequeue.addFirst(deviceId);
+				}
+			}
 		}
 
+		int parallelBatches = adaptivePollingController.nextParallelBatches();
+		int devicesPerThread = adaptivePollingController.getDevicesPerThread();
+		List<List<String>> batches = new ArrayList<>();
 		List<String> deviceIdsNeedToUpdate = new ArrayList<>();
-		int threadNum = 0;
 
-		while (!deviceIdDequeue.isEmpty() && threadNum < deviceStatisticsCollectionThreads) {
+		while (!deviceIdDequeue.isEmpty() && batches.size() < parallelBatches) {
 			String deviceId = deviceIdDequeue.pollFirst();
 			if (!deviceMap.containsKey(deviceId)) {
 				errorDeviceMap.remove(deviceId);
@@ -2057,29 +3167,50 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 
 			deviceIdsNeedToUpdate.add(deviceId);
 
-			int errorCount = errorDeviceMap.getOrDefault(deviceId, 0);
-			if (errorCount >= QSYSCoreConstant.MAX_ERROR_COUNT) {
-				errorDeviceMap.remove(deviceId);
-			} else {
-				errorDeviceMap.put(deviceId, errorCount + 1);
-			}
+			errorDeviceMap.compute(deviceId, (id, errorCount) -> errorCount == null ? 1 : errorCount >= QSYSCoreConstant.MAX_ERROR_COUNT ? null : errorCount + 1);
 
-			if (deviceIdsNeedToUpdate.size() >= QSYSCoreConstant.MAX_DEVICE_QUANTITY_PER_THREAD) {
-				List<String> finalDeviceIdsNeedToUpdate = new ArrayList<>(deviceIdsNeedToUpdate);
-				deviceExecutionPool.add(executorService.submit(new DeviceLoader(finalDeviceIdsNeedToUpdate)));
+			if (deviceIdsNeedToUpdate.size() >= devicesPerThread) {
+				batches.add(new ArrayList<>(deviceIdsNeedToUpdate));
 				deviceIdsNeedToUpdate.clear();
-				++threadNum;
 			}
 		}
 
 		if (!deviceIdsNeedToUpdate.isEmpty()) {
-			List<String> finalDeviceIdsNeedToUpdate = new ArrayList<>(deviceIdsNeedToUpdate);
-			deviceExecutionPool.add(executorService.submit(new DeviceLoader(finalDeviceIdsNeedToUpdate)));
+			batches.add(new ArrayList<>(deviceIdsNeedToUpdate));
+		}
+		scheduler.submitBatches(batches, this::collectDeviceBatch);
+		if (calculatingQrcStatusPollingInterval() > 0 && qrcChangeGroupMonitor == null) {
+			scheduler.startStatusPolling();
 		}
 
 		--localPollingInterval;
 	}
 
+	/**
+	 * Collect the controls of a batch of devices, run by a thread of {@link #deviceCollectionScheduler}
+	 *
+	 * @param deviceIds list device id of the batch
+	 */
+	private void collectDeviceBatch(List<String> deviceIds) {
+		// next line will determine whether QSYS monitoring was paused
+		updateAggregatorStatus();
+		if (devicePaused || deviceMap.isEmpty()) {
+			return;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Fetching aggregated devices statuses for device list: " + String.join(",", deviceIds));
+		}
+		long currentTimestamp = System.currentTimeMillis();
+		int requestedDeviceCount = retrieveAggregatedDeviceByIdList(deviceIds);
+		// Only scheduled batches are measured, they are what the collection is sized for
+		adaptivePollingController.recordBatch(requestedDeviceCount, System.currentTimeMillis() - currentTimestamp);
+		publishAggregatedDeviceSnapshot();
+		lastMonitoringCycleDuration = Math.max((System.currentTimeMillis() - currentTimestamp) / 1000, 1L);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Finished collecting devices statistics cycle at " + new Date() + ", total duration: " + lastMonitoringCycleDuration);
+		}
+	}
+
 	/**
 	 * This method is used to handle gain input from adapter properties and convert it to String array of named gain components for control
 	 *
@@ -2138,28 +3269,136 @@ public class QSYSCoreAggregatorCommunicator extends RestCommunicator implements
 	}
 
 	/**
-	 * Converts a channel name into its corresponding index representation as a string.
-	 * The method removes the prefix defined by {@code QSYSCoreConstant.CHANNEL} from the
-	 * input channel name, then converts any letters to their alphabetical index (A=1, B=2, ...)
-	 * and appends digits as-is to form the final index string.
-	 * @param channelName the full channel name string, expected to start with the prefix defined
-	 *                    in {@code QSYSCoreConstant.CHANNEL}, e.g. "ChannelA"
-	 * @return a string representing the channel index where letters are converted to numbers
-	 *         (A=1, B=2, ...) and digits are preserved; returns an empty string if
-	 *         {@code channelName} is null or does not contain any letters/digits after the prefix
+	 * Retrieves a part of the aggregator statistics
+	 */
+	@FunctionalInterface
+	private interface StatisticsRetriever {
+		/**
+		 * Retrieve the statistics
+		 *
+		 * @param stats Map store the statistics of the stage
+		 * @throws Exception if the statistics can not be retrieved
+		 */
+		void retrieve(Map<String, String> stats) throws Exception;
+	}
+
+	/**
+	 * Stage of the aggregator statistics run in parallel with the other stages
 	 */
-	private String convertChannelNameToIndex(String channelName) {
-		String valuePart = channelName.replaceFirst("^" + QSYSCoreConstant.CHANNEL, "");
-		StringBuilder result = new StringBuilder();
+	private static class StatisticsStage {
+		private final long timeout;
+		private final StatisticsRetriever retriever;
 
-		for (char c : valuePart.toCharArray()) {
-			if (Character.isLetter(c)) {
-				int num = Character.toUpperCase(c) - 'A' + 1;
-				result.append(num);
-			} else if (Character.isDigit(c)) {
-				result.append(c);
-			}
+		/**
+		 * StatisticsStage with arg constructor
+		 *
+		 * @param timeout time in milliseconds the stage may take
+		 * @param retriever retrieves the statistics of the stage
+		 */
+		StatisticsStage(long timeout, StatisticsRetriever retriever) {
+			this.timeout = timeout;
+			this.retriever = retriever;
+		}
+	}
+
+	/**
+	 * Controls of a list of properties grouped by the component they are sent to
+	 */
+	static class ControlPlan {
+		private final Map<String, List<PendingControl>> deviceControls = new LinkedHashMap<>();
+		private final Map<String, List<PendingGainControl>> gainControls = new LinkedHashMap<>();
+		private final List<Exception> errors = new ArrayList<>();
+
+		/**
+		 * Retrieves {@link #deviceControls}
+		 *
+		 * @return controls by aggregated device id
+		 */
+		Map<String, List<PendingControl>> getDeviceControls() {
+			return deviceControls;
+		}
+
+		/**
+		 * Retrieves {@link #gainControls}
+		 *
+		 * @return controls by gain component name
+		 */
+		Map<String, List<PendingGainControl>> getGainControls() {
+			return gainControls;
+		}
+
+		/**
+		 * Retrieves {@link #errors}
+		 *
+		 * @return errors of the properties that can not be controlled
+		 */
+		List<Exception> getErrors() {
+			return errors;
+		}
+	}
+
+	/**
+	 * Control of an aggregated device waiting to be sent to the core
+	 */
+	static class PendingControl {
+		private final QSYSPeripheralDevice device;
+		private final ControlRoutingTable.Route route;
+		private final String property;
+		private final String value;
+
+		/**
+		 * PendingControl with arg constructor
+		 *
+		 * @param device controlled device
+		 * @param route route of the controlled property
+		 * @param property name of the controlled property
+		 * @param value value of the control
+		 */
+		PendingControl(QSYSPeripheralDevice device, ControlRoutingTable.Route route, String property, String value) {
+			this.device = device;
+			this.route = route;
+			this.property = property;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Control of a gain component waiting to be sent
+	 */
+	static class PendingGainControl {
+		private final GainControllingMetric metric;
+		private final String property;
+		private final String value;
+
+		/**
+		 * PendingGainControl with arg constructor
+		 *
+		 * @param metric controlled metric of the gain component
+		 * @param property name of the controlled property
+		 * @param value value of the control
+		 */
+		PendingGainControl(GainControllingMetric metric, String property, String value) {
+			this.metric = metric;
+			this.property = property;
+			this.value = value;
+		}
+
+		/**
+		 * Retrieves {@link #metric}
+		 *
+		 * @return controlled metric of the gain component
+		 */
+		GainControllingMetric getMetric() {
+			return metric;
+		}
+
+		/**
+		 * Retrieves {@link #value}
+		 *
+		 * @return value of the control
+		 */
+		String getValue() {
+			return value;
 		}
-		return result.toString();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import com.avispl.symphony.api.common.error.NotModifiedException;
+
+/**
+ * RestMetadataCache keeps the responses of the core REST endpoints whose data rarely changes, so they are not requested
+ * on every monitoring cycle. A response is reused until its time to live expires, then it is revalidated with
+ * If-None-Match when the core returned an ETag, and a 304 response renews the cached body.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class RestMetadataCache {
+	private final Log logger = LogFactory.getLog(this.getClass());
+
+	/**
+	 * Cached response of every url
+	 */
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Request sent when the cached response of an url expired
+	 */
+	interface ConditionalRequest {
+		/**
+		 * Send the GET request
+		 *
+		 * @param url url of the endpoint
+		 * @param eTag ETag of the cached response to send as If-None-Match, null if there is none
+		 * @return response of the endpoint
+		 * @throws NotModifiedException if the core answers 304 to the If-None-Match header
+		 * @throws Exception if the request fail
+		 */
+		ResponseEntity<String> send(String url, String eTag) throws Exception;
+	}
+
+	/**
+	 * Retrieve the response of the endpoint, from the cache while it is not expired
+	 *
+	 * @param url url of the endpoint
+	 * @param timeToLive time in milliseconds the response is reused, 0 to request the endpoint every time
+	 * @param request request sent when the cached response expired
+	 * @return body of the response
+	 * @throws Exception if the request fail
+	 */
+	String get(String url, long timeToLive, ConditionalRequest request) throws Exception {
+		long currentTimestamp = System.currentTimeMillis();
+		Entry entry = entries.get(url);
+		if (entry != null && currentTimestamp < entry.expirationTimestamp) {
+			return entry.body;
+		}
+		try {
+			ResponseEntity<String> response = request.send(url, entry == null ? null : entry.eTag);
+			String body = response.getBody();
+			if (timeToLive > 0) {
+				entries.put(url, new Entry(body, response.getHeaders().getFirst(HttpHeaders.ETAG), currentTimestamp + timeToLive));
+			} else {
+				entries.remove(url);
+			}
+			return body;
+		} catch (NotModifiedException e) {
+			if (entry == null) {
+				throw e;
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Cached response is not modified: " + url);
+			}
+			entries.put(url, new Entry(entry.body, entry.eTag, currentTimestamp + timeToLive));
+			return entry.body;
+		}
+	}
+
+	/**
+	 * Drop all cached responses, so every endpoint is requested again
+	 */
+	void invalidate() {
+		entries.clear();
+	}
+
+	/**
+	 * Cached response of an url
+	 */
+	private static class Entry {
+		private final String body;
+		private final String eTag;
+		private final long expirationTimestamp;
+
+		Entry(String body, String eTag, long expirationTimestamp) {
+			this.body = body;
+			this.eTag = eTag;
+			this.expirationTimestamp = expirationTimestamp;
+		}
+	}
+}
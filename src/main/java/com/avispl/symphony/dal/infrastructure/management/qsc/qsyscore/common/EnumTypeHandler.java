@@ -4,10 +4,8 @@
 
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common;
 
-import java.lang.reflect.Method;
-
 /**
- * EnumTypeHandler class provides functions using for any class
+ * EnumTypeHandler class provides functions using for any class, the constants of every enum are looked up through a {@link MetricIndex}
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 7/4/2023
@@ -15,6 +13,28 @@ import java.lang.reflect.Method;
  */
 public class EnumTypeHandler {
 
+	/**
+	 * Index of every metric enum, built the first time the enum is looked up
+	 */
+	private static final ClassValue<MetricIndex<?>> METRIC_INDEXES = new ClassValue<MetricIndex<?>>() {
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		protected MetricIndex<?> computeValue(Class<?> type) {
+			return new MetricIndex(type);
+		}
+	};
+
+	/**
+	 * Retrieve the index of a metric enum
+	 *
+	 * @param enumType the enumType is enum class
+	 * @return index of the enum
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Enum<T>> MetricIndex<T> getMetricIndex(Class<T> enumType) {
+		return (MetricIndex<T>) METRIC_INDEXES.get(enumType);
+	}
+
 	/**
 	 * Get metric name of enum by name
 	 *
@@ -23,28 +43,19 @@ public class EnumTypeHandler {
 	 * @return T is metric instance
 	 */
 	public static <T extends Enum<T>> T getMetricByPropertyName(Class<T> enumType, String propertyName) {
-		T enumTypeValue = null;
-		try {
-			for (T c : enumType.getEnumConstants()) {
-				Method methodName = c.getClass().getMethod("getProperty");
-				String nameMetric = String.valueOf(methodName.invoke(c));
-				String[] splitProperty = nameMetric.split("%s");
-				if (splitProperty.length < 2 && nameMetric.equalsIgnoreCase(propertyName)) {
-					enumTypeValue = c;
-					break;
-				}
-				try {
-					Integer.parseInt(propertyName.replace(splitProperty[0], QSYSCoreConstant.EMPTY).replace(splitProperty[1], QSYSCoreConstant.EMPTY));
-					enumTypeValue = c;
-					break;
-				} catch (Exception e) {
-					continue;
-				}
-			}
-			return enumTypeValue;
-		} catch (Exception e) {
-			return null;
-		}
+		MetricIndex.Match<T> match = getMetricIndex(enumType).matchProperty(propertyName);
+		return match == null ? null : match.getMetric();
+	}
+
+	/**
+	 * Get metric and channel index of enum by control name
+	 *
+	 * @param enumType the enumType is enum class
+	 * @param propertyName is String
+	 * @return match of the metric instance and the channel index, null if no metric matches
+	 */
+	public static <T extends Enum<T>> MetricIndex.Match<T> matchMetricByPropertyName(Class<T> enumType, String propertyName) {
+		return getMetricIndex(enumType).matchProperty(propertyName);
 	}
 
 	/**
@@ -55,18 +66,7 @@ public class EnumTypeHandler {
 	 * @return T is metric instance
 	 */
 	public static <T extends Enum<T>> T getMetricByName(Class<T> enumType, String name) {
-		try {
-			for (T c : enumType.getEnumConstants()) {
-				Method methodName = c.getClass().getMethod("getProperty");
-				String nameMetric = String.valueOf(methodName.invoke(c));
-				if (nameMetric.equalsIgnoreCase(name)) {
-					return c;
-				}
-			}
-		} catch (Exception e) {
-			return null;
-		}
-		return null;
+		return getMetricIndex(enumType).findByProperty(name);
 	}
 
 	/**
@@ -77,17 +77,6 @@ public class EnumTypeHandler {
 	 * @return T is metric instance
 	 */
 	public static <T extends Enum<T>> T getPropertiesByName(Class<T> enumType, String name) {
-		try {
-			for (T c : enumType.getEnumConstants()) {
-				Method methodName = c.getClass().getMethod("getMetric");
-				String nameMetric = String.valueOf(methodName.invoke(c));
-				if (nameMetric.equalsIgnoreCase(name)) {
-					return c;
-				}
-			}
-		} catch (Exception e) {
-			return null;
-		}
-		return null;
+		return getMetricIndex(enumType).findByMetric(name);
 	}
 }
\ No newline at end of file
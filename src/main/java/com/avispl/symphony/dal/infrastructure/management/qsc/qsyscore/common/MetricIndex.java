@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * MetricIndex looks up the constants of a metric enum by the control name of the core, it is built once per enum.
+ * Control names without a {@code %s} placeholder are kept in hash maps, templates such as {@code channel.%s.gain}
+ * are matched by their prefix and suffix and return the channel index found between them.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class MetricIndex<T extends Enum<T>> {
+	private static final String PLACEHOLDER = "%s";
+
+	private final Map<String, T> propertyIndex = new HashMap<>();
+	private final Map<String, T> exactPropertyIndex = new HashMap<>();
+	private final Map<String, T> metricIndex = new HashMap<>();
+	private final List<Template<T>> templates = new ArrayList<>();
+
+	/**
+	 * Build the index of the enum, the getProperty and getMetric methods are read once for every constant
+	 *
+	 * @param enumType enum class
+	 */
+	MetricIndex(Class<T> enumType) {
+		Method propertyMethod = findMethod(enumType, "getProperty");
+		Method metricMethod = findMethod(enumType, "getMetric");
+		for (T constant : enumType.getEnumConstants()) {
+			String property = invoke(propertyMethod, constant);
+			if (property != null) {
+				propertyIndex.putIfAbsent(property.toLowerCase(Locale.ROOT), constant);
+				String[] splitProperty = property.split(PLACEHOLDER);
+				if (splitProperty.length < 2) {
+					exactPropertyIndex.putIfAbsent(property.toLowerCase(Locale.ROOT), constant);
+				} else {
+					templates.add(new Template<>(constant, splitProperty[0], splitProperty[1]));
+				}
+			}
+			String metric = invoke(metricMethod, constant);
+			if (metric != null) {
+				metricIndex.putIfAbsent(metric.toLowerCase(Locale.ROOT), constant);
+			}
+		}
+	}
+
+	/**
+	 * Find the constant whose property equals the control name ignoring case, or whose property template matches the control name
+	 *
+	 * @param propertyName control name
+	 * @return match of the constant first in the enum order, null if no constant matches
+	 */
+	public Match<T> matchProperty(String propertyName) {
+		if (propertyName == null) {
+			return null;
+		}
+		T exactConstant = exactPropertyIndex.get(propertyName.toLowerCase(Locale.ROOT));
+		for (Template<T> template : templates) {
+			if (exactConstant != null && exactConstant.ordinal() < template.constant.ordinal()) {
+				break;
+			}
+			Integer channelIndex = template.match(propertyName);
+			if (channelIndex != null) {
+				return new Match<>(template.constant, channelIndex);
+			}
+		}
+		return exactConstant == null ? null : new Match<>(exactConstant, null);
+	}
+
+	/**
+	 * Find the constant whose property equals the name ignoring case, a template is compared with its placeholder
+	 *
+	 * @param name control name
+	 * @return constant, null if no constant matches
+	 */
+	public T findByProperty(String name) {
+		return name == null ? null : propertyIndex.get(name.toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * Find the constant whose metric equals the name ignoring case
+	 *
+	 * @param name metric name
+	 * @return constant, null if no constant matches
+	 */
+	public T findByMetric(String name) {
+		return name == null ? null : metricIndex.get(name.toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * Find a public method without parameters of the enum
+	 *
+	 * @param enumType enum class
+	 * @param methodName name of the method
+	 * @return method, null if the enum does not have it
+	 */
+	private static Method findMethod(Class<?> enumType, String methodName) {
+		try {
+			return enumType.getMethod(methodName);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Invoke a method of a constant
+	 *
+	 * @param method method to invoke, may be null
+	 * @param constant enum constant
+	 * @return value of the method as string, null if the method is missing or fails
+	 */
+	private static String invoke(Method method, Object constant) {
+		if (method == null) {
+			return null;
+		}
+		try {
+			return String.valueOf(method.invoke(constant));
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Property template of a constant with a channel index placeholder
+	 */
+	private static class Template<T> {
+		private final T constant;
+		private final String prefix;
+		private final String suffix;
+
+		Template(T constant, String prefix, String suffix) {
+			this.constant = constant;
+			this.prefix = prefix;
+			this.suffix = suffix;
+		}
+
+		/**
+		 * Match the control name with the template
+		 *
+		 * @param name control name
+		 * @return channel index between the prefix and the suffix, null if the name does not match
+		 */
+		Integer match(String name) {
+			int end = name.length() - suffix.length();
+			if (end < prefix.length() || !name.startsWith(prefix) || !name.endsWith(suffix)) {
+				return null;
+			}
+			return parseChannelIndex(name, prefix.length(), end);
+		}
+
+		/**
+		 * Parse a decimal integer without creating a string or throwing
+		 *
+		 * @param text text containing the number
+		 * @param start index of the first character
+		 * @param end index after the last character
+		 * @return number, null if the range is not a decimal integer in the int range
+		 */
+		private static Integer parseChannelIndex(String text, int start, int end) {
+			boolean negative = false;
+			if (start < end && (text.charAt(start) == '-' || text.charAt(start) == '+')) {
+				negative = text.charAt(start) == '-';
+				start++;
+			}
+			if (start >= end) {
+				return null;
+			}
+			long value = 0;
+			for (int i = start; i < end; i++) {
+				char c = text.charAt(i);
+				if (c < '0' || c > '9') {
+					return null;
+				}
+				value = value * 10 + (c - '0');
+				if (value > (long) Integer.MAX_VALUE + 1) {
+					return null;
+				}
+			}
+			value = negative ? -value : value;
+			return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? null : (int) value;
+		}
+	}
+
+	/**
+	 * Constant matched by a control name and the channel index found in the name
+	 */
+	public static class Match<T> {
+		private final T metric;
+		private final Integer channelIndex;
+
+		Match(T metric, Integer channelIndex) {
+			this.metric = metric;
+			this.channelIndex = channelIndex;
+		}
+
+		/**
+		 * Retrieves {@link #metric}
+		 *
+		 * @return matched constant
+		 */
+		public T getMetric() {
+			return metric;
+		}
+
+		/**
+		 * Retrieves {@link #channelIndex}
+		 *
+		 * @return channel index found in the control name, null if the constant matched without a template
+		 */
+		public Integer getChannelIndex() {
+			return channelIndex;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common;
+
+/**
+ * QRCMonitoringMode store all modes of retrieving the controls of aggregated devices over QRC
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public enum QRCMonitoringMode {
+	/**
+	 * All controls of every device are requested with Component.GetControls each cycle
+	 */
+	POLL("Poll"),
+	/**
+	 * Controls are registered in a change group once, each cycle only the changed controls are requested with ChangeGroup.Poll
+	 */
+	CHANGE_GROUP("ChangeGroup"),
+	/**
+	 * Controls are registered in a change group once and the core pushes the changed controls with ChangeGroup.AutoPoll
+	 */
+	AUTO_POLL("AutoPoll");
+
+	private final String name;
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param name Name of mode
+	 */
+	QRCMonitoringMode(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get mode by name, {@link #POLL} is returned if no mode matches
+	 *
+	 * @param name name of mode
+	 * @return Enum of QRCMonitoringMode
+	 */
+	public static QRCMonitoringMode getByName(String name) {
+		for (QRCMonitoringMode mode : values()) {
+			if (mode.getName().equalsIgnoreCase(name == null ? null : name.trim())) {
+				return mode;
+			}
+		}
+		return POLL;
+	}
+}
@@ -18,6 +18,31 @@ import java.util.Set;
 public class QSYSCoreConstant {
 
 	public static final int QRC_PORT = 1710;
+	public static final int QRC_KEEP_ALIVE_INTERVAL = 30000;
+	public static final int QRC_KEEP_ALIVE_TIMEOUT = 5000;
+	public static final int QRC_MAX_CONSECUTIVE_TIMEOUTS = 3;
+	public static final int DEFAULT_QRC_CONNECTION_POOL_SIZE = 4;
+	public static final int DEFAULT_QRC_BATCH_SIZE = 1;
+	public static final int DEFAULT_QRC_STATUS_POLLING_INTERVAL = 0;
+	public static final int MIN_QRC_STATUS_POLLING_INTERVAL = 5;
+	public static final long MIN_QRC_STATUS_POLLING_DELAY = 1000;
+	public static final int DEFAULT_QRC_DISCOVERY_INTERVAL = 1800;
+	public static final int MIN_QRC_DISCOVERY_INTERVAL = 60;
+	public static final String CORE_INFO_ENDPOINT = "CoreInfo";
+	public static final String NETWORK_ENDPOINT = "Network";
+	public static final String REDUNDANCY_ENDPOINT = "Redundancy";
+	public static final String DEFAULT_CORE_METADATA_CACHE_TTL = "CoreInfo:60,Network:600,Redundancy:300";
+	public static final String DESIGN_STAGE = "Design";
+	public static final int STATISTICS_STAGE_QUANTITY = 4;
+	public static final long STATISTICS_STAGE_TIMEOUT_MARGIN = 1000;
+	public static final long QRC_STATUS_STAGE_TIMEOUT = 10000;
+	public static final int CONTROL_DISPATCHER_THREADS = 4;
+	public static final long CONTROL_TIMEOUT = 30000;
+	public static final int DEFAULT_DELTA_FULL_SYNC_INTERVAL = 600;
+	public static final int MIN_DELTA_FULL_SYNC_INTERVAL = 60;
+	public static final int QRC_CONNECTION_FAILURE_BACKOFF = 5000;
+	public static final int QRC_CONNECTION_HEALTH_CHECK_INTERVAL = 30000;
+	public static final long IDLE_THREAD_KEEP_ALIVE = 60000;
 	public static final int MIN_PORT = 1;
 	public static final int MAX_PORT = 65535;
 	public static final String AUTHORIZED = "Authorized";
@@ -38,6 +63,7 @@ public class QSYSCoreConstant {
 	public static final String GAIN = "Gain";
 	public static final String GAIN_TYPE = "gain";
 	public static final String DEFAUL_DATA = "None";
+	public static final String DATA = "data";
 	public static final String NOT_AVAILABLE = "N/A";
 	public static final String FORMAT_STRING = "%s";
 	public static final String DB_UNIT = "dB";
@@ -56,9 +82,6 @@ public class QSYSCoreConstant {
 	public static final String REDUNDANCY = "Redundancy";
 	public static final String NUMBER_OF_DEVICE = "MonitoredDevicesTotal";
 	public static final String GAIN_CURRENT_VALUE = "GainCurrentValue(dB)";
-	public static final String CMD_RESULT = "\"result\"";
-	public static final String CMD_METHOD = "\"method\"";
-	public static final String CMD_ERROR = "\"error\"";
 	public static final String SPECIAL_CHARS_PATTERN = ".*[~!@#$%^&\\\\'].*|.*<(\\?).*|.*(\\<)(\\/).*";
 
 	// Message
@@ -127,6 +150,7 @@ public class QSYSCoreConstant {
 	public static final int MAX_THREAD_QUANTITY = 8;
 	public static final int MIN_THREAD_QUANTITY = 1;
 	public static final int MAX_DEVICE_QUANTITY_PER_THREAD = 60;
+	public static final int MAX_ADAPTIVE_DEVICE_QUANTITY_PER_THREAD = 1000;
 	public static final int MIN_POLLING_INTERVAL = 1;
 
 	//Control response
@@ -136,12 +160,22 @@ public class QSYSCoreConstant {
 	public static final String CONTROL_VALUE_MIN = "ValueMin";
 	public static final String CONTROL_VALUE_MAX = "ValueMax";
 	public static final String RESULT = "result";
+	public static final String ERROR = "error";
+	public static final String ID = "id";
 	public static final String CONTROLS = "Controls";
 	public static final String CONTROL_NAME = "Name";
 	public static final String CONTROL_VALUE_STRING = "String";
 	public static final String CONTROL_TYPE = "Type";
 	public static final String TYPE_FLOAT = "Float";
 	public static final String TYPE_BOOLEAN = "Boolean";
+	public static final String CHANGES = "Changes";
+	public static final String COMPONENT = "Component";
+	public static final String CHANGE_GROUP_ID_PREFIX = "SymphonyMonitoring-";
+	public static final String CHANGE_GROUP_ID = "Id";
+	public static final String METHOD = "method";
+	public static final String PARAMS = "params";
+	public static final double DEFAULT_AUTO_POLL_RATE = 1.0;
+	public static final double MIN_AUTO_POLL_RATE = 0.1;
 
 	// Device Type
 	public static final String PROCESSOR_TYPE = "Processor";
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
+
+/**
+ * QRCControlSink receives the controls of a Component.GetControls response one by one,
+ * so the response can be mapped without building a JSON tree of the whole controls array
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public interface QRCControlSink {
+	/**
+	 * Start receiving controls of a component
+	 *
+	 * @param componentName name of the component in the response, null if the response has no name
+	 */
+	void beginControls(String componentName);
+
+	/**
+	 * Receive a control of the component, the control instance may be reused after the method returns
+	 *
+	 * @param control control with a non-null name
+	 */
+	void onControl(QRCControl control);
+
+	/**
+	 * All controls of the component were received
+	 */
+	void endControls();
+}
@@ -5,10 +5,13 @@
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
@@ -17,6 +20,7 @@ import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty.Drop
 import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty.Slider;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.DeviceMetric;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -26,13 +30,39 @@ import com.avispl.symphony.dal.util.StringUtils;
  * Created on 6/15/2023
  * @since 1.0.0
  */
-public abstract class QSYSPeripheralDevice implements DeviceBehavior {
+public abstract class QSYSPeripheralDevice implements DeviceBehavior, QRCControlSink {
 	private Map<String, String> stats;
 	private List<AdvancedControllableProperty> advancedControllableProperties;
+
+	/**
+	 * Controllable properties of {@link #advancedControllableProperties} by name
+	 */
+	private final Map<String, AdvancedControllableProperty> advancedControllablePropertyIndex = new HashMap<>();
 	private String name;
 	private String type;
 	private String id;
 
+	/**
+	 * Name of the component in the Component.GetControls response being received
+	 */
+	private String componentName;
+
+	/**
+	 * Type of every control received with its type, by control name. Component.Get responses have no type,
+	 * the type of their controls is taken from here.
+	 */
+	private final Map<String, String> controlTypes = new HashMap<>();
+
+	/**
+	 * Version of the monitoring data, increased every time the statistics or the values of the controllable properties change
+	 */
+	private final AtomicLong stateVersion = new AtomicLong();
+
+	/**
+	 * Hash of the statistics and the values of the controllable properties at {@link #stateVersion}
+	 */
+	private long stateHash = calculatingStateHash(Collections.emptyMap(), Collections.emptyList());
+
 	/**
 	 * Retrieves {@link #type}
 	 *
@@ -85,6 +115,10 @@ public abstract class QSYSPeripheralDevice implements DeviceBehavior {
 	 */
 	public void setAdvancedControllableProperties(List<AdvancedControllableProperty> advancedControllableProperties) {
 		this.advancedControllableProperties = advancedControllableProperties;
+		advancedControllablePropertyIndex.clear();
+		for (AdvancedControllableProperty property : advancedControllableProperties) {
+			advancedControllablePropertyIndex.putIfAbsent(property.getName(), property);
+		}
 	}
 
 	/**
@@ -131,6 +165,204 @@ public abstract class QSYSPeripheralDevice implements DeviceBehavior {
 		advancedControllableProperties = new ArrayList<>();
 	}
 
+	/**
+	 * Retrieves {@link #componentName}
+	 *
+	 * @return value of {@link #componentName}
+	 */
+	public String getComponentName() {
+		return componentName;
+	}
+
+	/**
+	 * Retrieves {@link #stateVersion}
+	 *
+	 * @return value of {@link #stateVersion}
+	 */
+	public long getStateVersion() {
+		return stateVersion.get();
+	}
+
+	/**
+	 * Increase {@link #stateVersion} after the statistics or the controllable properties were updated, the version is kept
+	 * if the update left the statistics and the values of the controllable properties as they were.
+	 * Must be called while the device is locked.
+	 */
+	public void markStateChanged() {
+		long hash = calculatingStateHash(this.getStats(), this.getAdvancedControllableProperties());
+		if (hash != stateHash) {
+			stateHash = hash;
+			stateVersion.incrementAndGet();
+		}
+	}
+
+	/**
+	 * calculating hash of the statistics and of the names and values of the controllable properties
+	 *
+	 * @param stats statistics of the device
+	 * @param advancedControllableProperties controllable properties of the device
+	 * @return hash of the statistics in the high half and of the controllable properties in the low half
+	 */
+	private static long calculatingStateHash(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		int controlHash = 1;
+		for (AdvancedControllableProperty property : advancedControllableProperties) {
+			controlHash = 31 * controlHash + Objects.hashCode(property.getName());
+			controlHash = 31 * controlHash + Objects.hashCode(property.getValue());
+		}
+		return ((long) stats.hashCode() << 32) | (controlHash & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Get all monitoring of device from a Component.GetControls response tree.
+	 * A response without controls, ex: an error response, keeps the monitoring data of the previous response.
+	 *
+	 * @param deviceControl list all control of device
+	 */
+	@Override
+	public void monitoringDevice(JsonNode deviceControl) {
+		JsonNode result = deviceControl.get(QSYSCoreConstant.RESULT);
+		if (result == null || !result.hasNonNull(QSYSCoreConstant.CONTROLS)) {
+			return;
+		}
+		beginControls(result.hasNonNull(QSYSCoreConstant.CONTROL_NAME) ? result.get(QSYSCoreConstant.CONTROL_NAME).asText() : null);
+		for (JsonNode control : result.get(QSYSCoreConstant.CONTROLS)) {
+			if (control.hasNonNull(QSYSCoreConstant.CONTROL_NAME)) {
+				QRCControl qrcControl = QRCControl.fromJson(control);
+				resolveControlType(qrcControl);
+				onControl(qrcControl);
+			}
+		}
+		endControls();
+	}
+
+	/**
+	 * Clear the monitoring data before the controls of the device are received
+	 *
+	 * @param componentName name of the component in the response
+	 */
+	@Override
+	public void beginControls(String componentName) {
+		this.componentName = componentName;
+		this.getStats().clear();
+		clearAdvancedControllableProperties();
+	}
+
+	/**
+	 * Update the status messages after all controls of the device are received
+	 */
+	@Override
+	public void endControls() {
+		updateStatusMessage();
+		markStateChanged();
+	}
+
+	/**
+	 * Retrieve the status controls of the device, by the name of the statistic each control is monitored as
+	 *
+	 * @return status controls of the device, empty if the device has no status control
+	 */
+	protected Map<String, String> getStatusControls() {
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * Retrieve the names of the controls requested by the status polling between the full refreshes of the device.
+	 * Only controls whose statistic was received in the last full refresh are returned, so the core is not asked for
+	 * a control the component does not have.
+	 *
+	 * @return names of the status controls, empty if the device has no status control
+	 */
+	public List<String> getStatusControlNames() {
+		Map<String, String> statusControls = getStatusControls();
+		if (statusControls.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<String> controlNames = new ArrayList<>(statusControls.size());
+		statusControls.forEach((metricName, controlName) -> {
+			if (this.getStats().containsKey(metricName)) {
+				controlNames.add(controlName);
+			}
+		});
+		return controlNames;
+	}
+
+	/**
+	 * Start receiving the status controls of the device, the monitoring data of the last full refresh is kept
+	 *
+	 * @param componentName name of the component in the response
+	 */
+	public void beginStatusControls(String componentName) {
+		this.componentName = componentName;
+	}
+
+	/**
+	 * Keep the type of a control received with its type, or set the type kept for a control received without it
+	 *
+	 * @param control received control
+	 */
+	private void resolveControlType(QRCControl control) {
+		if (control.getType() != null) {
+			controlTypes.put(control.getName(), control.getType());
+		} else {
+			control.setType(controlTypes.get(control.getName()));
+		}
+	}
+
+	/**
+	 * Create a sink receiving all controls of the device, used for Component.GetControls responses.
+	 * The type of every control is kept for the Component.Get responses of the device.
+	 *
+	 * @return sink of all controls
+	 */
+	public QRCControlSink createControlSink() {
+		return new QRCControlSink() {
+			@Override
+			public void beginControls(String componentName) {
+				QSYSPeripheralDevice.this.beginControls(componentName);
+			}
+
+			@Override
+			public void onControl(QRCControl control) {
+				resolveControlType(control);
+				QSYSPeripheralDevice.this.onControl(control);
+			}
+
+			@Override
+			public void endControls() {
+				QSYSPeripheralDevice.this.endControls();
+			}
+		};
+	}
+
+	/**
+	 * Create a sink updating only the statistics of the controls it receives, used for Component.Get responses
+	 * of the status controls and of the confirmed controls. A Component.Get response has no control type, the type
+	 * received for the control by the last Component.GetControls response is used, so Float and Boolean controls
+	 * are read the same way as in a full refresh.
+	 *
+	 * @return sink of the status controls
+	 */
+	public QRCControlSink createStatusControlSink() {
+		return new QRCControlSink() {
+			@Override
+			public void beginControls(String componentName) {
+				beginStatusControls(componentName);
+			}
+
+			@Override
+			public void onControl(QRCControl control) {
+				resolveControlType(control);
+				QSYSPeripheralDevice.this.onControl(control);
+			}
+
+			@Override
+			public void endControls() {
+				updateStatusMessage();
+				markStateChanged();
+			}
+		};
+	}
+
 	public void updateStatusMessage() {
 		String deviceStatus = this.getStats().get(QSYSCoreConstant.STATUS);
 		if (deviceStatus != null) {
@@ -177,15 +409,40 @@ public abstract class QSYSPeripheralDevice implements DeviceBehavior {
 	 */
 	public void addAdvancedControlProperties(List<AdvancedControllableProperty> advancedControllableProperties, Map<String, String> stats, AdvancedControllableProperty property, String value) {
 		if (property != null) {
-			advancedControllableProperties.removeIf(controllableProperty -> controllableProperty.getName().equals(property.getName()));
+			// The list of the device is indexed by name, so it is only scanned when the property replaces an existing one
+			boolean indexed = advancedControllableProperties == this.advancedControllableProperties;
+			if (!indexed || advancedControllablePropertyIndex.containsKey(property.getName())) {
+				advancedControllableProperties.removeIf(controllableProperty -> controllableProperty.getName().equals(property.getName()));
+			}
 
 			String propertyValue = StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.EMPTY;
 			stats.put(property.getName(), propertyValue);
 
 			advancedControllableProperties.add(property);
+			if (indexed) {
+				advancedControllablePropertyIndex.put(property.getName(), property);
+			}
 		}
 	}
 
+	/**
+	 * Retrieve a controllable property of the device by name
+	 *
+	 * @param name name of the controllable property
+	 * @return controllable property, null if the device has no property with the name
+	 */
+	public AdvancedControllableProperty getAdvancedControllableProperty(String name) {
+		return advancedControllablePropertyIndex.get(name);
+	}
+
+	/**
+	 * Remove all controllable properties of the device
+	 */
+	private void clearAdvancedControllableProperties() {
+		this.getAdvancedControllableProperties().clear();
+		advancedControllablePropertyIndex.clear();
+	}
+
 	/**
 	 * Create switch is control property for metric
 	 *
@@ -258,11 +515,11 @@ public abstract class QSYSPeripheralDevice implements DeviceBehavior {
 	 * @param control containing the control name used for formatting.
 	 * @return the formatted metric name.
 	 */
-	public String getFormattedMetricName(DeviceMetric metric, JsonNode control) {
+	public String getFormattedMetricName(DeviceMetric metric, QRCControl control) {
 		String[] splitProperty = metric.getProperty().split(QSYSCoreConstant.FORMAT_STRING);
 		if (splitProperty.length > 1) {
 			return String.format(metric.getMetric(),
-					control.get(QSYSCoreConstant.CONTROL_NAME).asText()
+					control.getName()
 							.replace(splitProperty[0], QSYSCoreConstant.EMPTY)
 							.replace(splitProperty[1], QSYSCoreConstant.EMPTY));
 		}
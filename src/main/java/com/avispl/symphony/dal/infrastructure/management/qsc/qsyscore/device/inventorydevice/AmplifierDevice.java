@@ -13,7 +13,6 @@ import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
@@ -21,6 +20,7 @@ import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.Amp
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.EnumTypeHandler;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -30,6 +30,21 @@ import com.avispl.symphony.dal.util.StringUtils;
  * @since 1.1.0
  */
 public class AmplifierDevice extends QSYSPeripheralDevice {
+	/**
+	 * Status controls of the device by the statistic they are monitored as
+	 */
+	private static final Map<String, String> STATUS_CONTROLS = ImmutableMap.of(
+			AmplifierDeviceMetric.STATUS.getMetric(), AmplifierDeviceMetric.STATUS.getProperty(),
+			AmplifierDeviceMetric.STATUS_LED.getMetric(), AmplifierDeviceMetric.STATUS_LED.getProperty());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, String> getStatusControls() {
+		return STATUS_CONTROLS;
+	}
+
 	/**
 	 * Manage are control of device
 	 *
@@ -38,13 +53,10 @@ public class AmplifierDevice extends QSYSPeripheralDevice {
 	public void controlDevice(QSYSPeripheralDevice device, String property, String value, String metricName) {
 			try {
 				Map<String, String> stats = Optional.ofNullable(device.getStats()).orElse(new HashMap<>());
-				Optional<AmplifierDeviceMetric> optionalMetric = Arrays.stream(AmplifierDeviceMetric.values())
-						.filter(metric -> metric != null && metric.getMetric() != null && metric.getMetric().equalsIgnoreCase(property))
-						.findFirst();
-				if (!optionalMetric.isPresent()) {
+				AmplifierDeviceMetric metric = EnumTypeHandler.getPropertiesByName(AmplifierDeviceMetric.class, property);
+				if (metric == null) {
 					throw new IllegalArgumentException("Error: Can not control this property " + property);
 				}
-				AmplifierDeviceMetric metric = optionalMetric.get();
 				if (METRIC_LIST.contains(metric)) {
 					for (Map.Entry<String, String> entry : UNIT_REPLACEMENTS.entrySet()) {
 						value = value.replace(entry.getKey(), entry.getValue());
@@ -117,128 +129,112 @@ public class AmplifierDevice extends QSYSPeripheralDevice {
 			.build();
 
 	/**
-	 * Get all monitoring of device
+	 * Get monitoring of a control of device
 	 *
-	 * @param deviceControl list all control of device
+	 * @param control control of device
 	 */
 	@Override
-	public void monitoringDevice(JsonNode deviceControl) {
+	public void onControl(QRCControl control) {
 		try {
-			this.getStats().clear();
-			this.getAdvancedControllableProperties().clear();
-
-			if (!deviceControl.hasNonNull(QSYSCoreConstant.RESULT) ||
-					!deviceControl.get(QSYSCoreConstant.RESULT).hasNonNull(QSYSCoreConstant.CONTROLS)) {
+			String controlName = control.getName();
+			AmplifierDeviceMetric metric = EnumTypeHandler.getMetricByPropertyName(AmplifierDeviceMetric.class, controlName);
+			if (metric == null) {
 				return;
 			}
 
-			for (JsonNode control : deviceControl.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS)) {
-				String controlName = Optional.ofNullable(control.get(QSYSCoreConstant.CONTROL_NAME))
-						.map(JsonNode::asText)
-						.orElse(null);
-				if (controlName == null) {
-					continue;
+			String value = control.getString() != null ? control.getString() : QSYSCoreConstant.DEFAUL_DATA;
+			if (METRIC_LIST.contains(metric)) {
+				for (Entry<String, String> entry : UNIT_REPLACEMENTS.entrySet()) {
+					value = value.replace(entry.getKey(), entry.getValue());
 				}
-				AmplifierDeviceMetric metric = EnumTypeHandler.getMetricByPropertyName(AmplifierDeviceMetric.class, controlName);
-				if (metric == null) {
-					continue;
-				}
-
-				String value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE_STRING) ? control.get(QSYSCoreConstant.CONTROL_VALUE_STRING).asText() : QSYSCoreConstant.DEFAUL_DATA;
-				if (METRIC_LIST.contains(metric)) {
-					for (Entry<String, String> entry : UNIT_REPLACEMENTS.entrySet()) {
-						value = value.replace(entry.getKey(), entry.getValue());
-					}
-				}
-				String metricName = getFormattedMetricNameAmplifier(metric, control);
-				switch (metric){
-					case ON_STANDBY:
-						int standByStatus = value.equalsIgnoreCase("on") ? 1 : 0;
-						addAdvancedControlProperties(
-								this.getAdvancedControllableProperties(),
-								getStats(),
-								createSwitch(metricName, standByStatus, QSYSCoreConstant.OFF, QSYSCoreConstant.ON),
-								String.valueOf(standByStatus)
-						);
-						break;
-					case GAIN_LOCK:
-					case MUTE_LOCK:
-					case DISABLE_POWER_SAVE:
-						int status = value.equalsIgnoreCase(QSYSCoreConstant.ENABLED) || value.equalsIgnoreCase(QSYSCoreConstant.TRUE) ? 1 : 0;
-						addAdvancedControlProperties(
-								this.getAdvancedControllableProperties(),
-								getStats(),
-								createSwitch(metricName, status, QSYSCoreConstant.OFF, QSYSCoreConstant.ON),
-								String.valueOf(status)
-						);
-						break;
-					case POWER_METERS:
-						int meterValue = value.equalsIgnoreCase(QSYSCoreConstant.ENABLED) ? 1 : 0;
-						addAdvancedControlProperties(
-								this.getAdvancedControllableProperties(),
-								getStats(),
-								createSwitch(metricName, meterValue, QSYSCoreConstant.OFF, QSYSCoreConstant.ON),
-								String.valueOf(meterValue)
-						);
-						break;
-					case MUTE_ALL:
-					case FRONT_PANEL_DISABLE:
-					case CHANNEL_MUTE:
-						int mute = value.equalsIgnoreCase(QSYSCoreConstant.MUTED) ? 1 : 0;
-						addAdvancedControlProperties(
-								this.getAdvancedControllableProperties(),
-								getStats(),
-								createSwitch(metricName, mute, QSYSCoreConstant.OFF, QSYSCoreConstant.ON),
-								String.valueOf(mute)
-						);
-						break;
-					case METER_SELECT:
-						String[] options = { "Peak", "RMS" };
-						addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createDropdown(metricName, options, value), value);
-						break;
-					case CHANNEL_GAIN:
-						addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createSlider(getStats(),
-								metricName, "-100", "20", -100f, 20f, Float.parseFloat(value)), value);
-						this.getStats().put(getFormattedMetricNameSlider(metricName), value);
-						break;
-					case POWER_SAVE_THRESHOLD:
-						addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createSlider(getStats(),
-								metricName, "-99", "-50", -99.0f, -50.0f, Float.parseFloat(value)), value);
-						this.getStats().put(getFormattedMetricNameSlider(metricName), value);
-						break;
-					case POWER_SAVE_TIMEOUT:
-						addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createSlider(getStats(),
-								metricName, "1", "99", 1.0f, 99.0f, Float.parseFloat(value)), value);
-						this.getStats().put("PowerManagement#PowerSaveTimeoutCurrentValue", value);
-						break;
-					case CHANNEL_VOLTAGE:
-					case CHANNEL_CURRENT:
-					case CHANNEL_POWER:
-					case AC_CURRENT:
-					case AC_VOLTAGE:
-						if (StringUtils.isNotNullOrEmpty(value)) {
-							if (value.matches("^\\.\\d+$")) {
-								value = QSYSCoreConstant.ZERO + value;
-							}
-							this.getStats().put(metricName, value);
-						} else {
-							this.getStats().put(metricName, QSYSCoreConstant.DEFAUL_DATA);
+			}
+			String metricName = getFormattedMetricNameAmplifier(metric, control);
+			switch (metric){
+				case ON_STANDBY:
+					int standByStatus = value.equalsIgnoreCase("on") ? 1 : 0;
+					addAdvancedControlProperties(
+							this.getAdvancedControllableProperties(),
+							getStats(),
+							createSwitch(metricName, standByStatus, QSYSCoreConstant.OFF, QSYSCoreConstant.ON),
+							String.valueOf(standByStatus)
+					);
+					break;
+				case GAIN_LOCK:
+				case MUTE_LOCK:
+				case DISABLE_POWER_SAVE:
+					int status = value.equalsIgnoreCase(QSYSCoreConstant.ENABLED) || value.equalsIgnoreCase(QSYSCoreConstant.TRUE) ? 1 : 0;
+					addAdvancedControlProperties(
+							this.getAdvancedControllableProperties(),
+							getStats(),
+							createSwitch(metricName, status, QSYSCoreConstant.OFF, QSYSCoreConstant.ON),
+							String.valueOf(status)
+					);
+					break;
+				case POWER_METERS:
+					int meterValue = value.equalsIgnoreCase(QSYSCoreConstant.ENABLED) ? 1 : 0;
+					addAdvancedControlProperties(
+							this.getAdvancedControllableProperties(),
+							getStats(),
+							createSwitch(metricName, meterValue, QSYSCoreConstant.OFF, QSYSCoreConstant.ON),
+							String.valueOf(meterValue)
+					);
+					break;
+				case MUTE_ALL:
+				case FRONT_PANEL_DISABLE:
+				case CHANNEL_MUTE:
+					int mute = value.equalsIgnoreCase(QSYSCoreConstant.MUTED) ? 1 : 0;
+					addAdvancedControlProperties(
+							this.getAdvancedControllableProperties(),
+							getStats(),
+							createSwitch(metricName, mute, QSYSCoreConstant.OFF, QSYSCoreConstant.ON),
+							String.valueOf(mute)
+					);
+					break;
+				case METER_SELECT:
+					String[] options = { "Peak", "RMS" };
+					addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createDropdown(metricName, options, value), value);
+					break;
+				case CHANNEL_GAIN:
+					addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createSlider(getStats(),
+							metricName, "-100", "20", -100f, 20f, Float.parseFloat(value)), value);
+					this.getStats().put(getFormattedMetricNameSlider(metricName), value);
+					break;
+				case POWER_SAVE_THRESHOLD:
+					addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createSlider(getStats(),
+							metricName, "-99", "-50", -99.0f, -50.0f, Float.parseFloat(value)), value);
+					this.getStats().put(getFormattedMetricNameSlider(metricName), value);
+					break;
+				case POWER_SAVE_TIMEOUT:
+					addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createSlider(getStats(),
+							metricName, "1", "99", 1.0f, 99.0f, Float.parseFloat(value)), value);
+					this.getStats().put("PowerManagement#PowerSaveTimeoutCurrentValue", value);
+					break;
+				case CHANNEL_VOLTAGE:
+				case CHANNEL_CURRENT:
+				case CHANNEL_POWER:
+				case AC_CURRENT:
+				case AC_VOLTAGE:
+					if (StringUtils.isNotNullOrEmpty(value)) {
+						if (value.matches("^\\.\\d+$")) {
+							value = QSYSCoreConstant.ZERO + value;
 						}
-						break;
-					case CHANNEL_DAC_LIMIT:
-					case CHANNEL_LIMIT:
-					case CHANNEL_OVER_CURRENT:
-					case CHANNEL_POWER_SAVE:
-					case CHANNEL_PROTECT:
-					case CHANNEL_SHORT:
-						this.getStats().put(metricName, StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
-						break;
-					default:
-						this.getStats().put(metricName, StringUtils.isNotNullOrEmpty(value) ? uppercaseFirstCharacter(value) : QSYSCoreConstant.DEFAUL_DATA);
-						break;
-				}
+						this.getStats().put(metricName, value);
+					} else {
+						this.getStats().put(metricName, QSYSCoreConstant.DEFAUL_DATA);
+					}
+					break;
+				case CHANNEL_DAC_LIMIT:
+				case CHANNEL_LIMIT:
+				case CHANNEL_OVER_CURRENT:
+				case CHANNEL_POWER_SAVE:
+				case CHANNEL_PROTECT:
+				case CHANNEL_SHORT:
+					this.getStats().put(metricName, StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
+					break;
+				default:
+					this.getStats().put(metricName, StringUtils.isNotNullOrEmpty(value) ? uppercaseFirstCharacter(value) : QSYSCoreConstant.DEFAUL_DATA);
+					break;
 			}
-			super.updateStatusMessage();
 		}catch (Exception e){
 			throw new ResourceNotReachableException("Error occurred while monitoring device control: " + e.getMessage(), e);
 		}
@@ -251,11 +247,11 @@ public class AmplifierDevice extends QSYSPeripheralDevice {
 	 * @param control containing the control name used for formatting.
 	 * @return the formatted metric name.
 	 */
-	public String getFormattedMetricNameAmplifier(AmplifierDeviceMetric metric, JsonNode control) {
+	public String getFormattedMetricNameAmplifier(AmplifierDeviceMetric metric, QRCControl control) {
 		String[] splitProperty = metric.getProperty().split(QSYSCoreConstant.FORMAT_STRING);
 
 		if (splitProperty.length > 1) {
-			String controlName = control.get(QSYSCoreConstant.CONTROL_NAME).asText();
+			String controlName = control.getName();
 
 			controlName = String.format(metric.getMetric(),
 					controlName.replace(splitProperty[0], QSYSCoreConstant.EMPTY)
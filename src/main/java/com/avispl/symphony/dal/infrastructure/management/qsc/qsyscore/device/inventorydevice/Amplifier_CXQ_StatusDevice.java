@@ -4,13 +4,15 @@
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
 
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.Amplifier_CXQ_StatusDeviceMetric;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.EnumTypeHandler;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -20,6 +22,27 @@ import com.avispl.symphony.dal.util.StringUtils;
  * @since 1.1.0
  */
 public class Amplifier_CXQ_StatusDevice extends QSYSPeripheralDevice {
+	/**
+	 * Status controls of the device by the statistic they are monitored as
+	 */
+	private static final Map<String, String> STATUS_CONTROLS = ImmutableMap.of(
+			Amplifier_CXQ_StatusDeviceMetric.STATUS.getMetric(), Amplifier_CXQ_StatusDeviceMetric.STATUS.getProperty(),
+			Amplifier_CXQ_StatusDeviceMetric.STATUS_LED.getMetric(), Amplifier_CXQ_StatusDeviceMetric.STATUS_LED.getProperty());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, String> getStatusControls() {
+		return STATUS_CONTROLS;
+	}
+
+	/**
+	 * Metrics that have the temperature unit removed from the value
+	 */
+	private static final List<Amplifier_CXQ_StatusDeviceMetric> METRICS_REMOVE_UNIT = Collections.singletonList(
+			Amplifier_CXQ_StatusDeviceMetric.TEMPERATURE
+	);
 
 	/**
 	 * Manage are control of device
@@ -30,32 +53,22 @@ public class Amplifier_CXQ_StatusDevice extends QSYSPeripheralDevice {
 	}
 
 	/**
-	 * Get all monitoring of device
+	 * Get monitoring of a control of device
 	 *
-	 * @param deviceControl list all control of device
+	 * @param control control of device
 	 */
 	@Override
-	public void monitoringDevice(JsonNode deviceControl) {
-		this.getStats().clear();
-		this.getAdvancedControllableProperties().clear();
-		List<Amplifier_CXQ_StatusDeviceMetric> metrics = Collections.singletonList(
-				Amplifier_CXQ_StatusDeviceMetric.TEMPERATURE
-		);
-		if (deviceControl.hasNonNull(QSYSCoreConstant.RESULT) && deviceControl.get(QSYSCoreConstant.RESULT).hasNonNull(QSYSCoreConstant.CONTROLS)) {
-			for (JsonNode control : deviceControl.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS)) {
-				Amplifier_CXQ_StatusDeviceMetric metric = EnumTypeHandler.getMetricByPropertyName(Amplifier_CXQ_StatusDeviceMetric.class, control.get(QSYSCoreConstant.CONTROL_NAME).asText());
-				if (metric == null) {
-					continue;
-				}
-
-				String value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE_STRING) ? control.get(QSYSCoreConstant.CONTROL_VALUE_STRING).asText() : QSYSCoreConstant.DEFAUL_DATA;
-				if (metrics.contains(metric)) {
-					value = value.replace("°C", QSYSCoreConstant.EMPTY);
-				}
-				String metricName = getFormattedMetricName(metric, control);
-				this.getStats().put(metricName, StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
-			}
-			super.updateStatusMessage();
+	public void onControl(QRCControl control) {
+		Amplifier_CXQ_StatusDeviceMetric metric = EnumTypeHandler.getMetricByPropertyName(Amplifier_CXQ_StatusDeviceMetric.class, control.getName());
+		if (metric == null) {
+			return;
+		}
+
+		String value = control.getString() != null ? control.getString() : QSYSCoreConstant.DEFAUL_DATA;
+		if (METRICS_REMOVE_UNIT.contains(metric)) {
+			value = value.replace("°C", QSYSCoreConstant.EMPTY);
 		}
+		String metricName = getFormattedMetricName(metric, control);
+		this.getStats().put(metricName, StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
 	}
 }
@@ -4,12 +4,15 @@
 
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
 
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.CameraDeviceMetric;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.EnumTypeHandler;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -20,6 +23,21 @@ import com.avispl.symphony.dal.util.StringUtils;
  * @since 1.0.0
  */
 public class CameraDevice extends QSYSPeripheralDevice {
+	/**
+	 * Status controls of the device by the statistic they are monitored as
+	 */
+	private static final Map<String, String> STATUS_CONTROLS = ImmutableMap.of(
+			CameraDeviceMetric.STATUS.getMetric(), CameraDeviceMetric.STATUS.getProperty(),
+			CameraDeviceMetric.STATUS_LED.getMetric(), CameraDeviceMetric.STATUS_LED.getProperty());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, String> getStatusControls() {
+		return STATUS_CONTROLS;
+	}
+
 	/**
 	 * Manage are control of device
 	 *
@@ -30,24 +48,17 @@ public class CameraDevice extends QSYSPeripheralDevice {
 	}
 
 	/**
-	 * Get all monitoring of device
+	 * Get monitoring of a control of device
 	 *
-	 * @param deviceControl list all control of device
+	 * @param control control of device
 	 */
 	@Override
-	public void monitoringDevice(JsonNode deviceControl) {
-		this.getStats().clear();
-		this.getAdvancedControllableProperties().clear();
-		if (deviceControl.hasNonNull(QSYSCoreConstant.RESULT) && deviceControl.get(QSYSCoreConstant.RESULT).hasNonNull(QSYSCoreConstant.CONTROLS)) {
-			for (JsonNode control : deviceControl.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS)) {
-				CameraDeviceMetric cameraDeviceMetric = EnumTypeHandler.getMetricByName(CameraDeviceMetric.class, control.get(QSYSCoreConstant.CONTROL_NAME).asText());
-				if (cameraDeviceMetric == null) {
-					continue;
-				}
-				String value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE_STRING) ? control.get(QSYSCoreConstant.CONTROL_VALUE_STRING).asText() : QSYSCoreConstant.DEFAUL_DATA;
-				this.getStats().put(cameraDeviceMetric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
-			}
-			super.updateStatusMessage();
+	public void onControl(QRCControl control) {
+		CameraDeviceMetric cameraDeviceMetric = EnumTypeHandler.getMetricByName(CameraDeviceMetric.class, control.getName());
+		if (cameraDeviceMetric == null) {
+			return;
 		}
+		String value = control.getString() != null ? control.getString() : QSYSCoreConstant.DEFAUL_DATA;
+		this.getStats().put(cameraDeviceMetric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
 	}
 }
\ No newline at end of file
@@ -4,12 +4,15 @@
 
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
 
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.ControlInterfaceDeviceMetric;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.EnumTypeHandler;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -20,6 +23,21 @@ import com.avispl.symphony.dal.util.StringUtils;
  * @since 1.0.0
  */
 public class ControlInterfaceDevice extends QSYSPeripheralDevice {
+	/**
+	 * Status controls of the device by the statistic they are monitored as
+	 */
+	private static final Map<String, String> STATUS_CONTROLS = ImmutableMap.of(
+			ControlInterfaceDeviceMetric.STATUS.getMetric(), ControlInterfaceDeviceMetric.STATUS.getProperty(),
+			ControlInterfaceDeviceMetric.STATUS_LED.getMetric(), ControlInterfaceDeviceMetric.STATUS_LED.getProperty());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, String> getStatusControls() {
+		return STATUS_CONTROLS;
+	}
+
 	/**
 	 * Manage are control of device
 	 *
@@ -30,39 +48,32 @@ public class ControlInterfaceDevice extends QSYSPeripheralDevice {
 	}
 
 	/**
-	 * Get all monitoring of device
+	 * Get monitoring of a control of device
 	 *
-	 * @param deviceControl list all control of device
+	 * @param control control of device
 	 */
 	@Override
-	public void monitoringDevice(JsonNode deviceControl) {
-		this.getStats().clear();
-		this.getAdvancedControllableProperties().clear();
-		if (deviceControl.hasNonNull(QSYSCoreConstant.RESULT) && deviceControl.get(QSYSCoreConstant.RESULT).hasNonNull(QSYSCoreConstant.CONTROLS)) {
-			for (JsonNode control : deviceControl.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS)) {
-				ControlInterfaceDeviceMetric metric = EnumTypeHandler.getMetricByName(ControlInterfaceDeviceMetric.class, control.get(QSYSCoreConstant.CONTROL_NAME).asText());
-				if (metric == null) {
-					continue;
-				}
-				String value;
-				switch (metric) {
-					case MEMORY_USAGE:
-						value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE) ? control.get(QSYSCoreConstant.CONTROL_VALUE).asText() : QSYSCoreConstant.DEFAUL_DATA;
-						try {
-							Float floatValue = Float.parseFloat(value);
-							floatValue = ((float) Math.ceil(floatValue * 100)) / 100;
-							value = String.valueOf(floatValue);
-						} catch (Exception e) {
-							break;
-						}
-						break;
-					default:
-						value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE_STRING) ? control.get(QSYSCoreConstant.CONTROL_VALUE_STRING).asText() : QSYSCoreConstant.DEFAUL_DATA;
-						break;
+	public void onControl(QRCControl control) {
+		ControlInterfaceDeviceMetric metric = EnumTypeHandler.getMetricByName(ControlInterfaceDeviceMetric.class, control.getName());
+		if (metric == null) {
+			return;
+		}
+		String value;
+		switch (metric) {
+			case MEMORY_USAGE:
+				value = control.hasValue() ? control.getValue() : QSYSCoreConstant.DEFAUL_DATA;
+				try {
+					Float floatValue = Float.parseFloat(value);
+					floatValue = ((float) Math.ceil(floatValue * 100)) / 100;
+					value = String.valueOf(floatValue);
+				} catch (Exception e) {
+					break;
 				}
-				this.getStats().put(metric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
-			}
-			super.updateStatusMessage();
+				break;
+			default:
+				value = control.getString() != null ? control.getString() : QSYSCoreConstant.DEFAUL_DATA;
+				break;
 		}
+		this.getStats().put(metric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
 	}
 }
\ No newline at end of file
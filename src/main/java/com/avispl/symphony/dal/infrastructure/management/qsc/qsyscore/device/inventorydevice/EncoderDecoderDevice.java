@@ -3,14 +3,17 @@
  */
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice;
 
+import com.google.common.collect.ImmutableMap;
+
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.EncoderDecoderDeviceMetric;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.EnumTypeHandler;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
-import com.fasterxml.jackson.databind.JsonNode;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -23,79 +26,79 @@ import java.util.regex.Pattern;
  * @since 1.2.1
  * */
 public class EncoderDecoderDevice extends QSYSPeripheralDevice {
+	/**
+	 * Status controls of the device by the statistic they are monitored as
+	 */
+	private static final Map<String, String> STATUS_CONTROLS = ImmutableMap.of(
+			EncoderDecoderDeviceMetric.STATUS.getMetric(), EncoderDecoderDeviceMetric.STATUS.getProperty(),
+			EncoderDecoderDeviceMetric.STATUS_LED.getMetric(), EncoderDecoderDeviceMetric.STATUS_LED.getProperty());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, String> getStatusControls() {
+		return STATUS_CONTROLS;
+	}
+
     @Override
     public void controlDevice(QSYSPeripheralDevice device, String metric, String value, String metricName) {
         throw new UnsupportedOperationException("Operation not supported yet.");
     }
 
     @Override
-    public void monitoringDevice(JsonNode deviceControl) {
+    public void onControl(QRCControl control) {
         try {
-            this.getStats().clear();
-            this.getAdvancedControllableProperties().clear();
-            if (!deviceControl.hasNonNull(QSYSCoreConstant.RESULT) ||
-                    !deviceControl.get(QSYSCoreConstant.RESULT).hasNonNull(QSYSCoreConstant.CONTROLS)) {
+            String controlName = control.getName();
+            Pattern numericPattern = Pattern.compile(".*(\\d\\.).*");
+            Matcher matcher = numericPattern.matcher(controlName);
+            EncoderDecoderDeviceMetric metric = null;
+            String metricName = null;
+
+            if (matcher.matches()) {
+                String indexNumber = matcher.group(1).replace(".", "");
+                metric = EnumTypeHandler.getMetricByName(EncoderDecoderDeviceMetric.class, controlName.replace(indexNumber, "%s"));
+                if (metric != null) {
+                    //Need to change index placeholder to an actual index
+                    metricName = String.format(metric.getMetric(), indexNumber);
+                }
+            }
+            if (metric == null) {
+                metric = EnumTypeHandler.getMetricByName(EncoderDecoderDeviceMetric.class, controlName);
+            }
+            if (metric == null) {
                 return;
             }
-            String metricName;
-            for (JsonNode control : deviceControl.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS)) {
-                String controlName = Optional.ofNullable(control.get(QSYSCoreConstant.CONTROL_NAME))
-                        .map(JsonNode::asText)
-                        .orElse(null);
-                if (controlName == null) {
-                    continue;
-                }
-                Pattern numericPattern = Pattern.compile(".*(\\d\\.).*");
-                Matcher matcher = numericPattern.matcher(controlName);
-                EncoderDecoderDeviceMetric metric = null;
-                metricName = null;
+            if (StringUtils.isNullOrEmpty(metricName)) {
+                metricName = metric.getMetric();
+            }
+            String type = Optional.ofNullable(control.getType()).orElse("");
+            String value;
 
-                if (matcher.matches()) {
-                    String indexNumber = matcher.group(1).replace(".", "");
-                    metric = EnumTypeHandler.getMetricByName(EncoderDecoderDeviceMetric.class, controlName.replace(indexNumber, "%s"));
-                    if (metric != null) {
-                        //Need to change index placeholder to an actual index
-                        metricName = String.format(metric.getMetric(), indexNumber);
+            switch (type) {
+                case QSYSCoreConstant.TYPE_FLOAT:
+                    value = control.hasValue() ? String.valueOf(control.getValueAsDouble()) : QSYSCoreConstant.DEFAUL_DATA;
+                    break;
+                case QSYSCoreConstant.TYPE_BOOLEAN:
+                    value = control.hasValue() ? (control.getValueAsBoolean() ? QSYSCoreConstant.TRUE : QSYSCoreConstant.FALSE) : QSYSCoreConstant.DEFAUL_DATA;
+                    break;
+                default:
+                    value = Optional.ofNullable(control.getString()).orElse(QSYSCoreConstant.DEFAUL_DATA);
+                    if (StringUtils.isNotNullOrEmpty(value)) {
+                        value = uppercaseFirstCharacter(value);
+                    } else {
+                        value = QSYSCoreConstant.DEFAUL_DATA;
                     }
-                }
-                if (metric == null) {
-                    metric = EnumTypeHandler.getMetricByName(EncoderDecoderDeviceMetric.class, controlName);
-                }
-                if (metric == null) {
-                    continue;
-                }
-                if (StringUtils.isNullOrEmpty(metricName)) {
-                    metricName = metric.getMetric();
-                }
-                String type = Optional.ofNullable(control.get(QSYSCoreConstant.CONTROL_TYPE)).map(JsonNode::asText).orElse("");
-                String value;
-
-                switch (type) {
-                    case QSYSCoreConstant.TYPE_FLOAT:
-                        value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE) ? String.valueOf(control.get(QSYSCoreConstant.CONTROL_VALUE).asDouble()) : QSYSCoreConstant.DEFAUL_DATA;
-                        break;
-                    case QSYSCoreConstant.TYPE_BOOLEAN:
-                        value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE) ? (control.get(QSYSCoreConstant.CONTROL_VALUE).asBoolean() ? QSYSCoreConstant.TRUE : QSYSCoreConstant.FALSE) : QSYSCoreConstant.DEFAUL_DATA;
-                        break;
-                    default:
-                        value = Optional.ofNullable(control.get(QSYSCoreConstant.CONTROL_VALUE_STRING)).map(JsonNode::asText).orElse(QSYSCoreConstant.DEFAUL_DATA);
-                        if (StringUtils.isNotNullOrEmpty(value)) {
-                            value = uppercaseFirstCharacter(value);
-                        } else {
-                            value = QSYSCoreConstant.DEFAUL_DATA;
-                        }
-                        break;
-                }
+                    break;
+            }
 
-                switch (metric){
-                    default:
-                        if (StringUtils.isNotNullOrEmpty(metricName)) {
-                            this.getStats().put(metricName, value);
-                        }
-                        break;
-                }
+            switch (metric){
+                default:
+                    if (StringUtils.isNotNullOrEmpty(metricName)) {
+                        this.getStats().put(metricName, value);
+                    }
+                    break;
             }
-            super.updateStatusMessage();
         } catch (Exception e){
             throw new ResourceNotReachableException("Error occurred while monitoring device control: " + e.getMessage(), e);
         }
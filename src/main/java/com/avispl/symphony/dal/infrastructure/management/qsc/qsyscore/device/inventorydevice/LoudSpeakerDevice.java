@@ -6,19 +6,19 @@ package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.in
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
 
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.EnumTypeHandler;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.LoudSpeakerDeviceMetric;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -28,6 +28,21 @@ import com.avispl.symphony.dal.util.StringUtils;
  * @since 1.1.0
  */
 public class LoudSpeakerDevice extends QSYSPeripheralDevice {
+	/**
+	 * Status controls of the device by the statistic they are monitored as
+	 */
+	private static final Map<String, String> STATUS_CONTROLS = ImmutableMap.of(
+			LoudSpeakerDeviceMetric.STATUS.getMetric(), LoudSpeakerDeviceMetric.STATUS.getProperty(),
+			LoudSpeakerDeviceMetric.STATUS_LED.getMetric(), LoudSpeakerDeviceMetric.STATUS_LED.getProperty());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, String> getStatusControls() {
+		return STATUS_CONTROLS;
+	}
+
 	/**
 	 * Manage are control of device
 	 *
@@ -36,14 +51,11 @@ public class LoudSpeakerDevice extends QSYSPeripheralDevice {
 	public void controlDevice(QSYSPeripheralDevice device, String property, String value, String metricName) {
 		try {
 			Map<String, String> stats = device.getStats();
-			Optional<LoudSpeakerDeviceMetric> optionalMetric = Arrays.stream(LoudSpeakerDeviceMetric.values())
-					.filter(metric -> metric != null && metric.getMetric() != null && metric.getMetric().equalsIgnoreCase(property))
-					.findFirst();
+			LoudSpeakerDeviceMetric metric = EnumTypeHandler.getPropertiesByName(LoudSpeakerDeviceMetric.class, property);
 
-			if (!optionalMetric.isPresent()) {
+			if (metric == null) {
 				throw new IllegalArgumentException("Error: Can not control this property " + property);
 			}
-				LoudSpeakerDeviceMetric metric = optionalMetric.get();
 
 				switch (metric){
 					case GAIN:
@@ -72,151 +84,135 @@ public class LoudSpeakerDevice extends QSYSPeripheralDevice {
 	}
 
 	/**
-	 * Get all monitoring of device
+	 * Get monitoring of a control of device
 	 *
-	 * @param deviceControl list all control of device
+	 * @param control control of device
 	 */
 	@Override
-	public void monitoringDevice(JsonNode deviceControl) {
+	public void onControl(QRCControl control) {
 		try {
-			this.getStats().clear();
-			this.getAdvancedControllableProperties().clear();
-			if (!deviceControl.hasNonNull(QSYSCoreConstant.RESULT) ||
-					!deviceControl.get(QSYSCoreConstant.RESULT).hasNonNull(QSYSCoreConstant.CONTROLS)) {
+			String controlName = control.getName();
+			LoudSpeakerDeviceMetric metric = EnumTypeHandler.getMetricByName(LoudSpeakerDeviceMetric.class, controlName);
+			if (metric == null) {
 				return;
 			}
-			for (JsonNode control : deviceControl.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS)) {
-				String controlName = Optional.ofNullable(control.get(QSYSCoreConstant.CONTROL_NAME))
-						.map(JsonNode::asText)
-						.orElse(null);
-				if (controlName == null) {
-					continue;
-				}
-				LoudSpeakerDeviceMetric metric = EnumTypeHandler.getMetricByName(LoudSpeakerDeviceMetric.class, controlName);
-				if (metric == null) {
-					continue;
-				}
-				String type = Optional.ofNullable(control.get(QSYSCoreConstant.CONTROL_TYPE)).map(JsonNode::asText).orElse("");
-				String value;
+			String type = Optional.ofNullable(control.getType()).orElse("");
+			String value;
 
-				switch (type) {
-					case QSYSCoreConstant.TYPE_FLOAT:
-						value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE) ? String.valueOf(control.get(QSYSCoreConstant.CONTROL_VALUE).asDouble()) : QSYSCoreConstant.DEFAUL_DATA;
-						break;
-					case QSYSCoreConstant.TYPE_BOOLEAN:
-						value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE) ? (control.get(QSYSCoreConstant.CONTROL_VALUE).asBoolean() ? QSYSCoreConstant.TRUE : QSYSCoreConstant.FALSE) : QSYSCoreConstant.DEFAUL_DATA;
-						break;
-					default:
-						value = Optional.ofNullable(control.get(QSYSCoreConstant.CONTROL_VALUE_STRING)).map(JsonNode::asText).orElse(QSYSCoreConstant.DEFAUL_DATA);
-						break;
-				}
+			switch (type) {
+				case QSYSCoreConstant.TYPE_FLOAT:
+					value = control.hasValue() ? String.valueOf(control.getValueAsDouble()) : QSYSCoreConstant.DEFAUL_DATA;
+					break;
+				case QSYSCoreConstant.TYPE_BOOLEAN:
+					value = control.hasValue() ? (control.getValueAsBoolean() ? QSYSCoreConstant.TRUE : QSYSCoreConstant.FALSE) : QSYSCoreConstant.DEFAUL_DATA;
+					break;
+				default:
+					value = Optional.ofNullable(control.getString()).orElse(QSYSCoreConstant.DEFAUL_DATA);
+					break;
+			}
 
-				switch (metric){
-					case FULL_RANGE_HIGH_PILOT_TON:
-					case FULL_RANGE_LOW_PILOT_TON:
-						this.getStats().put(metric.getMetric(), value.equalsIgnoreCase(QSYSCoreConstant.FALSE) ? uppercaseFirstCharacter("disabled") : uppercaseFirstCharacter("enabled"));
-						break;
-					case MUTE:
-					case FULL_RANGE_MUTE:
-					case FULL_RANGE_INVERT:
-						int statusMute = value.equalsIgnoreCase(QSYSCoreConstant.FALSE) ? 0 : 1;
-						addAdvancedControlProperties(
-								this.getAdvancedControllableProperties(),
-								getStats(),
-								createSwitch(metric.getMetric(), statusMute, QSYSCoreConstant.OFF, QSYSCoreConstant.ON),
-								String.valueOf(statusMute)
-						);
-						break;
-					case GAIN:
-						String gainValue = roundToDecimalPlaces(control.get(QSYSCoreConstant.CONTROL_VALUE), 1);
-						addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createSlider(getStats(),
-								metric.getMetric(), "-100", "20", -100f, 20f, Float.parseFloat(gainValue)), gainValue);
-						this.getStats().put(QSYSCoreConstant.GAIN_CURRENT_VALUE, gainValue);
-						break;
-					case FULL_RANGE_LIMITER:
-						JsonNode valueNode = control.get(QSYSCoreConstant.CONTROL_VALUE);
-						String formattedLimiterValue;
-						if (valueNode != null && valueNode.isNumber()) {
-							double rawValue = valueNode.asDouble();
-
-							formattedLimiterValue = Math.abs(rawValue) < 1e-5
-									? QSYSCoreConstant.ZERO
-									: String.format(Locale.US, "%.2f", rawValue);
-						} else {
-							formattedLimiterValue = QSYSCoreConstant.DEFAUL_DATA;
-						}
-
-						this.getStats().put(metric.getMetric(), formattedLimiterValue);
-						break;
-					case DELAY:
-						JsonNode delayNode = control.get(QSYSCoreConstant.CONTROL_VALUE);
-						String delayMs;
-						if (delayNode != null && delayNode.isNumber()) {
-							double valueSec = delayNode.asDouble();
-							double valueInMs = valueSec * 1000;
-							BigDecimal rounded = new BigDecimal(Double.toString(valueInMs))
-									.setScale(1, RoundingMode.HALF_UP)
-									.stripTrailingZeros();
-							delayMs = rounded.toPlainString();
-						} else {
-							delayMs = QSYSCoreConstant.NOT_AVAILABLE;
-						}
-						addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createSlider(getStats(),
-								metric.getMetric(), "0", "2000", 0f, 2000f, Float.parseFloat(delayMs)), delayMs);
-						this.getStats().put("DelayCurrentValue(ms)", delayMs);
-						break;
-					case FULL_RANGE_IMPEDANCE:
-					case FULL_RANGE_HIGH_PILOT_IMPEDANCE:
-					case FULL_RANGE_OPEN_THRESHOLD:
-					case FULL_RANGE_SHORT_THRESHOLD:
-					case FULL_RANGE_LOW_PILOT_IMPEDANCE:
-					case FULL_RANGE_CURRENT:
-					case FULL_RANGE_POWER:
-					case FULL_RANGE_VOLTAGE:
-						String rounded = roundToDecimalPlaces(control.get(QSYSCoreConstant.CONTROL_VALUE), 1);
-						this.getStats().put(metric.getMetric(), rounded);
-						break;
-					case FULL_RANGE_HIGH_PASS_FREQ:
-						String highPassValue = roundToDecimalPlaces(control.get(QSYSCoreConstant.CONTROL_VALUE), 1);
-						addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createSlider(getStats(),
-								metric.getMetric(), "30", "300", 30f, 300f, Float.parseFloat(highPassValue)), highPassValue);
-						this.getStats().put("Fullrange#HighPassFreqCurrentValue(Hz)", highPassValue);
-						break;
-					case FULL_RANGE_OPEN:
-					case FULL_RANGE_SHORT:
-						this.getStats().put(metric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
-						break;
-					case METER_SELECT:
-						String[] options = { "Peak", "RMS" };
-						addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createDropdown(metric.getMetric(), options, value), value);
-						break;
-						case FULL_RANGE_USER_HIGH_PASS:
-						String[] userHighPassOptions = { "DEFAULT", "80 Hz HP", "100 Hz HP" };
-						addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createDropdown(metric.getMetric(), userHighPassOptions, value), value);
-						break;
-					default:
-						this.getStats().put(metric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? uppercaseFirstCharacter(value) : QSYSCoreConstant.DEFAUL_DATA);
-						break;
-				}
+			switch (metric){
+				case FULL_RANGE_HIGH_PILOT_TON:
+				case FULL_RANGE_LOW_PILOT_TON:
+					this.getStats().put(metric.getMetric(), value.equalsIgnoreCase(QSYSCoreConstant.FALSE) ? uppercaseFirstCharacter("disabled") : uppercaseFirstCharacter("enabled"));
+					break;
+				case MUTE:
+				case FULL_RANGE_MUTE:
+				case FULL_RANGE_INVERT:
+					int statusMute = value.equalsIgnoreCase(QSYSCoreConstant.FALSE) ? 0 : 1;
+					addAdvancedControlProperties(
+							this.getAdvancedControllableProperties(),
+							getStats(),
+							createSwitch(metric.getMetric(), statusMute, QSYSCoreConstant.OFF, QSYSCoreConstant.ON),
+							String.valueOf(statusMute)
+					);
+					break;
+				case GAIN:
+					String gainValue = roundToDecimalPlaces(control, 1);
+					addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createSlider(getStats(),
+							metric.getMetric(), "-100", "20", -100f, 20f, Float.parseFloat(gainValue)), gainValue);
+					this.getStats().put(QSYSCoreConstant.GAIN_CURRENT_VALUE, gainValue);
+					break;
+				case FULL_RANGE_LIMITER:
+					String formattedLimiterValue;
+					if (control.isValueNumber()) {
+						double rawValue = control.getValueAsDouble();
+
+						formattedLimiterValue = Math.abs(rawValue) < 1e-5
+								? QSYSCoreConstant.ZERO
+								: String.format(Locale.US, "%.2f", rawValue);
+					} else {
+						formattedLimiterValue = QSYSCoreConstant.DEFAUL_DATA;
+					}
+
+					this.getStats().put(metric.getMetric(), formattedLimiterValue);
+					break;
+				case DELAY:
+					String delayMs;
+					if (control.isValueNumber()) {
+						double valueSec = control.getValueAsDouble();
+						double valueInMs = valueSec * 1000;
+						BigDecimal rounded = new BigDecimal(Double.toString(valueInMs))
+								.setScale(1, RoundingMode.HALF_UP)
+								.stripTrailingZeros();
+						delayMs = rounded.toPlainString();
+					} else {
+						delayMs = QSYSCoreConstant.NOT_AVAILABLE;
+					}
+					addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createSlider(getStats(),
+							metric.getMetric(), "0", "2000", 0f, 2000f, Float.parseFloat(delayMs)), delayMs);
+					this.getStats().put("DelayCurrentValue(ms)", delayMs);
+					break;
+				case FULL_RANGE_IMPEDANCE:
+				case FULL_RANGE_HIGH_PILOT_IMPEDANCE:
+				case FULL_RANGE_OPEN_THRESHOLD:
+				case FULL_RANGE_SHORT_THRESHOLD:
+				case FULL_RANGE_LOW_PILOT_IMPEDANCE:
+				case FULL_RANGE_CURRENT:
+				case FULL_RANGE_POWER:
+				case FULL_RANGE_VOLTAGE:
+					String rounded = roundToDecimalPlaces(control, 1);
+					this.getStats().put(metric.getMetric(), rounded);
+					break;
+				case FULL_RANGE_HIGH_PASS_FREQ:
+					String highPassValue = roundToDecimalPlaces(control, 1);
+					addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createSlider(getStats(),
+							metric.getMetric(), "30", "300", 30f, 300f, Float.parseFloat(highPassValue)), highPassValue);
+					this.getStats().put("Fullrange#HighPassFreqCurrentValue(Hz)", highPassValue);
+					break;
+				case FULL_RANGE_OPEN:
+				case FULL_RANGE_SHORT:
+					this.getStats().put(metric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
+					break;
+				case METER_SELECT:
+					String[] options = { "Peak", "RMS" };
+					addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createDropdown(metric.getMetric(), options, value), value);
+					break;
+					case FULL_RANGE_USER_HIGH_PASS:
+					String[] userHighPassOptions = { "DEFAULT", "80 Hz HP", "100 Hz HP" };
+					addAdvancedControlProperties(this.getAdvancedControllableProperties(), getStats(), createDropdown(metric.getMetric(), userHighPassOptions, value), value);
+					break;
+				default:
+					this.getStats().put(metric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? uppercaseFirstCharacter(value) : QSYSCoreConstant.DEFAUL_DATA);
+					break;
 			}
-			super.updateStatusMessage();
 		} catch (Exception e){
 			throw new ResourceNotReachableException("Error occurred while monitoring device control: " + e.getMessage(), e);
 		}
 	}
 
 	/**
-	 * Rounds a numeric value from a {@link JsonNode} to a specified number of decimal places.
+	 * Rounds a numeric value from a {@link QRCControl} to a specified number of decimal places.
 	 *
-	 * @param valueNode      the JSON node containing the numeric value
+	 * @param control        the control containing the numeric value
 	 * @param decimalPlaces  the number of decimal places to round to
 	 * @return a string representation of the rounded number, or a default value if invalid
 	 */
-	private String roundToDecimalPlaces(JsonNode valueNode, int decimalPlaces) {
-		if (valueNode == null || !valueNode.isNumber()) {
+	private String roundToDecimalPlaces(QRCControl control, int decimalPlaces) {
+		if (!control.isValueNumber()) {
 			return QSYSCoreConstant.DEFAUL_DATA;
 		}
-		double value = valueNode.asDouble();
+		double value = control.getValueAsDouble();
 
 		if (Math.abs(value) < 1e-6) {
 			return QSYSCoreConstant.ZERO;
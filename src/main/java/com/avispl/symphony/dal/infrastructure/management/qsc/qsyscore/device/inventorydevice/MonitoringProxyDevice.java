@@ -4,11 +4,14 @@
 
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
 
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.MonitoringProxyDeviceMetric;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -19,6 +22,18 @@ import com.avispl.symphony.dal.util.StringUtils;
  * @since 1.0.0
  */
 public class MonitoringProxyDevice extends QSYSPeripheralDevice {
+	/**
+	 * Status controls of the device by the statistic they are monitored as
+	 */
+	private static final Map<String, String> STATUS_CONTROLS = ImmutableMap.of(MonitoringProxyDeviceMetric.STATUS.getMetric(), MonitoringProxyDeviceMetric.STATUS.getProperty());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, String> getStatusControls() {
+		return STATUS_CONTROLS;
+	}
 
 	/**
 	 * Manage are control of device
@@ -30,20 +45,13 @@ public class MonitoringProxyDevice extends QSYSPeripheralDevice {
 	}
 
 	@Override
-	public void monitoringDevice(JsonNode deviceControl) {
-		this.getStats().clear();
-		this.getAdvancedControllableProperties().clear();
-		if (deviceControl.hasNonNull(QSYSCoreConstant.RESULT) && deviceControl.get(QSYSCoreConstant.RESULT).hasNonNull(QSYSCoreConstant.CONTROLS)) {
-			for (JsonNode control : deviceControl.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS)) {
-				String nameControl = control.get(QSYSCoreConstant.CONTROL_NAME).asText();
-				String value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE_STRING) ? control.get(QSYSCoreConstant.CONTROL_VALUE_STRING).asText() : QSYSCoreConstant.DEFAUL_DATA;
-				if (nameControl.equals(MonitoringProxyDeviceMetric.STATUS.getProperty())) {
-					this.getStats().put(MonitoringProxyDeviceMetric.STATUS.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
-				} else if (nameControl.equals(MonitoringProxyDeviceMetric.OTHER.getProperty())) {
-					this.getStats().put(MonitoringProxyDeviceMetric.OTHER.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
-				}
-			}
-			super.updateStatusMessage();
+	public void onControl(QRCControl control) {
+		String nameControl = control.getName();
+		String value = control.getString() != null ? control.getString() : QSYSCoreConstant.DEFAUL_DATA;
+		if (nameControl.equals(MonitoringProxyDeviceMetric.STATUS.getProperty())) {
+			this.getStats().put(MonitoringProxyDeviceMetric.STATUS.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
+		} else if (nameControl.equals(MonitoringProxyDeviceMetric.OTHER.getProperty())) {
+			this.getStats().put(MonitoringProxyDeviceMetric.OTHER.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
 		}
 	}
 }
\ No newline at end of file
@@ -3,11 +3,15 @@
  */
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.PluginDeviceMetric;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -28,41 +32,77 @@ public class PluginDevice extends QSYSPeripheralDevice {
 	}
 
 	/**
-	 * Get all monitoring of device
+	 * Metrics that already have a value from the controls being received, only the first matched control is used
+	 */
+	private final Set<PluginDeviceMetric> receivedMetrics = EnumSet.noneOf(PluginDeviceMetric.class);
+
+	/**
+	 * Name of the control the status was received from, plugin controls are matched ignoring case
+	 */
+	private volatile String statusControlName;
+
+	/**
+	 * Clear the metrics received from the previous response
 	 *
-	 * @param deviceControl list all control of device
+	 * @param componentName name of the component in the response
 	 */
 	@Override
-	public void monitoringDevice(JsonNode deviceControl) {
-		this.getStats().clear();
-		this.getAdvancedControllableProperties().clear();
+	public void beginControls(String componentName) {
+		super.beginControls(componentName);
+		receivedMetrics.clear();
+		statusControlName = null;
+	}
+
+	/**
+	 * Clear the metrics received from the previous response, the other metrics are kept
+	 *
+	 * @param componentName name of the component in the response
+	 */
+	@Override
+	public void beginStatusControls(String componentName) {
+		super.beginStatusControls(componentName);
+		receivedMetrics.clear();
+	}
 
-		if (deviceControl.hasNonNull(QSYSCoreConstant.RESULT) && deviceControl.get(QSYSCoreConstant.RESULT).hasNonNull(QSYSCoreConstant.CONTROLS)) {
-			for (PluginDeviceMetric pluginDevice : PluginDeviceMetric.values()) {
-				String value = getValueByName(deviceControl, pluginDevice.getProperty());
-				if (StringUtils.isNullOrEmpty(value)) {
-					value = QSYSCoreConstant.DEFAUL_DATA;
+	/**
+	 * Retrieve the name of the status control received in the last full refresh
+	 *
+	 * @return name of the status control, empty if the plugin has no status control
+	 */
+	@Override
+	public List<String> getStatusControlNames() {
+		String controlName = statusControlName;
+		return controlName != null ? Collections.singletonList(controlName) : Collections.emptyList();
+	}
+
+	/**
+	 * Get monitoring of a control of device
+	 *
+	 * @param control control of device
+	 */
+	@Override
+	public void onControl(QRCControl control) {
+		for (PluginDeviceMetric pluginDevice : PluginDeviceMetric.values()) {
+			if (pluginDevice.getProperty().equalsIgnoreCase(control.getName()) && receivedMetrics.add(pluginDevice)) {
+				if (pluginDevice == PluginDeviceMetric.STATUS) {
+					statusControlName = control.getName();
 				}
+				String value = control.getString() != null ? control.getString() : QSYSCoreConstant.DEFAUL_DATA;
 				this.getStats().put(pluginDevice.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
 			}
-			super.updateStatusMessage();
 		}
 	}
 
 	/**
-	 * get value of response by name
-	 *
-	 * @param deviceControl is jsonNode value of response
-	 * @param property is the property name
-	 * @return string is value of property or null
+	 * Fill the metrics that have no control in the response
 	 */
-	private String getValueByName(JsonNode deviceControl, String property) {
-		for (JsonNode control : deviceControl.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS)) {
-			String name = control.get(QSYSCoreConstant.CONTROL_NAME).asText();
-			if (property.equalsIgnoreCase(name)) {
-				return control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE_STRING) ? control.get(QSYSCoreConstant.CONTROL_VALUE_STRING).asText() : QSYSCoreConstant.DEFAUL_DATA;
+	@Override
+	public void endControls() {
+		for (PluginDeviceMetric pluginDevice : PluginDeviceMetric.values()) {
+			if (!receivedMetrics.contains(pluginDevice)) {
+				this.getStats().put(pluginDevice.getMetric(), QSYSCoreConstant.DEFAUL_DATA);
 			}
 		}
-		return null;
+		super.endControls();
 	}
 }
\ No newline at end of file
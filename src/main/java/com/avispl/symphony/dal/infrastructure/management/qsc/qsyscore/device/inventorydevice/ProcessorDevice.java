@@ -4,12 +4,15 @@
 
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
 
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.EnumTypeHandler;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.ProcessorDeviceMetric;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -20,6 +23,21 @@ import com.avispl.symphony.dal.util.StringUtils;
  * @since 1.0.0
  */
 public class ProcessorDevice extends QSYSPeripheralDevice {
+	/**
+	 * Status controls of the device by the statistic they are monitored as
+	 */
+	private static final Map<String, String> STATUS_CONTROLS = ImmutableMap.of(
+			ProcessorDeviceMetric.STATUS.getMetric(), ProcessorDeviceMetric.STATUS.getProperty(),
+			ProcessorDeviceMetric.STATUS_LED.getMetric(), ProcessorDeviceMetric.STATUS_LED.getProperty());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, String> getStatusControls() {
+		return STATUS_CONTROLS;
+	}
+
 	/**
 	 * Manage are control of device
 	 *
@@ -30,32 +48,25 @@ public class ProcessorDevice extends QSYSPeripheralDevice {
 	}
 
 	/**
-	 * Get all monitoring of device
+	 * Get monitoring of a control of device
 	 *
-	 * @param deviceControl list all control of device
+	 * @param control control of device
 	 */
 	@Override
-	public void monitoringDevice(JsonNode deviceControl) {
-		this.getStats().clear();
-		this.getAdvancedControllableProperties().clear();
-		if (deviceControl.hasNonNull(QSYSCoreConstant.RESULT) && deviceControl.get(QSYSCoreConstant.RESULT).hasNonNull(QSYSCoreConstant.CONTROLS)) {
-			for (JsonNode control : deviceControl.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS)) {
-				ProcessorDeviceMetric processor = EnumTypeHandler.getMetricByName(ProcessorDeviceMetric.class, control.get(QSYSCoreConstant.CONTROL_NAME).asText());
-				if (processor == null) {
-					continue;
-				}
-				String value;
-				switch (processor) {
-					case PROCESSOR_TEMPERATURE:
-					case SYSTEM_TEMPERATURE:
-						value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE) ? control.get(QSYSCoreConstant.CONTROL_VALUE).asText() : QSYSCoreConstant.DEFAUL_DATA;
-						break;
-					default:
-						value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE_STRING) ? control.get(QSYSCoreConstant.CONTROL_VALUE_STRING).asText() : QSYSCoreConstant.DEFAUL_DATA;
-				}
-				this.getStats().put(processor.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
-			}
-			super.updateStatusMessage();
+	public void onControl(QRCControl control) {
+		ProcessorDeviceMetric processor = EnumTypeHandler.getMetricByName(ProcessorDeviceMetric.class, control.getName());
+		if (processor == null) {
+			return;
+		}
+		String value;
+		switch (processor) {
+			case PROCESSOR_TEMPERATURE:
+			case SYSTEM_TEMPERATURE:
+				value = control.hasValue() ? control.getValue() : QSYSCoreConstant.DEFAUL_DATA;
+				break;
+			default:
+				value = control.getString() != null ? control.getString() : QSYSCoreConstant.DEFAUL_DATA;
 		}
+		this.getStats().put(processor.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
 	}
 }
\ No newline at end of file
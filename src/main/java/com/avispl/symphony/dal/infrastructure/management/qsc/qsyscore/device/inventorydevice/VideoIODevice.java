@@ -4,12 +4,15 @@
 
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
 
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.EnumTypeHandler;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.VideoIODeviceMetric;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -20,6 +23,21 @@ import com.avispl.symphony.dal.util.StringUtils;
  * @since 1.0.0
  */
 public class VideoIODevice extends QSYSPeripheralDevice {
+	/**
+	 * Status controls of the device by the statistic they are monitored as
+	 */
+	private static final Map<String, String> STATUS_CONTROLS = ImmutableMap.of(
+			VideoIODeviceMetric.STATUS.getMetric(), VideoIODeviceMetric.STATUS.getProperty(),
+			VideoIODeviceMetric.STATUS_LED.getMetric(), VideoIODeviceMetric.STATUS_LED.getProperty());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, String> getStatusControls() {
+		return STATUS_CONTROLS;
+	}
+
 	/**
 	 * Manage are control of device
 	 *
@@ -30,49 +48,42 @@ public class VideoIODevice extends QSYSPeripheralDevice {
 	}
 
 	/**
-	 * Get all monitoring of device
+	 * Get monitoring of a control of device
 	 *
-	 * @param deviceControl list all control of device
+	 * @param control control of device
 	 */
 	@Override
-	public void monitoringDevice(JsonNode deviceControl) {
-		this.getStats().clear();
-		this.getAdvancedControllableProperties().clear();
-		if (deviceControl.hasNonNull(QSYSCoreConstant.RESULT) && deviceControl.get(QSYSCoreConstant.RESULT).hasNonNull(QSYSCoreConstant.CONTROLS)) {
-			for (JsonNode control : deviceControl.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS)) {
-				VideoIODeviceMetric metric = EnumTypeHandler.getMetricByPropertyName(VideoIODeviceMetric.class, control.get(QSYSCoreConstant.CONTROL_NAME).asText());
+	public void onControl(QRCControl control) {
+		VideoIODeviceMetric metric = EnumTypeHandler.getMetricByPropertyName(VideoIODeviceMetric.class, control.getName());
 
-				if (metric == null) {
-					continue;
-				}
+		if (metric == null) {
+			return;
+		}
 
-				String[] splitProperty = metric.getProperty().split(QSYSCoreConstant.FORMAT_STRING);
-				if (splitProperty.length > 1) {
-					String metricName = String.format(metric.getMetric(),
-							control.get(QSYSCoreConstant.CONTROL_NAME).asText().replace(splitProperty[0], QSYSCoreConstant.EMPTY).replace(splitProperty[1], QSYSCoreConstant.EMPTY));
-					String value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE_STRING) ? control.get(QSYSCoreConstant.CONTROL_VALUE_STRING).asText() : QSYSCoreConstant.DEFAUL_DATA;
-					this.getStats().put(metricName, StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
-				} else {
-					String value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE_STRING) ? control.get(QSYSCoreConstant.CONTROL_VALUE_STRING).asText() : QSYSCoreConstant.DEFAUL_DATA;
-					switch (metric) {
-						case CPU_TEMPERATURE:
-						case IO_TEMPERATURE:
-						case VPU_TEMPERATURE:
-							value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE) ? control.get(QSYSCoreConstant.CONTROL_VALUE).asText() : QSYSCoreConstant.DEFAUL_DATA;
-							Float floatValue = 0F;
-							try {
-								floatValue = Float.parseFloat(value);
-								floatValue = ((float) Math.ceil(floatValue * 100)) / 100;
-								value = String.valueOf(floatValue);
-							} catch (Exception e) {
-								break;
-							}
-							break;
+		String[] splitProperty = metric.getProperty().split(QSYSCoreConstant.FORMAT_STRING);
+		if (splitProperty.length > 1) {
+			String metricName = String.format(metric.getMetric(),
+					control.getName().replace(splitProperty[0], QSYSCoreConstant.EMPTY).replace(splitProperty[1], QSYSCoreConstant.EMPTY));
+			String value = control.getString() != null ? control.getString() : QSYSCoreConstant.DEFAUL_DATA;
+			this.getStats().put(metricName, StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
+		} else {
+			String value = control.getString() != null ? control.getString() : QSYSCoreConstant.DEFAUL_DATA;
+			switch (metric) {
+				case CPU_TEMPERATURE:
+				case IO_TEMPERATURE:
+				case VPU_TEMPERATURE:
+					value = control.hasValue() ? control.getValue() : QSYSCoreConstant.DEFAUL_DATA;
+					Float floatValue = 0F;
+					try {
+						floatValue = Float.parseFloat(value);
+						floatValue = ((float) Math.ceil(floatValue * 100)) / 100;
+						value = String.valueOf(floatValue);
+					} catch (Exception e) {
+						break;
 					}
-					this.getStats().put(metric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
-				}
+					break;
 			}
-			super.updateStatusMessage();
+			this.getStats().put(metric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
 		}
 	}
 }
\ No newline at end of file
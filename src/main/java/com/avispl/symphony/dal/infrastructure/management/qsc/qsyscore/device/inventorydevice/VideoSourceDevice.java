@@ -4,12 +4,15 @@
 
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
 
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.EnumTypeHandler;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.VideoSourceDeviceMetric;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -20,6 +23,21 @@ import com.avispl.symphony.dal.util.StringUtils;
  * @since 1.0.0
  */
 public class VideoSourceDevice extends QSYSPeripheralDevice {
+	/**
+	 * Status controls of the device by the statistic they are monitored as
+	 */
+	private static final Map<String, String> STATUS_CONTROLS = ImmutableMap.of(
+			VideoSourceDeviceMetric.STATUS.getMetric(), VideoSourceDeviceMetric.STATUS.getProperty(),
+			VideoSourceDeviceMetric.STATUS_LED.getMetric(), VideoSourceDeviceMetric.STATUS_LED.getProperty());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, String> getStatusControls() {
+		return STATUS_CONTROLS;
+	}
+
 	/**
 	 * Manage are control of device
 	 *
@@ -30,43 +48,35 @@ public class VideoSourceDevice extends QSYSPeripheralDevice {
 	}
 
 	/**
-	 * Get all monitoring of device
+	 * Get monitoring of a control of device
 	 *
-	 * @param deviceControl list all control of device
+	 * @param control control of device
 	 */
 	@Override
-	public void monitoringDevice(JsonNode deviceControl) {
-		this.getStats().clear();
-		this.getAdvancedControllableProperties().clear();
-		if (deviceControl.hasNonNull(QSYSCoreConstant.RESULT) && deviceControl.get(QSYSCoreConstant.RESULT).hasNonNull(QSYSCoreConstant.CONTROLS)) {
-			for (JsonNode control : deviceControl.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS)) {
-				VideoSourceDeviceMetric metric = EnumTypeHandler.getMetricByPropertyName(VideoSourceDeviceMetric.class, control.get(QSYSCoreConstant.CONTROL_NAME).asText());
-
-				if (metric == null) {
-					continue;
-				}
+	public void onControl(QRCControl control) {
+		VideoSourceDeviceMetric metric = EnumTypeHandler.getMetricByPropertyName(VideoSourceDeviceMetric.class, control.getName());
 
-				String[] splitProperty = metric.getProperty().split(QSYSCoreConstant.FORMAT_STRING);
-				String value = QSYSCoreConstant.DEFAUL_DATA;
-				JsonNode jsonNode = control.get(QSYSCoreConstant.CONTROL_VALUE_STRING);
-				if (jsonNode != null && StringUtils.isNotNullOrEmpty(jsonNode.asText())) {
-					value = jsonNode.asText();
-				}
+		if (metric == null) {
+			return;
+		}
 
-				if (splitProperty.length > 1) {
-					String metricName = String.format(metric.getMetric(),
-							control.get(QSYSCoreConstant.CONTROL_NAME).asText().replace(splitProperty[0], QSYSCoreConstant.EMPTY).replace(splitProperty[1], QSYSCoreConstant.EMPTY));
+		String[] splitProperty = metric.getProperty().split(QSYSCoreConstant.FORMAT_STRING);
+		String value = QSYSCoreConstant.DEFAUL_DATA;
+		if (StringUtils.isNotNullOrEmpty(control.getString())) {
+			value = control.getString();
+		}
 
-					if (VideoSourceDeviceMetric.CHANNEL_PEAK_INPUT_LEVEL.getMetric().equalsIgnoreCase(metric.getMetric())) {
-						value = value.replace(QSYSCoreConstant.DB_UNIT, QSYSCoreConstant.EMPTY);
-					}
+		if (splitProperty.length > 1) {
+			String metricName = String.format(metric.getMetric(),
+					control.getName().replace(splitProperty[0], QSYSCoreConstant.EMPTY).replace(splitProperty[1], QSYSCoreConstant.EMPTY));
 
-					this.getStats().put(metricName, value);
-				} else {
-					this.getStats().put(metric.getMetric(), value);
-				}
+			if (VideoSourceDeviceMetric.CHANNEL_PEAK_INPUT_LEVEL.getMetric().equalsIgnoreCase(metric.getMetric())) {
+				value = value.replace(QSYSCoreConstant.DB_UNIT, QSYSCoreConstant.EMPTY);
 			}
-			super.updateStatusMessage();
+
+			this.getStats().put(metricName, value);
+		} else {
+			this.getStats().put(metric.getMetric(), value);
 		}
 	}
 }
\ No newline at end of file
@@ -4,12 +4,11 @@
 
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice.streamiodevice;
 
-import com.fasterxml.jackson.databind.JsonNode;
-
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.EnumTypeHandler;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.StreamIODeviceMetric;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -21,21 +20,17 @@ import com.avispl.symphony.dal.util.StringUtils;
  */
 public abstract class StreamIODevice extends QSYSPeripheralDevice {
 	/**
-	 * Get all monitoring of device
+	 * Get monitoring of a control of device
 	 *
-	 * @param deviceControl list all control of device
+	 * @param control control of device
 	 */
 	@Override
-	public void monitoringDevice(JsonNode deviceControl) {
-		if (deviceControl.hasNonNull(QSYSCoreConstant.RESULT) && deviceControl.get(QSYSCoreConstant.RESULT).hasNonNull(QSYSCoreConstant.CONTROLS)) {
-			for (JsonNode control : deviceControl.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS)) {
-				StreamIODeviceMetric metric = EnumTypeHandler.getMetricByPropertyName(StreamIODeviceMetric.class, control.get(QSYSCoreConstant.CONTROL_NAME).asText());
-				if (metric == null) {
-					continue;
-				}
-				String value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE_STRING) ? control.get(QSYSCoreConstant.CONTROL_VALUE_STRING).asText() : QSYSCoreConstant.DEFAUL_DATA;
-				this.getStats().put(metric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
-			}
+	public void onControl(QRCControl control) {
+		StreamIODeviceMetric metric = EnumTypeHandler.getMetricByPropertyName(StreamIODeviceMetric.class, control.getName());
+		if (metric == null) {
+			return;
 		}
+		String value = control.getString() != null ? control.getString() : QSYSCoreConstant.DEFAUL_DATA;
+		this.getStats().put(metric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
 	}
 }
\ No newline at end of file
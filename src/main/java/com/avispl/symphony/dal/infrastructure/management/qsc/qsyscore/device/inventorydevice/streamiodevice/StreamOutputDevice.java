@@ -4,12 +4,15 @@
 
 package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice.streamiodevice;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
 
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.EnumTypeHandler;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.StreamOutputDeviceMetric;
 import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -20,6 +23,20 @@ import com.avispl.symphony.dal.util.StringUtils;
  * @since 1.0.0
  */
 public class StreamOutputDevice extends StreamIODevice {
+	/**
+	 * Status controls of the device by the statistic they are monitored as
+	 */
+	private static final Map<String, String> STATUS_CONTROLS = ImmutableMap.of(
+			StreamOutputDeviceMetric.STATUS.getMetric(), StreamOutputDeviceMetric.STATUS.getProperty(),
+			StreamOutputDeviceMetric.STATUS_LED.getMetric(), StreamOutputDeviceMetric.STATUS_LED.getProperty());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, String> getStatusControls() {
+		return STATUS_CONTROLS;
+	}
 
 	/**
 	 * Manage are control of device
@@ -31,40 +48,33 @@ public class StreamOutputDevice extends StreamIODevice {
 	}
 
 	/**
-	 * Get all monitoring of device
+	 * Get monitoring of a control of device
 	 *
-	 * @param deviceControl list all control of device
+	 * @param control control of device
 	 */
 	@Override
-	public void monitoringDevice(JsonNode deviceControl) {
-		this.getStats().clear();
-		this.getAdvancedControllableProperties().clear();
-		super.monitoringDevice(deviceControl);
-		if (deviceControl.hasNonNull(QSYSCoreConstant.RESULT) && deviceControl.get(QSYSCoreConstant.RESULT).hasNonNull(QSYSCoreConstant.CONTROLS)) {
-			for (JsonNode control : deviceControl.get(QSYSCoreConstant.RESULT).get(QSYSCoreConstant.CONTROLS)) {
-				StreamOutputDeviceMetric metric = EnumTypeHandler.getMetricByPropertyName(StreamOutputDeviceMetric.class, control.get(QSYSCoreConstant.CONTROL_NAME).asText());
-
-				if (metric == null) {
-					continue;
-				}
+	public void onControl(QRCControl control) {
+		super.onControl(control);
+		StreamOutputDeviceMetric metric = EnumTypeHandler.getMetricByPropertyName(StreamOutputDeviceMetric.class, control.getName());
 
-				String[] splitProperty = metric.getProperty().split(QSYSCoreConstant.FORMAT_STRING);
-				if (splitProperty.length > 1) {
-					String metricName = String.format(metric.getMetric(),
-							control.get(QSYSCoreConstant.CONTROL_NAME).asText().replace(splitProperty[0], QSYSCoreConstant.EMPTY).replace(splitProperty[1], QSYSCoreConstant.EMPTY));
+		if (metric == null) {
+			return;
+		}
 
-					String value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE_STRING) ? control.get(QSYSCoreConstant.CONTROL_VALUE_STRING).asText() : QSYSCoreConstant.DEFAUL_DATA;
-					if (metric == StreamOutputDeviceMetric.CHANNEL_PEAK_INPUT_LEVEL || metric == StreamOutputDeviceMetric.CHANNEL_OUTPUT_GAIN) {
-						value = value.replace(QSYSCoreConstant.DB_UNIT, QSYSCoreConstant.EMPTY);
-					}
+		String[] splitProperty = metric.getProperty().split(QSYSCoreConstant.FORMAT_STRING);
+		if (splitProperty.length > 1) {
+			String metricName = String.format(metric.getMetric(),
+					control.getName().replace(splitProperty[0], QSYSCoreConstant.EMPTY).replace(splitProperty[1], QSYSCoreConstant.EMPTY));
 
-					this.getStats().put(metricName, StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
-				} else {
-					String value = control.hasNonNull(QSYSCoreConstant.CONTROL_VALUE_STRING) ? control.get(QSYSCoreConstant.CONTROL_VALUE_STRING).asText() : QSYSCoreConstant.DEFAUL_DATA;
-					this.getStats().put(metric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
-				}
+			String value = control.getString() != null ? control.getString() : QSYSCoreConstant.DEFAUL_DATA;
+			if (metric == StreamOutputDeviceMetric.CHANNEL_PEAK_INPUT_LEVEL || metric == StreamOutputDeviceMetric.CHANNEL_OUTPUT_GAIN) {
+				value = value.replace(QSYSCoreConstant.DB_UNIT, QSYSCoreConstant.EMPTY);
 			}
-			super.updateStatusMessage();
+
+			this.getStats().put(metricName, StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
+		} else {
+			String value = control.getString() != null ? control.getString() : QSYSCoreConstant.DEFAUL_DATA;
+			this.getStats().put(metric.getMetric(), StringUtils.isNotNullOrEmpty(value) ? value : QSYSCoreConstant.DEFAUL_DATA);
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
+
+/**
+ * QRCControl contain the fields of a control used by the peripheral devices.
+ * The value keeps the text form Jackson uses for the same JSON value, so statistics do not change
+ * whether the control is read from a JSON tree or from a streaming parser.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class QRCControl {
+	/**
+	 * JSON type of the control value
+	 */
+	public enum ValueKind {
+		STRING, INTEGER, FLOAT, BOOLEAN
+	}
+
+	private String name;
+	private String type;
+	private String value;
+	private ValueKind valueKind;
+	private String string;
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Sets {@link #name} value
+	 *
+	 * @param name new value of {@link #name}
+	 */
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #type}
+	 *
+	 * @return value of {@link #type}
+	 */
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * Sets {@link #type} value
+	 *
+	 * @param type new value of {@link #type}
+	 */
+	public void setType(String type) {
+		this.type = type;
+	}
+
+	/**
+	 * Retrieves {@link #value}
+	 *
+	 * @return text of the control value, null if the control has no value
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * Sets {@link #value} value
+	 *
+	 * @param value text of the control value
+	 * @param valueKind JSON type of the control value
+	 */
+	public void setValue(String value, ValueKind valueKind) {
+		this.value = value;
+		this.valueKind = value == null ? null : valueKind;
+	}
+
+	/**
+	 * Retrieves {@link #string}
+	 *
+	 * @return value of {@link #string}, null if the control has no string
+	 */
+	public String getString() {
+		return string;
+	}
+
+	/**
+	 * Sets {@link #string} value
+	 *
+	 * @param string new value of {@link #string}
+	 */
+	public void setString(String string) {
+		this.string = string;
+	}
+
+	/**
+	 * Check whether the control has a value
+	 *
+	 * @return true if the value is not null
+	 */
+	public boolean hasValue() {
+		return value != null;
+	}
+
+	/**
+	 * Check whether the control value is a number
+	 *
+	 * @return true if the value is a JSON number
+	 */
+	public boolean isValueNumber() {
+		return valueKind == ValueKind.INTEGER || valueKind == ValueKind.FLOAT;
+	}
+
+	/**
+	 * Retrieve the value as double, with the same conversion as {@link JsonNode#asDouble()}
+	 *
+	 * @return value as double, 0 if it can not be converted
+	 */
+	public double getValueAsDouble() {
+		if (valueKind == null) {
+			return 0.0;
+		}
+		switch (valueKind) {
+			case BOOLEAN:
+				return Boolean.parseBoolean(value) ? 1.0 : 0.0;
+			default:
+				try {
+					return Double.parseDouble(value.trim());
+				} catch (NumberFormatException e) {
+					return 0.0;
+				}
+		}
+	}
+
+	/**
+	 * Retrieve the value as boolean, with the same conversion as {@link JsonNode#asBoolean()}
+	 *
+	 * @return value as boolean, false if it can not be converted
+	 */
+	public boolean getValueAsBoolean() {
+		if (valueKind == null) {
+			return false;
+		}
+		switch (valueKind) {
+			case BOOLEAN:
+				return Boolean.parseBoolean(value);
+			case INTEGER:
+				return !"0".equals(value);
+			case STRING:
+				return QSYSCoreConstant.TRUE.equals(value.trim());
+			case FLOAT:
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Create control from a control object of Component.GetControls response
+	 *
+	 * @param control JSON control object
+	 * @return control
+	 */
+	public static QRCControl fromJson(JsonNode control) {
+		QRCControl qrcControl = new QRCControl();
+		qrcControl.setName(textOrNull(control.get(QSYSCoreConstant.CONTROL_NAME)));
+		qrcControl.setType(textOrNull(control.get(QSYSCoreConstant.CONTROL_TYPE)));
+		qrcControl.setString(textOrNull(control.get(QSYSCoreConstant.CONTROL_VALUE_STRING)));
+		JsonNode value = control.get(QSYSCoreConstant.CONTROL_VALUE);
+		if (value != null && !value.isNull()) {
+			ValueKind valueKind = ValueKind.STRING;
+			if (value.isBoolean()) {
+				valueKind = ValueKind.BOOLEAN;
+			} else if (value.isIntegralNumber()) {
+				valueKind = ValueKind.INTEGER;
+			} else if (value.isNumber()) {
+				valueKind = ValueKind.FLOAT;
+			}
+			qrcControl.setValue(value.asText(), valueKind);
+		}
+		return qrcControl;
+	}
+
+	/**
+	 * Retrieve text of a JSON value
+	 *
+	 * @param node JSON value
+	 * @return text of the value, null if the value is missing or null
+	 */
+	private static String textOrNull(JsonNode node) {
+		return node == null || node.isNull() ? null : node.asText();
+	}
+}
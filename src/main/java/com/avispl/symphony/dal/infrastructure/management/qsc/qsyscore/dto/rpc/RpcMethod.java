@@ -16,7 +16,12 @@ public enum RpcMethod {
 	GET_COMPONENTS("Component.GetComponents"),
 	GET_CONTROLS("Component.GetControls"),
 	GET("Component.Get"),
-	SET_CONTROLS("Component.Set");
+	SET_CONTROL_LIST("Component.Set"),
+	NO_OP("NoOp"),
+	CHANGE_GROUP_ADD_COMPONENT_CONTROL("ChangeGroup.AddComponentControl"),
+	CHANGE_GROUP_POLL("ChangeGroup.Poll"),
+	CHANGE_GROUP_AUTO_POLL("ChangeGroup.AutoPoll"),
+	CHANGE_GROUP_DESTROY("ChangeGroup.Destroy");
 
 	private final String name;
 
@@ -38,20 +43,6 @@ public enum RpcMethod {
 		return name;
 	}
 
-	/**
-	 * Get request
-	 *
-	 * @return request
-	 */
-	public static String getRequest() {
-		return "{\n"
-				+ "  \"jsonrpc\": \"2.0\",\n"
-				+ "  \"method\": \"%s\", \n"
-				+ "  \"params\": %s,\n"
-				+ "  \"id\": 1234\n"
-				+ "}\n\00";
-	}
-
 	/**
 	 * Get param of Method
 	 *
@@ -61,24 +52,19 @@ public enum RpcMethod {
 	public static String getParamsString(RpcMethod rcpMethod) {
 		switch (rcpMethod) {
 			case GET:
-				return " {\n"
-						+ "    \"Name\": \"%s\",\n"
-						+ "    \"Controls\": [\n"
-						+ "      { \"Name\": \"%s\" }\n"
-						+ "    ]\n"
-						+ "  }";
-			case SET_CONTROLS:
-				return "{\n"
-						+ "    \"Name\": \"%s\",\n"
-						+ "    \"Controls\": [\n"
-						+ "      {\n"
-						+ "        \"Name\": \"%s\", \n"
-						+ "        \"Value\": %s\n"
-						+ "      }\n"
-						+ "    ]\n"
-						+ "  }";
+			case SET_CONTROL_LIST:
+				return "{\"Name\":\"%s\",\"Controls\":%s}";
 			case GET_CONTROLS:
 				return "{\"Name\":\"%s\"}";
+			case NO_OP:
+				return "{}";
+			case CHANGE_GROUP_ADD_COMPONENT_CONTROL:
+				return "{\"Id\":\"%s\",\"Component\":{\"Name\":\"%s\",\"Controls\":%s}}";
+			case CHANGE_GROUP_AUTO_POLL:
+				return "{\"Id\":\"%s\",\"Rate\":%s}";
+			case CHANGE_GROUP_POLL:
+			case CHANGE_GROUP_DESTROY:
+				return "{\"Id\":\"%s\"}";
 			case GET_COMPONENTS:
 			case STATUS_GET:
 			default:
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
+
+/**
+ * Unit tests of {@link AdaptivePollingController}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("Mock")
+public class TestAdaptivePollingController {
+	private static final long CYCLE_DURATION = 60000L;
+
+	/**
+	 * Test the plan before any batch is measured
+	 *
+	 * Expect the default number of devices per thread, spread evenly over the threads
+	 */
+	@Test
+	void testPlanWithoutMeasurement() {
+		AdaptivePollingController controller = new AdaptivePollingController();
+
+		Assertions.assertEquals(1, controller.plan(100, 1, CYCLE_DURATION));
+		Assertions.assertEquals(2, controller.getThreadQuantity());
+		Assertions.assertEquals(50, controller.getDevicesPerThread());
+		Assertions.assertEquals(0.0, controller.getLatency(), 0.001);
+	}
+
+	/**
+	 * Test the plan when the measured latency does not let the threads refresh all devices within the target interval
+	 *
+	 * Expect the devices per thread follow the latency and the polling interval is extended
+	 */
+	@Test
+	void testPlanWithMeasuredLatency() {
+		AdaptivePollingController controller = new AdaptivePollingController();
+		controller.recordBatch(10, 10000);
+		Assertions.assertEquals(1000, controller.getLatency(), 0.001);
+
+		Assertions.assertEquals(2, controller.plan(400, 1, CYCLE_DURATION));
+		Assertions.assertEquals(QSYSCoreConstant.MAX_THREAD_QUANTITY, controller.getThreadQuantity());
+		Assertions.assertEquals(48, controller.getDevicesPerThread());
+		Assertions.assertEquals(3, controller.plan(400, 3, CYCLE_DURATION));
+	}
+
+	/**
+	 * Test the smoothed latency of the measured batches
+	 *
+	 * Expect an empty batch is ignored and a new measurement moves the latency partly towards it
+	 */
+	@Test
+	void testRecordBatchSmoothsLatency() {
+		AdaptivePollingController controller = new AdaptivePollingController();
+		controller.recordBatch(0, 5000);
+		Assertions.assertEquals(0.0, controller.getLatency(), 0.001);
+
+		controller.recordBatch(2, 200);
+		Assertions.assertEquals(100, controller.getLatency(), 0.001);
+		controller.recordBatch(2, 400);
+		Assertions.assertEquals(130, controller.getLatency(), 0.001);
+	}
+
+	/**
+	 * Test a batch overrunning the cycle
+	 *
+	 * Expect the parallel batches are halved for the next cycle, then increased by one per cycle up to the planned threads
+	 */
+	@Test
+	void testSlowdownHalvesParallelBatches() {
+		AdaptivePollingController controller = new AdaptivePollingController();
+		controller.plan(800, 1, CYCLE_DURATION);
+		controller.recordBatch(10, 100);
+		Assertions.assertEquals(8, controller.nextParallelBatches());
+
+		controller.recordBatch(10, CYCLE_DURATION);
+		Assertions.assertEquals(4, controller.nextParallelBatches());
+		Assertions.assertEquals(26, controller.getDevicesPerThread());
+		for (int expected = 5; expected <= 8; expected++) {
+			Assertions.assertEquals(expected, controller.nextParallelBatches());
+		}
+		Assertions.assertEquals(8, controller.nextParallelBatches());
+	}
+
+	/**
+	 * Test the latency of the core grows and stays at the higher value
+	 *
+	 * Expect the higher latency becomes the baseline and the parallel batches are back to the planned threads
+	 */
+	@Test
+	void testLastingLatencyBecomesBaseline() {
+		AdaptivePollingController controller = new AdaptivePollingController();
+		controller.plan(800, 1, CYCLE_DURATION);
+		for (int i = 0; i < 5; i++) {
+			controller.recordBatch(10, 100);
+			controller.nextParallelBatches();
+		}
+		int reducedCycles = 0;
+		for (int i = 0; i < 200; i++) {
+			controller.recordBatch(10, 300);
+			if (controller.nextParallelBatches() < controller.getThreadQuantity()) {
+				reducedCycles++;
+			}
+		}
+		Assertions.assertTrue(reducedCycles > 0);
+		Assertions.assertTrue(reducedCycles < 50);
+		for (int i = 0; i < 10; i++) {
+			controller.recordBatch(10, 300);
+			Assertions.assertEquals(controller.getThreadQuantity(), controller.nextParallelBatches());
+		}
+	}
+}
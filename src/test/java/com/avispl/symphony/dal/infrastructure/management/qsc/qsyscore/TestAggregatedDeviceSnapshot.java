@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice.TransmitterDevice;
+
+/**
+ * Unit tests of {@link AggregatedDeviceSnapshot}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("Mock")
+public class TestAggregatedDeviceSnapshot {
+
+	/**
+	 * Test the aggregated device of an entry is reused for the same device instance at the same state version
+	 *
+	 * Expect the aggregated device is returned until the device instance or its state version changes
+	 */
+	@Test
+	void testGetAggregatedDeviceOfUnchangedDevice() {
+		QSYSPeripheralDevice device = new TransmitterDevice();
+		AggregatedDevice aggregatedDevice = createAggregatedDevice("device-1");
+		AggregatedDeviceSnapshot snapshot = createSnapshot(1, Collections.singletonMap("device-1", new AggregatedDeviceSnapshot.Entry(device, 3, aggregatedDevice)));
+
+		Assertions.assertSame(aggregatedDevice, snapshot.getAggregatedDevice("device-1", device, 3));
+		Assertions.assertNull(snapshot.getAggregatedDevice("device-1", device, 4));
+		Assertions.assertNull(snapshot.getAggregatedDevice("device-1", new TransmitterDevice(), 3));
+		Assertions.assertNull(snapshot.getAggregatedDevice("device-2", device, 3));
+	}
+
+	/**
+	 * Test a device whose controls are received again without a change keeps its entry
+	 *
+	 * Expect the state version of the device is kept for the same controls and increased for a changed control
+	 */
+	@Test
+	void testUnchangedDeviceReusesEntry() throws Exception {
+		QSYSPeripheralDevice device = new TransmitterDevice();
+		String response = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"Name\":\"Tx-1\",\"Controls\":[{\"Name\":\"status\",\"String\":\"OK\",\"Value\":0}]}}";
+		Assertions.assertTrue(QRCControlParser.parse(response, device));
+		long stateVersion = device.getStateVersion();
+		AggregatedDevice aggregatedDevice = createAggregatedDevice("Tx-1");
+		AggregatedDeviceSnapshot snapshot = createSnapshot(1, Collections.singletonMap("Tx-1", new AggregatedDeviceSnapshot.Entry(device, stateVersion, aggregatedDevice)));
+
+		Assertions.assertTrue(QRCControlParser.parse(response, device));
+		Assertions.assertEquals(stateVersion, device.getStateVersion());
+		Assertions.assertSame(aggregatedDevice, snapshot.getAggregatedDevice("Tx-1", device, device.getStateVersion()));
+
+		Assertions.assertTrue(QRCControlParser.parse(response.replace("\"OK\"", "\"Fault\""), device));
+		Assertions.assertNotEquals(stateVersion, device.getStateVersion());
+		Assertions.assertNull(snapshot.getAggregatedDevice("Tx-1", device, device.getStateVersion()));
+	}
+
+	/**
+	 * Test only entries rebuilt or added since an earlier snapshot are reported as changed
+	 *
+	 * Expect entries carried over from the earlier snapshot and filtered out devices are not reported
+	 */
+	@Test
+	void testGetChangedAggregatedDevices() {
+		AggregatedDeviceSnapshot.Entry unchanged = new AggregatedDeviceSnapshot.Entry(new TransmitterDevice(), 1, createAggregatedDevice("unchanged"));
+		AggregatedDeviceSnapshot.Entry updated = new AggregatedDeviceSnapshot.Entry(new TransmitterDevice(), 1, createAggregatedDevice("updated"));
+		Map<String, AggregatedDeviceSnapshot.Entry> previousEntries = new HashMap<>();
+		previousEntries.put("unchanged", unchanged);
+		previousEntries.put("updated", updated);
+		AggregatedDeviceSnapshot previous = createSnapshot(1, previousEntries);
+
+		AggregatedDeviceSnapshot.Entry rebuilt = new AggregatedDeviceSnapshot.Entry(new TransmitterDevice(), 2, createAggregatedDevice("updated"));
+		AggregatedDeviceSnapshot.Entry added = new AggregatedDeviceSnapshot.Entry(new TransmitterDevice(), 1, createAggregatedDevice("added"));
+		AggregatedDeviceSnapshot.Entry filteredOut = new AggregatedDeviceSnapshot.Entry(new TransmitterDevice(), 1, null);
+		Map<String, AggregatedDeviceSnapshot.Entry> entries = new HashMap<>();
+		entries.put("unchanged", unchanged);
+		entries.put("updated", rebuilt);
+		entries.put("added", added);
+		entries.put("filtered", filteredOut);
+		AggregatedDeviceSnapshot snapshot = createSnapshot(2, entries);
+
+		List<AggregatedDevice> changedDevices = snapshot.getChangedAggregatedDevices(previous);
+		Assertions.assertEquals(2, changedDevices.size());
+		Assertions.assertTrue(changedDevices.contains(rebuilt.getAggregatedDevice()));
+		Assertions.assertTrue(changedDevices.contains(added.getAggregatedDevice()));
+		Assertions.assertTrue(snapshot.getChangedAggregatedDevices(snapshot).isEmpty());
+	}
+
+	/**
+	 * Test the snapshot can not be modified by its readers
+	 *
+	 * Expect UnsupportedOperationException when the aggregated devices are modified
+	 */
+	@Test
+	void testAggregatedDevicesAreUnmodifiable() {
+		AggregatedDeviceSnapshot snapshot = createSnapshot(1, Collections.singletonMap("device-1",
+				new AggregatedDeviceSnapshot.Entry(new TransmitterDevice(), 1, createAggregatedDevice("device-1"))));
+
+		Assertions.assertEquals(1, snapshot.size());
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> snapshot.getAggregatedDevices().clear());
+		Assertions.assertEquals(0, AggregatedDeviceSnapshot.EMPTY.size());
+		Assertions.assertTrue(AggregatedDeviceSnapshot.EMPTY.getAggregatedDevices().isEmpty());
+	}
+
+	/**
+	 * Create a snapshot whose aggregated devices are the aggregated devices of the entries
+	 *
+	 * @param version version of the snapshot
+	 * @param entries entries by device id
+	 * @return snapshot
+	 */
+	private AggregatedDeviceSnapshot createSnapshot(long version, Map<String, AggregatedDeviceSnapshot.Entry> entries) {
+		List<AggregatedDevice> aggregatedDevices = new ArrayList<>();
+		for (AggregatedDeviceSnapshot.Entry entry : entries.values()) {
+			if (entry.getAggregatedDevice() != null) {
+				aggregatedDevices.add(entry.getAggregatedDevice());
+			}
+		}
+		return new AggregatedDeviceSnapshot(version, "signature", new HashMap<>(entries), aggregatedDevices);
+	}
+
+	/**
+	 * Create an aggregated device
+	 *
+	 * @param deviceId id of the device
+	 * @return aggregated device
+	 */
+	private AggregatedDevice createAggregatedDevice(String deviceId) {
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		aggregatedDevice.setDeviceId(deviceId);
+		return aggregatedDevice;
+	}
+}
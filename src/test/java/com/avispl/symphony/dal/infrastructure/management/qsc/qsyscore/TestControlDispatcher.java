@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of {@link ControlDispatcher}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("Mock")
+public class TestControlDispatcher {
+	private static final long TIMEOUT = 5000;
+
+	private ControlDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		dispatcher = new ControlDispatcher(4);
+	}
+
+	@AfterEach
+	void tearDown() {
+		dispatcher.shutdown();
+	}
+
+	/**
+	 * Test the controls of one component
+	 *
+	 * Expect the controls run one after the other in the order they were submitted
+	 */
+	@Test
+	void testControlsOfComponentKeepOrder() throws Exception {
+		List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+		List<CompletableFuture<Integer>> futures = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			int index = i;
+			futures.add(dispatcher.submit("Mixer-1", () -> {
+				executed.add(index);
+				return index;
+			}));
+		}
+		for (int i = 0; i < futures.size(); i++) {
+			Assertions.assertEquals(i, futures.get(i).get(TIMEOUT, TimeUnit.MILLISECONDS).intValue());
+		}
+		for (int i = 0; i < executed.size(); i++) {
+			Assertions.assertEquals(i, executed.get(i).intValue());
+		}
+	}
+
+	/**
+	 * Test a control of a component waiting while a control of another component is submitted
+	 *
+	 * Expect the control of the other component is not blocked, and the next control of the waiting component runs after it
+	 */
+	@Test
+	void testComponentsRunConcurrently() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Boolean> blocked = dispatcher.submit("Mixer-1", () -> release.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		CompletableFuture<String> queued = dispatcher.submit("Mixer-1", () -> "queued");
+		CompletableFuture<String> other = dispatcher.submit("Mixer-2", () -> "other");
+
+		Assertions.assertEquals("other", other.get(TIMEOUT, TimeUnit.MILLISECONDS));
+		Assertions.assertFalse(queued.isDone());
+		release.countDown();
+		Assertions.assertTrue(blocked.get(TIMEOUT, TimeUnit.MILLISECONDS));
+		Assertions.assertEquals("queued", queued.get(TIMEOUT, TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * Test a failing control of a component
+	 *
+	 * Expect the future of the control completes with the error, and the next control of the component still runs
+	 */
+	@Test
+	void testFailedControlDoesNotStopComponent() throws Exception {
+		CompletableFuture<Void> failed = dispatcher.submit("Mixer-1", () -> {
+			throw new IllegalStateException("control failed");
+		});
+		CompletableFuture<String> next = dispatcher.submit("Mixer-1", () -> "next");
+
+		ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> failed.get(TIMEOUT, TimeUnit.MILLISECONDS));
+		Assertions.assertTrue(exception.getCause() instanceof IllegalStateException);
+		Assertions.assertEquals("next", next.get(TIMEOUT, TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * Test a control submitted after the dispatcher is shut down
+	 *
+	 * Expect the future completes exceptionally and the control does not run
+	 */
+	@Test
+	void testSubmitAfterShutdown() {
+		dispatcher.shutdown();
+		List<String> executed = new ArrayList<>();
+		CompletableFuture<Boolean> future = dispatcher.submit("Mixer-1", () -> executed.add("control"));
+
+		Assertions.assertThrows(ExecutionException.class, () -> future.get(TIMEOUT, TimeUnit.MILLISECONDS));
+		Assertions.assertTrue(executed.isEmpty());
+	}
+}
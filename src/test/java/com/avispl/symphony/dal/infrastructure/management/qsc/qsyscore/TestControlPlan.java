@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.GainControllingMetric;
+
+/**
+ * Unit tests of the coalescing and grouping of controls in {@link QSYSCoreAggregatorCommunicator#planControls(List)}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("Mock")
+public class TestControlPlan {
+	private static final String AGGREGATOR_ID = "QSYS-Core";
+
+	private QSYSCoreAggregatorCommunicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new QSYSCoreAggregatorCommunicator();
+	}
+
+	/**
+	 * Test several values of the same property in one list
+	 *
+	 * Expect only the latest value is sent, at the position of the first value
+	 */
+	@Test
+	void testLatestValueOfPropertyIsKept() {
+		QSYSCoreAggregatorCommunicator.ControlPlan controlPlan = communicator.planControls(Arrays.asList(
+				property("Gain:Mixer-1#GainControl(dB)", -20), property("Gain:Mixer-1#Mute", 1), property("Gain:Mixer-1#GainControl(dB)", -15),
+				property("Gain:Mixer-1#GainControl(dB)", -10)));
+
+		List<QSYSCoreAggregatorCommunicator.PendingGainControl> controls = controlPlan.getGainControls().get("Mixer-1");
+		Assertions.assertEquals(Arrays.asList(GainControllingMetric.GAIN_VALUE_CONTROL, GainControllingMetric.MUTE_CONTROL), metrics(controls));
+		Assertions.assertEquals(Arrays.asList("-10", "1"), values(controls));
+		Assertions.assertTrue(controlPlan.getErrors().isEmpty());
+	}
+
+	/**
+	 * Test properties of several gain components in one list
+	 *
+	 * Expect the controls are grouped by component in the order the components first appear
+	 */
+	@Test
+	void testControlsAreGroupedByComponent() {
+		QSYSCoreAggregatorCommunicator.ControlPlan controlPlan = communicator.planControls(Arrays.asList(
+				property("Gain:Mixer-1#GainControl(dB)", -10), property("Gain:Mixer-2#Mute", 1), property("Gain:Mixer-1#Invert", 0)));
+
+		Assertions.assertEquals(Arrays.asList("Mixer-1", "Mixer-2"), new ArrayList<>(controlPlan.getGainControls().keySet()));
+		Assertions.assertEquals(Arrays.asList(GainControllingMetric.GAIN_VALUE_CONTROL, GainControllingMetric.INVERT_CONTROL),
+				metrics(controlPlan.getGainControls().get("Mixer-1")));
+		Assertions.assertEquals(Collections.singletonList(GainControllingMetric.MUTE_CONTROL), metrics(controlPlan.getGainControls().get("Mixer-2")));
+		Assertions.assertTrue(controlPlan.getDeviceControls().isEmpty());
+	}
+
+	/**
+	 * Test a property of an unknown gain metric and a property without name
+	 *
+	 * Expect the unknown metric is reported as error while the other properties are planned, and a property without name is rejected
+	 */
+	@Test
+	void testPropertiesThatCanNotBeControlled() {
+		QSYSCoreAggregatorCommunicator.ControlPlan controlPlan = communicator.planControls(Arrays.asList(
+				property("Gain:Mixer-1#Unknown", 1), property("Gain:Mixer-1#Mute", 1)));
+
+		Assertions.assertEquals(1, controlPlan.getErrors().size());
+		Assertions.assertTrue(controlPlan.getErrors().get(0) instanceof ResourceNotReachableException);
+		Assertions.assertEquals(Collections.singletonList(GainControllingMetric.MUTE_CONTROL), metrics(controlPlan.getGainControls().get("Mixer-1")));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> communicator.planControls(Collections.singletonList(property(null, 1))));
+	}
+
+	/**
+	 * Test the Controls parameter built from the planned controls of a gain component
+	 *
+	 * Expect numeric values are JSON numbers and other values are JSON strings
+	 */
+	@Test
+	void testBuildGainControls() throws Exception {
+		QSYSCoreAggregatorCommunicator.ControlPlan controlPlan = communicator.planControls(Arrays.asList(
+				property("Gain:Mixer-1#GainControl(dB)", "-10.5"), property("Gain:Mixer-1#Mute", "on")));
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		Assertions.assertEquals(objectMapper.readTree("[{\"Name\":\"gain\",\"Value\":-10.5},{\"Name\":\"mute\",\"Value\":\"on\"}]"),
+				objectMapper.readTree(communicator.buildGainControls(controlPlan.getGainControls().get("Mixer-1"))));
+	}
+
+	/**
+	 * Create a property of the aggregator
+	 *
+	 * @param name name of the property
+	 * @param value value of the property
+	 * @return controllable property
+	 */
+	private ControllableProperty property(String name, Object value) {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setDeviceId(AGGREGATOR_ID);
+		controllableProperty.setProperty(name);
+		controllableProperty.setValue(value);
+		return controllableProperty;
+	}
+
+	/**
+	 * Read the metrics of the planned controls
+	 *
+	 * @param controls planned controls of a gain component
+	 * @return metric of every control
+	 */
+	private List<GainControllingMetric> metrics(List<QSYSCoreAggregatorCommunicator.PendingGainControl> controls) {
+		List<GainControllingMetric> metrics = new ArrayList<>();
+		controls.forEach(control -> metrics.add(control.getMetric()));
+		return metrics;
+	}
+
+	/**
+	 * Read the values of the planned controls
+	 *
+	 * @param controls planned controls of a gain component
+	 * @return value of every control
+	 */
+	private List<String> values(List<QSYSCoreAggregatorCommunicator.PendingGainControl> controls) {
+		List<String> values = new ArrayList<>();
+		controls.forEach(control -> values.add(control.getValue()));
+		return values;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.AmplifierDeviceMetric;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.TransmitterDeviceMetric;
+
+/**
+ * Unit tests of {@link ControlRoutingTable}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("Mock")
+public class TestControlRoutingTable {
+
+	/**
+	 * Test channel properties are routed to the channel metric and the control of the channel
+	 *
+	 * Expect the letter or number of the channel is the index in the control name
+	 */
+	@Test
+	void testResolveChannelProperty() {
+		ControlRoutingTable routingTable = new ControlRoutingTable();
+
+		ControlRoutingTable.Route route = routingTable.resolve(QSYSCoreConstant.TRANSMITTER_DEVICE, "ChannelA#Gain(dB)", "Gain(dB)");
+		Assertions.assertSame(TransmitterDeviceMetric.CHANNEL_GAIN, route.getMetric());
+		Assertions.assertEquals("channel.1.output.gain", route.getControlName());
+
+		route = routingTable.resolve(QSYSCoreConstant.AMPLIFIER_DEVICE, "ChannelB#Mute", "Mute");
+		Assertions.assertSame(AmplifierDeviceMetric.CHANNEL_MUTE, route.getMetric());
+		Assertions.assertEquals("channel.2.mute", route.getControlName());
+
+		route = routingTable.resolve(QSYSCoreConstant.AMPLIFIER_DEVICE, "Channel10#Mute", "Mute");
+		Assertions.assertEquals("channel.10.mute", route.getControlName());
+	}
+
+	/**
+	 * Test a property without a channel is routed to the metric with the same name, ignoring case
+	 *
+	 * Expect the control name of the metric
+	 */
+	@Test
+	void testResolveProperty() {
+		ControlRoutingTable routingTable = new ControlRoutingTable();
+
+		ControlRoutingTable.Route route = routingTable.resolve(QSYSCoreConstant.AMPLIFIER_DEVICE, "on/standby", "on/standby");
+		Assertions.assertSame(AmplifierDeviceMetric.ON_STANDBY, route.getMetric());
+		Assertions.assertEquals("power.on", route.getControlName());
+
+		route = routingTable.resolve(QSYSCoreConstant.AMPLIFIER_DEVICE, "PowerManagement#DisablePowerSave", "DisablePowerSave");
+		Assertions.assertSame(AmplifierDeviceMetric.DISABLE_POWER_SAVE, route.getMetric());
+		Assertions.assertEquals("powersave.disable", route.getControlName());
+	}
+
+	/**
+	 * Test properties that are not controllable
+	 *
+	 * Expect no route for an unknown property, an unknown or null device type and a null property
+	 */
+	@Test
+	void testResolveNotControllableProperty() {
+		ControlRoutingTable routingTable = new ControlRoutingTable();
+
+		Assertions.assertNull(routingTable.resolve(QSYSCoreConstant.AMPLIFIER_DEVICE, "Unknown", "Unknown"));
+		Assertions.assertNull(routingTable.resolve(QSYSCoreConstant.AMPLIFIER_DEVICE, "Unknown", "Unknown"));
+		Assertions.assertNull(routingTable.resolve(QSYSCoreConstant.DISPLAY_DEVICE, "Status", "Status"));
+		Assertions.assertNull(routingTable.resolve(null, "Status", "Status"));
+		Assertions.assertNull(routingTable.resolve(QSYSCoreConstant.AMPLIFIER_DEVICE, null, null));
+	}
+
+	/**
+	 * Test the same property is resolved again
+	 *
+	 * Expect the route kept by the first resolution, and a route per device type
+	 */
+	@Test
+	void testResolvedRouteIsKept() {
+		ControlRoutingTable routingTable = new ControlRoutingTable();
+
+		ControlRoutingTable.Route route = routingTable.resolve(QSYSCoreConstant.AMPLIFIER_DEVICE, "ChannelA#Gain(dB)", "Gain(dB)");
+		Assertions.assertSame(route, routingTable.resolve(QSYSCoreConstant.AMPLIFIER_DEVICE, "ChannelA#Gain(dB)", "Gain(dB)"));
+		Assertions.assertEquals("channel.1.gain", route.getControlName());
+		Assertions.assertEquals("channel.1.output.gain", routingTable.resolve(QSYSCoreConstant.TRANSMITTER_DEVICE, "ChannelA#Gain(dB)", "Gain(dB)").getControlName());
+	}
+}
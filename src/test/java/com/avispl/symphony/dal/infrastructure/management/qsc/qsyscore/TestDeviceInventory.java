@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common.QSYSCoreConstant;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice.ReceiverDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice.TransmitterDevice;
+
+/**
+ * Unit tests of {@link DeviceInventory}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("Mock")
+public class TestDeviceInventory {
+	private static final String TRANSMITTER = QSYSCoreConstant.Q_LAN_TX_1_DEVICE;
+	private static final String RECEIVER = QSYSCoreConstant.Q_LAN_RX_1_DEVICE;
+
+	/**
+	 * Test a device seen again in the next discovery pass with the same QSYSType
+	 *
+	 * Expect the same device instance and no change of the inventory
+	 */
+	@Test
+	void testSeenDeviceKeepsInstance() {
+		DeviceInventory inventory = new DeviceInventory();
+		QSYSPeripheralDevice device = new TransmitterDevice();
+		inventory.beginDiscovery();
+		Assertions.assertNull(inventory.markSeen("Tx-1", TRANSMITTER));
+		inventory.add("Tx-1", TRANSMITTER, device);
+		DeviceInventory.Changes changes = inventory.endDiscovery();
+		Assertions.assertEquals(Collections.singletonList("Tx-1"), changes.getAddedDeviceIds());
+		Assertions.assertTrue(changes.getRemovedDeviceIds().isEmpty());
+
+		inventory.beginDiscovery();
+		Assertions.assertSame(device, inventory.markSeen("Tx-1", TRANSMITTER));
+		Assertions.assertTrue(inventory.endDiscovery().isEmpty());
+		Assertions.assertSame(device, inventory.snapshot().get("Tx-1"));
+	}
+
+	/**
+	 * Test devices not seen in a discovery pass
+	 *
+	 * Expect the devices are evicted and reported as removed
+	 */
+	@Test
+	void testUnseenDeviceIsEvicted() {
+		DeviceInventory inventory = new DeviceInventory();
+		inventory.beginDiscovery();
+		inventory.add("Tx-1", TRANSMITTER, new TransmitterDevice());
+		inventory.add("Rx-1", RECEIVER, new ReceiverDevice());
+		inventory.endDiscovery();
+
+		inventory.beginDiscovery();
+		Assertions.assertNotNull(inventory.markSeen("Rx-1", RECEIVER));
+		DeviceInventory.Changes changes = inventory.endDiscovery();
+		Assertions.assertTrue(changes.getAddedDeviceIds().isEmpty());
+		Assertions.assertEquals(Collections.singletonList("Tx-1"), changes.getRemovedDeviceIds());
+		Assertions.assertEquals(Collections.singleton("Rx-1"), inventory.snapshot().keySet());
+	}
+
+	/**
+	 * Test a component seen with another QSYSType
+	 *
+	 * Expect a new device, the id is reported as removed and added, and the new device is kept in the next pass
+	 */
+	@Test
+	void testDeviceOfChangedTypeIsReplaced() {
+		DeviceInventory inventory = new DeviceInventory();
+		inventory.beginDiscovery();
+		inventory.add("Device-1", TRANSMITTER, new TransmitterDevice());
+		inventory.endDiscovery();
+
+		QSYSPeripheralDevice receiver = new ReceiverDevice();
+		inventory.beginDiscovery();
+		Assertions.assertNull(inventory.markSeen("Device-1", RECEIVER));
+		inventory.add("Device-1", RECEIVER, receiver);
+		DeviceInventory.Changes changes = inventory.endDiscovery();
+		Assertions.assertEquals(Collections.singletonList("Device-1"), changes.getAddedDeviceIds());
+		Assertions.assertEquals(Collections.singletonList("Device-1"), changes.getRemovedDeviceIds());
+		Assertions.assertSame(receiver, inventory.snapshot().get("Device-1"));
+
+		inventory.beginDiscovery();
+		Assertions.assertSame(receiver, inventory.markSeen("Device-1", RECEIVER));
+		Assertions.assertTrue(inventory.endDiscovery().isEmpty());
+	}
+
+	/**
+	 * Test the snapshot of the inventory and clearing the inventory
+	 *
+	 * Expect the devices sorted by id in a copy not changed by the inventory, and no device after clear
+	 */
+	@Test
+	void testSnapshotAndClear() {
+		DeviceInventory inventory = new DeviceInventory();
+		inventory.beginDiscovery();
+		inventory.add("b", TRANSMITTER, new TransmitterDevice());
+		inventory.add("a", RECEIVER, new ReceiverDevice());
+		inventory.endDiscovery();
+
+		TreeMap<String, QSYSPeripheralDevice> snapshot = inventory.snapshot();
+		Assertions.assertEquals(Arrays.asList("a", "b"), Arrays.asList(snapshot.keySet().toArray()));
+		inventory.clear();
+		Assertions.assertEquals(2, snapshot.size());
+		Assertions.assertTrue(inventory.snapshot().isEmpty());
+
+		inventory.beginDiscovery();
+		Assertions.assertNull(inventory.markSeen("a", RECEIVER));
+		Assertions.assertTrue(inventory.endDiscovery().isEmpty());
+	}
+
+	/**
+	 * Test a discovery pass that fails before it ends
+	 *
+	 * Expect the inventory is kept, and the devices added by the failed pass are reported by the next pass
+	 */
+	@Test
+	void testFailedPassIsReportedByNextPass() {
+		DeviceInventory inventory = new DeviceInventory();
+		inventory.beginDiscovery();
+		inventory.add("Tx-1", TRANSMITTER, new TransmitterDevice());
+		inventory.endDiscovery();
+
+		inventory.beginDiscovery();
+		inventory.markSeen("Tx-1", TRANSMITTER);
+		inventory.add("Rx-1", RECEIVER, new ReceiverDevice());
+		Assertions.assertEquals(Arrays.asList("Rx-1", "Tx-1"), Arrays.asList(inventory.snapshot().keySet().toArray()));
+
+		inventory.beginDiscovery();
+		Assertions.assertNotNull(inventory.markSeen("Tx-1", TRANSMITTER));
+		Assertions.assertNotNull(inventory.markSeen("Rx-1", RECEIVER));
+		DeviceInventory.Changes changes = inventory.endDiscovery();
+		Assertions.assertEquals(Collections.singletonList("Rx-1"), changes.getAddedDeviceIds());
+		Assertions.assertTrue(changes.getRemovedDeviceIds().isEmpty());
+	}
+}
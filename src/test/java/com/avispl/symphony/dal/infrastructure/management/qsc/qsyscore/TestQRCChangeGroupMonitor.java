@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.rpc.RpcMethod;
+
+/**
+ * Unit tests of {@link QRCChangeGroupMonitor} against a stub connection pool
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("Mock")
+public class TestQRCChangeGroupMonitor {
+	private static final String NO_CHANGES = "{\"result\":{\"Changes\":[]}}";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * Test the first refresh of devices
+	 *
+	 * Expect the controls of every device are requested and added to the group, then the group is polled,
+	 * and the requested controls are returned once as changed
+	 */
+	@Test
+	void testRefreshRegistersDevices() throws Exception {
+		StubConnectionPool pool = new StubConnectionPool();
+		QRCChangeGroupMonitor monitor = new QRCChangeGroupMonitor(pool, objectMapper);
+		pool.pollResponses.add(NO_CHANGES);
+		monitor.refresh(Arrays.asList("Tx-1", "Rx-1"));
+
+		Assertions.assertEquals(Arrays.asList("Component.GetControls Tx-1", "ChangeGroup.AddComponentControl Tx-1",
+				"Component.GetControls Rx-1", "ChangeGroup.AddComponentControl Rx-1", "ChangeGroup.Poll"), pool.requests);
+		Assertions.assertEquals(-10, controlValue(monitor.pollChangedControls("Tx-1"), "gain"));
+		Assertions.assertNull(monitor.pollChangedControls("Tx-1"));
+		Assertions.assertNotNull(monitor.getControls("Tx-1"));
+		Assertions.assertNull(monitor.getControls("Unknown"));
+	}
+
+	/**
+	 * Test a poll returning changes of registered and unknown controls
+	 *
+	 * Expect the changed fields are merged into the cached control, the other controls are kept,
+	 * only the device with changes is returned as changed and changes of unknown devices or controls are ignored
+	 */
+	@Test
+	void testPollMergesChanges() throws Exception {
+		StubConnectionPool pool = new StubConnectionPool();
+		QRCChangeGroupMonitor monitor = new QRCChangeGroupMonitor(pool, objectMapper);
+		pool.pollResponses.add(NO_CHANGES);
+		monitor.refresh(Arrays.asList("Tx-1", "Rx-1"));
+		monitor.pollChangedControls("Tx-1");
+		monitor.pollChangedControls("Rx-1");
+
+		pool.pollResponses.add("{\"result\":{\"Changes\":[{\"Component\":\"Tx-1\",\"Name\":\"gain\",\"Value\":-5,\"String\":\"-5.0dB\"},"
+				+ "{\"Component\":\"Tx-1\",\"Name\":\"unknown\",\"Value\":1},{\"Component\":\"Other\",\"Name\":\"gain\",\"Value\":1}]}}");
+		monitor.refresh(Arrays.asList("Tx-1", "Rx-1"));
+
+		JsonNode controls = monitor.pollChangedControls("Tx-1");
+		Assertions.assertEquals(-5, controlValue(controls, "gain"));
+		Assertions.assertEquals("-5.0dB", control(controls, "gain").get("String").asText());
+		Assertions.assertEquals(0, controlValue(controls, "mute"));
+		Assertions.assertEquals(2, controls.get("result").get("Controls").size());
+		Assertions.assertNull(monitor.pollChangedControls("Rx-1"));
+		Assertions.assertNull(monitor.getControls("Other"));
+	}
+
+	/**
+	 * Test the session is reopened and the poll does not know the group anymore
+	 *
+	 * Expect the devices are registered again in the new session and the group is polled again
+	 */
+	@Test
+	void testDevicesAreRegisteredAgainInNewSession() throws Exception {
+		StubConnectionPool pool = new StubConnectionPool();
+		QRCChangeGroupMonitor monitor = new QRCChangeGroupMonitor(pool, objectMapper);
+		pool.pollResponses.add(NO_CHANGES);
+		monitor.refresh(Collections.singletonList("Tx-1"));
+		pool.requests.clear();
+
+		pool.pollResponses.add("{\"error\":{\"code\":6,\"message\":\"Unknown change group\"}}");
+		pool.pollResponses.add(NO_CHANGES);
+		monitor.refresh(Collections.singletonList("Tx-1"));
+		Assertions.assertEquals(Arrays.asList("ChangeGroup.Poll", "Component.GetControls Tx-1", "ChangeGroup.AddComponentControl Tx-1", "ChangeGroup.Poll"),
+				pool.requests);
+
+		pool.requests.clear();
+		pool.sessionGeneration++;
+		pool.pollResponses.add(NO_CHANGES);
+		monitor.refresh(Collections.singletonList("Tx-1"));
+		Assertions.assertEquals(Arrays.asList("Component.GetControls Tx-1", "ChangeGroup.AddComponentControl Tx-1", "ChangeGroup.Poll"), pool.requests);
+	}
+
+	/**
+	 * Test the group in push mode
+	 *
+	 * Expect AutoPoll is requested instead of the poll, pushed changes of the group are merged and passed to the listener,
+	 * and notifications of another group are ignored
+	 */
+	@Test
+	void testAutoPollNotificationsAreMerged() throws Exception {
+		StubConnectionPool pool = new StubConnectionPool();
+		QRCChangeGroupMonitor monitor = new QRCChangeGroupMonitor(pool, objectMapper);
+		List<Set<String>> pushedDeviceIds = new ArrayList<>();
+		monitor.enableAutoPoll(0.5, pushedDeviceIds::add);
+		monitor.refresh(Collections.singletonList("Tx-1"));
+		monitor.pollChangedControls("Tx-1");
+		Assertions.assertEquals("ChangeGroup.AutoPoll", pool.requests.get(pool.requests.size() - 1));
+
+		String change = "\"Changes\":[{\"Component\":\"Tx-1\",\"Name\":\"mute\",\"Value\":1,\"String\":\"muted\"}]";
+		pool.notificationListener.accept("{\"jsonrpc\":\"2.0\",\"method\":\"ChangeGroup.Poll\",\"params\":{\"Id\":\"other-group\"," + change + "}}");
+		Assertions.assertTrue(pushedDeviceIds.isEmpty());
+		pool.notificationListener.accept("{\"jsonrpc\":\"2.0\",\"method\":\"ChangeGroup.Poll\",\"params\":{\"Id\":\"" + pool.groupId + "\"," + change + "}}");
+
+		Assertions.assertEquals(Collections.singletonList(new HashSet<>(Collections.singletonList("Tx-1"))), pushedDeviceIds);
+		Assertions.assertEquals(1, controlValue(monitor.pollChangedControls("Tx-1"), "mute"));
+	}
+
+	/**
+	 * Test the monitor is destroyed before and after devices are registered
+	 *
+	 * Expect ChangeGroup.Destroy is sent only for a group of the current session, and the cached controls are dropped
+	 */
+	@Test
+	void testDestroyGroupOfCurrentSession() throws Exception {
+		StubConnectionPool pool = new StubConnectionPool();
+		QRCChangeGroupMonitor monitor = new QRCChangeGroupMonitor(pool, objectMapper);
+		monitor.destroy();
+		Assertions.assertTrue(pool.requests.isEmpty());
+
+		pool.pollResponses.add(NO_CHANGES);
+		monitor.refresh(Collections.singletonList("Tx-1"));
+		monitor.destroy();
+		Assertions.assertEquals("ChangeGroup.Destroy", pool.requests.get(pool.requests.size() - 1));
+		Assertions.assertNull(monitor.getControls("Tx-1"));
+	}
+
+	/**
+	 * Find a control in the controls of a device
+	 *
+	 * @param controls controls in the format of Component.GetControls response
+	 * @param name name of the control
+	 * @return control with the name
+	 */
+	private JsonNode control(JsonNode controls, String name) {
+		for (JsonNode control : controls.get("result").get("Controls")) {
+			if (name.equals(control.get("Name").asText())) {
+				return control;
+			}
+		}
+		throw new AssertionError("No control " + name);
+	}
+
+	/**
+	 * Read the value of a control in the controls of a device
+	 *
+	 * @param controls controls in the format of Component.GetControls response
+	 * @param name name of the control
+	 * @return value of the control
+	 */
+	private int controlValue(JsonNode controls, String name) {
+		return control(controls, name).get("Value").asInt();
+	}
+
+	/**
+	 * Connection pool answering the change group requests without a core, every request is recorded
+	 */
+	private static class StubConnectionPool extends QRCConnectionPool {
+		private final List<String> requests = new ArrayList<>();
+		private final Deque<String> pollResponses = new ArrayDeque<>();
+		private long sessionGeneration = 1;
+		private String groupId;
+		private Consumer<String> notificationListener;
+
+		StubConnectionPool() {
+			super("127.0.0.1", 1710, 1);
+		}
+
+		@Override
+		public void setNotificationListener(Consumer<String> notificationListener) {
+			this.notificationListener = notificationListener;
+		}
+
+		@Override
+		public String send(RpcMethod method, Object... params) {
+			requests.add(method.getName() + " " + params[0]);
+			return "{\"result\":{\"Name\":\"" + params[0] + "\",\"Controls\":[{\"Name\":\"gain\",\"Value\":-10,\"String\":\"-10.0dB\"},"
+					+ "{\"Name\":\"mute\",\"Value\":0,\"String\":\"unmuted\"}]}}";
+		}
+
+		@Override
+		public String sendOnPrimary(RpcMethod method, Object... params) {
+			groupId = String.valueOf(params[0]);
+			if (method == RpcMethod.CHANGE_GROUP_ADD_COMPONENT_CONTROL) {
+				requests.add(method.getName() + " " + params[1]);
+				return "{\"result\":true}";
+			}
+			requests.add(method.getName());
+			return method == RpcMethod.CHANGE_GROUP_POLL ? pollResponses.remove() : "{\"result\":true}";
+		}
+
+		@Override
+		public long getPrimarySessionGeneration() {
+			return sessionGeneration;
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.rpc.RpcMethod;
+
+/**
+ * Unit tests of {@link QRCCommunicator} against a fake core on a local socket
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("Mock")
+public class TestQRCCommunicator {
+	private static final String BATCH_REJECTED = "{\"jsonrpc\":\"2.0\",\"error\":{\"code\":-32600,\"message\":\"Invalid Request\"}}";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<String> receivedFrames = Collections.synchronizedList(new ArrayList<>());
+	private volatile boolean rejectBatch;
+	private volatile String notification;
+	private ServerSocket serverSocket;
+	private QRCCommunicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		serverSocket = new ServerSocket(0);
+		Thread core = new Thread(this::runCore, "fake core");
+		core.setDaemon(true);
+		core.start();
+
+		communicator = new QRCCommunicator();
+		communicator.setHost("127.0.0.1");
+		communicator.setPort(serverSocket.getLocalPort());
+		communicator.setSocketTimeout(5000);
+		communicator.setKeepAliveInterval(0);
+		communicator.init();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		communicator.destroy();
+		serverSocket.close();
+	}
+
+	/**
+	 * Test a batch accepted by the core, the responses are sent in another order than the requests
+	 *
+	 * Expect one batch frame is sent and every response is returned in the order of its request
+	 */
+	@Test
+	void testBatchResponsesAreRoutedById() throws Exception {
+		List<String> responses = communicator.sendBatch(RpcMethod.GET_CONTROLS, Arrays.asList(new Object[] { "Tx-1" }, new Object[] { "Rx-1" }, new Object[] { "Rx-2" }));
+
+		Assertions.assertEquals(Arrays.asList("Tx-1", "Rx-1", "Rx-2"), names(responses));
+		Assertions.assertEquals(1, receivedFrames.size());
+		Assertions.assertTrue(receivedFrames.get(0).startsWith("["));
+	}
+
+	/**
+	 * Test a batch rejected by the core with an error response without id
+	 *
+	 * Expect the requests of the batch are sent again one by one, and the next batches are sent one by one from the start
+	 */
+	@Test
+	void testRejectedBatchIsSentOneByOne() throws Exception {
+		rejectBatch = true;
+		List<String> responses = communicator.sendBatch(RpcMethod.GET_CONTROLS, Arrays.asList(new Object[] { "Tx-1" }, new Object[] { "Rx-1" }));
+
+		Assertions.assertEquals(Arrays.asList("Tx-1", "Rx-1"), names(responses));
+		Assertions.assertEquals(3, receivedFrames.size());
+		Assertions.assertTrue(receivedFrames.get(0).startsWith("["));
+
+		receivedFrames.clear();
+		responses = communicator.sendBatch(RpcMethod.GET_CONTROLS, Arrays.asList(new Object[] { "Tx-2" }, new Object[] { "Rx-2" }));
+		Assertions.assertEquals(Arrays.asList("Tx-2", "Rx-2"), names(responses));
+		Assertions.assertEquals(2, receivedFrames.size());
+		Assertions.assertFalse(receivedFrames.get(0).startsWith("["));
+	}
+
+	/**
+	 * Test an error frame without id received while no batch waits for its responses
+	 *
+	 * Expect the frame is passed to the notification listener and the request still gets its response
+	 */
+	@Test
+	void testErrorWithoutIdIsNotificationWithoutBatch() throws Exception {
+		List<String> notifications = Collections.synchronizedList(new ArrayList<>());
+		communicator.setNotificationListener(notifications::add);
+		notification = BATCH_REJECTED;
+
+		Assertions.assertEquals(Collections.singletonList("Tx-1"), names(Collections.singletonList(communicator.send(RpcMethod.GET_CONTROLS, "Tx-1"))));
+		Assertions.assertEquals(Collections.singletonList(BATCH_REJECTED), notifications);
+	}
+
+	/**
+	 * Read the component names of Component.GetControls responses
+	 *
+	 * @param responses responses of the requests
+	 * @return name of the component of every response
+	 */
+	private List<String> names(List<String> responses) throws Exception {
+		List<String> names = new ArrayList<>();
+		for (String response : responses) {
+			names.add(objectMapper.readTree(response).get("result").get("Name").asText());
+		}
+		return names;
+	}
+
+	/**
+	 * Accept one QRC session and answer its requests. A batch is answered with its responses in reverse order
+	 * or rejected when {@link #rejectBatch} is set, {@link #notification} is sent before the response of a single request.
+	 */
+	private void runCore() {
+		try (Socket client = serverSocket.accept()) {
+			InputStream in = client.getInputStream();
+			OutputStream out = client.getOutputStream();
+			QRCFrameDecoder frameDecoder = new QRCFrameDecoder();
+			while (true) {
+				String frame = frameDecoder.readFrame(in);
+				receivedFrames.add(frame);
+				JsonNode request = objectMapper.readTree(frame);
+				StringBuilder reply = new StringBuilder();
+				if (!request.isArray()) {
+					if (notification != null) {
+						reply.append(notification).append('\0');
+					}
+					reply.append(respond(request));
+				} else if (rejectBatch) {
+					reply.append(BATCH_REJECTED);
+				} else {
+					List<String> responses = new ArrayList<>();
+					request.forEach(batchRequest -> responses.add(respond(batchRequest)));
+					Collections.reverse(responses);
+					reply.append('[').append(String.join(",", responses)).append(']');
+				}
+				out.write(reply.append('\0').toString().getBytes(StandardCharsets.UTF_8));
+				out.flush();
+			}
+		} catch (Exception e) {
+			// The session is closed by the test
+		}
+	}
+
+	/**
+	 * Build the response of a Component.GetControls request
+	 *
+	 * @param request JSON RPC request
+	 * @return response with the component name of the request
+	 */
+	private String respond(JsonNode request) {
+		return "{\"jsonrpc\":\"2.0\",\"result\":{\"Name\":\"" + request.get("params").get("Name").asText() + "\",\"Controls\":[]},\"id\":" + request.get("id").asLong() + "}";
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QRCControlSink;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.QSYSPeripheralDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.device.inventorydevice.LoudSpeakerDevice;
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.QRCControl;
+
+/**
+ * Unit tests of {@link QRCControlParser}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("Mock")
+public class TestQRCControlParser {
+	private static final String GET_CONTROLS_RESPONSE = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"Name\":\"Speaker-1\",\"Controls\":["
+			+ "{\"Name\":\"mute\",\"Type\":\"Boolean\",\"Value\":false,\"String\":\"unmuted\"},"
+			+ "{\"Name\":\"gain\",\"Type\":\"Float\",\"Value\":-6.25,\"String\":\"-6.25dB\"}]}}";
+
+	/**
+	 * Test the controls of a response with values of every JSON type and fields that are not read
+	 *
+	 * Expect the controls read by the streaming parser equal the controls read from the JSON tree
+	 */
+	@Test
+	void testParseMatchesJsonTree() throws Exception {
+		String response = "{\"jsonrpc\":\"2.0\",\"id\":3,\"result\":{\"Name\":\"Mixer-1\",\"Controls\":["
+				+ "{\"Name\":\"gain\",\"Type\":\"Float\",\"Value\":-6.25,\"String\":\"-6.25dB\",\"Position\":0.7,\"Choices\":[\"a\",{\"b\":1}]},"
+				+ "{\"Name\":\"count\",\"Type\":\"Integer\",\"Value\":12345678901234567890},"
+				+ "{\"Name\":\"mute\",\"Type\":\"Boolean\",\"Value\":true,\"String\":\"muted\"},"
+				+ "{\"Name\":\"status\",\"Value\":\"OK\",\"String\":null},"
+				+ "{\"Name\":\"empty\",\"Value\":null},"
+				+ "{\"Type\":\"Text\",\"Value\":1}]}}";
+		RecordingSink sink = new RecordingSink();
+		Assertions.assertTrue(QRCControlParser.parse(response, sink));
+
+		List<String> expected = new ArrayList<>(Collections.singletonList("begin Mixer-1"));
+		for (JsonNode control : new ObjectMapper().readTree(response).get("result").get("Controls")) {
+			if (control.hasNonNull("Name")) {
+				expected.add(RecordingSink.describe(QRCControl.fromJson(control)));
+			}
+		}
+		expected.add("end");
+		Assertions.assertEquals(expected, sink.events);
+		Assertions.assertEquals(7, sink.events.size());
+	}
+
+	/**
+	 * Test a result whose component name comes after its controls
+	 *
+	 * Expect the controls are received after the name of the component
+	 */
+	@Test
+	void testParseNameAfterControls() throws Exception {
+		String response = "{\"result\":{\"Controls\":[{\"Name\":\"status\",\"Value\":0,\"String\":\"OK\"}],\"Name\":\"Tx-1\"},\"id\":4,\"jsonrpc\":\"2.0\"}";
+		RecordingSink sink = new RecordingSink();
+		Assertions.assertTrue(QRCControlParser.parse(response, sink));
+		Assertions.assertEquals(Arrays.asList("begin Tx-1", "status|null|0|OK|true", "end"), sink.events);
+	}
+
+	/**
+	 * Test responses without a controls array, ex: an error response
+	 *
+	 * Expect false and the sink is not called
+	 */
+	@Test
+	void testParseResponseWithoutControls() throws Exception {
+		RecordingSink sink = new RecordingSink();
+		Assertions.assertFalse(QRCControlParser.parse("{\"jsonrpc\":\"2.0\",\"id\":5,\"error\":{\"code\":8,\"message\":\"Timeout\"}}", sink));
+		Assertions.assertFalse(QRCControlParser.parse("{\"jsonrpc\":\"2.0\",\"id\":6,\"result\":{\"Name\":\"Tx-1\"}}", sink));
+		Assertions.assertFalse(QRCControlParser.parse("{\"jsonrpc\":\"2.0\",\"id\":7,\"result\":true}", sink));
+		Assertions.assertFalse(QRCControlParser.parse("[]", sink));
+		Assertions.assertTrue(sink.events.isEmpty());
+	}
+
+	/**
+	 * Test the Component.Get response of a control, which has no control type, is read with the type of the last
+	 * Component.GetControls response
+	 *
+	 * Expect a Boolean control is read from its value and not from its string
+	 */
+	@Test
+	void testStatusControlUsesTypeOfFullRefresh() throws Exception {
+		QSYSPeripheralDevice device = new LoudSpeakerDevice();
+		Assertions.assertTrue(QRCControlParser.parse(GET_CONTROLS_RESPONSE, device.createControlSink()));
+		Assertions.assertEquals("0", device.getStats().get("Mute"));
+
+		Assertions.assertTrue(QRCControlParser.parse(createGetResponse(true, "muted"), device.createStatusControlSink()));
+		Assertions.assertEquals("1", device.getStats().get("Mute"));
+		Assertions.assertTrue(QRCControlParser.parse(createGetResponse(false, "unmuted"), device.createStatusControlSink()));
+		Assertions.assertEquals("0", device.getStats().get("Mute"));
+		Assertions.assertEquals("0", String.valueOf(device.getAdvancedControllableProperty("Mute").getValue()));
+	}
+
+	/**
+	 * Create a Component.Get response of the mute control
+	 *
+	 * @param value value of the control
+	 * @param string string of the control
+	 * @return Component.Get response
+	 */
+	private String createGetResponse(boolean value, String string) {
+		return "{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":{\"Name\":\"Speaker-1\",\"Controls\":[{\"Name\":\"mute\",\"Value\":" + value
+				+ ",\"String\":\"" + string + "\"}]}}";
+	}
+
+	/**
+	 * Sink recording the received controls as text
+	 */
+	private static class RecordingSink implements QRCControlSink {
+		private final List<String> events = new ArrayList<>();
+
+		@Override
+		public void beginControls(String componentName) {
+			events.add("begin " + componentName);
+		}
+
+		@Override
+		public void onControl(QRCControl control) {
+			events.add(describe(control));
+		}
+
+		@Override
+		public void endControls() {
+			events.add("end");
+		}
+
+		/**
+		 * Describe a control by its fields
+		 *
+		 * @param control received control
+		 * @return fields of the control separated by |
+		 */
+		static String describe(QRCControl control) {
+			return control.getName() + "|" + control.getType() + "|" + control.getValue() + "|" + control.getString() + "|" + control.isValueNumber();
+		}
+	}
+}
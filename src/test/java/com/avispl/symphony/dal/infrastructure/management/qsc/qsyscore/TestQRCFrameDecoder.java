@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of {@link QRCFrameDecoder}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("Mock")
+public class TestQRCFrameDecoder {
+
+	/**
+	 * Test frames received in one block of bytes
+	 *
+	 * Expect every frame is returned in order, the bytes of the next frame are kept for the next call and dropped by reset
+	 */
+	@Test
+	void testReadFramesOfOneBlock() throws Exception {
+		QRCFrameDecoder decoder = new QRCFrameDecoder();
+		InputStream in = stream("{\"id\":1}\0{\"id\":2}\0{\"id\"");
+
+		Assertions.assertEquals("{\"id\":1}", decoder.readFrame(in));
+		Assertions.assertEquals("{\"id\":2}", decoder.readFrame(in));
+		Assertions.assertEquals("{\"id\":3}", decoder.readFrame(stream(":3}\0{\"id\"")));
+		decoder.reset();
+		Assertions.assertEquals("{\"id\":4}", decoder.readFrame(stream("{\"id\":4}\0")));
+	}
+
+	/**
+	 * Test a frame received one byte at a time, with a multi-byte UTF-8 character split across the reads
+	 *
+	 * Expect the frame is returned once its delimiter is received, the character is decoded and no byte is left
+	 */
+	@Test
+	void testReadFrameSplitAcrossReads() throws Exception {
+		QRCFrameDecoder decoder = new QRCFrameDecoder();
+		InputStream in = new ChunkedInputStream("{\"Name\":\"Café\"}\0\0".getBytes(StandardCharsets.UTF_8), 1);
+
+		Assertions.assertEquals("{\"Name\":\"Café\"}", decoder.readFrame(in));
+		Assertions.assertEquals("", decoder.readFrame(in));
+		Assertions.assertThrows(EOFException.class, () -> decoder.readFrame(in));
+	}
+
+	/**
+	 * Test frames larger than the buffer, received after a partial frame
+	 *
+	 * Expect the buffer is compacted or grown, the frames are returned completely and no byte is left
+	 */
+	@Test
+	void testReadFrameLargerThanBuffer() throws Exception {
+		QRCFrameDecoder decoder = new QRCFrameDecoder();
+		char[] content = new char[50000];
+		Arrays.fill(content, 'a');
+		String largeFrame = new String(content);
+		InputStream in = new ChunkedInputStream(("small\0" + largeFrame + "\0" + largeFrame + "b\0").getBytes(StandardCharsets.UTF_8), 3000);
+
+		Assertions.assertEquals("small", decoder.readFrame(in));
+		Assertions.assertEquals(largeFrame, decoder.readFrame(in));
+		Assertions.assertEquals(largeFrame + "b", decoder.readFrame(in));
+		Assertions.assertEquals("next", decoder.readFrame(stream("next\0")));
+	}
+
+	/**
+	 * Test the stream ends before the delimiter of a frame
+	 *
+	 * Expect EOFException and the partial frame is completed by the next bytes
+	 */
+	@Test
+	void testReadFrameAtEndOfStream() throws Exception {
+		QRCFrameDecoder decoder = new QRCFrameDecoder();
+		InputStream in = stream("{\"id\"");
+
+		Assertions.assertThrows(EOFException.class, () -> decoder.readFrame(in));
+		Assertions.assertEquals("{\"id\":5}", decoder.readFrame(stream(":5}\0")));
+	}
+
+	/**
+	 * Create a stream of the UTF-8 bytes of a text
+	 *
+	 * @param text text of the stream
+	 * @return stream of the text
+	 */
+	private static InputStream stream(String text) {
+		return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Input stream returning at most a given number of bytes per read
+	 */
+	private static class ChunkedInputStream extends ByteArrayInputStream {
+		private final int chunkSize;
+
+		ChunkedInputStream(byte[] bytes, int chunkSize) {
+			super(bytes);
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public synchronized int read(byte[] bytes, int offset, int length) {
+			return super.read(bytes, offset, Math.min(length, chunkSize));
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.dto.rpc.RpcMethod;
+
+/**
+ * Unit tests of {@link QRCRequestEncoder}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("Mock")
+public class TestQRCRequestEncoder {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * Test the request of every method is the JSON of the params template with the parameters in place of the placeholders
+	 *
+	 * Expect the same JSON as the formatted template
+	 */
+	@Test
+	void testRequestMatchesParamsTemplate() throws Exception {
+		assertRequest(RpcMethod.GET_CONTROLS, 1, "Mixer-1");
+		assertRequest(RpcMethod.GET, 2, "Mixer-1", "[{\"Name\":\"gain\"},{\"Name\":\"mute\"}]");
+		assertRequest(RpcMethod.SET_CONTROL_LIST, 3, "Mixer-1", "[{\"Name\":\"gain\",\"Value\":-10.5}]");
+		assertRequest(RpcMethod.CHANGE_GROUP_AUTO_POLL, 4, "group-1", "1");
+		assertRequest(RpcMethod.NO_OP, 5);
+		assertRequest(RpcMethod.STATUS_GET, 1234567890123L);
+	}
+
+	/**
+	 * Test string parameters with characters that must be escaped in JSON
+	 *
+	 * Expect the parameters are escaped and read back unchanged
+	 */
+	@Test
+	void testStringParamsAreEscaped() throws Exception {
+		String componentName = "Mixer \"A\"\\1\u00e9";
+		JsonNode request = encode(new QRCRequestEncoder().appendRequest(RpcMethod.GET_CONTROLS, 7, componentName));
+		Assertions.assertEquals(componentName, request.get("params").get("Name").asText());
+
+		request = encode(new QRCRequestEncoder().appendRequest(RpcMethod.SET_CONTROL_LIST, 8, componentName, "[{\"Name\":\"gain\\n\",\"Value\":1}]"));
+		Assertions.assertEquals(componentName, request.get("params").get("Name").asText());
+		Assertions.assertEquals("gain\n", request.get("params").get("Controls").get(0).get("Name").asText());
+		Assertions.assertEquals(1, request.get("params").get("Controls").get(0).get("Value").asInt());
+	}
+
+	/**
+	 * Test the cached Component.GetControls request of a component is reused with another id
+	 *
+	 * Expect the id of every request is its own id
+	 */
+	@Test
+	void testCachedRequestHasItsOwnId() throws Exception {
+		QRCRequestEncoder encoder = new QRCRequestEncoder();
+		Assertions.assertEquals(11, encode(encoder.appendRequest(RpcMethod.GET_CONTROLS, 11, "Cached-1")).get("id").asLong());
+		Assertions.assertEquals(12, encode(encoder.reset().appendRequest(RpcMethod.GET_CONTROLS, 12, "Cached-1")).get("id").asLong());
+		Assertions.assertEquals("Cached-1", encode(encoder.reset().appendRequest(RpcMethod.GET_CONTROLS, 0, "Cached-1")).get("params").get("Name").asText());
+	}
+
+	/**
+	 * Test a batch of requests written to a stream
+	 *
+	 * Expect a JSON array of the requests followed by the NUL delimiter
+	 */
+	@Test
+	void testWriteBatchFrame() throws Exception {
+		QRCRequestEncoder encoder = new QRCRequestEncoder().appendBatch(RpcMethod.GET_CONTROLS, Arrays.asList(21L, 22L),
+				Arrays.asList(new Object[] { "Batch-1" }, new Object[] { "Batch-2" })).endFrame();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		encoder.writeTo(out);
+		byte[] frame = out.toByteArray();
+
+		Assertions.assertEquals(0, frame[frame.length - 1]);
+		JsonNode batch = objectMapper.readTree(encoder.toString());
+		Assertions.assertEquals(2, batch.size());
+		Assertions.assertEquals("Batch-2", batch.get(1).get("params").get("Name").asText());
+		Assertions.assertEquals(22, batch.get(1).get("id").asLong());
+		Assertions.assertEquals("[]", new QRCRequestEncoder().appendBatch(RpcMethod.NO_OP, Collections.emptyList(), Collections.emptyList()).toString());
+	}
+
+	/**
+	 * Test a request larger than the initial buffer
+	 *
+	 * Expect the buffer grows and the request is complete
+	 */
+	@Test
+	void testLargeRequest() throws Exception {
+		char[] content = new char[5000];
+		Arrays.fill(content, 'x');
+		String componentName = new String(content);
+		JsonNode request = encode(new QRCRequestEncoder().appendRequest(RpcMethod.GET, 31, componentName, "[]"));
+		Assertions.assertEquals(componentName, request.get("params").get("Name").asText());
+	}
+
+	/**
+	 * Assert the encoded request equals the request built from the formatted params template
+	 *
+	 * @param method method of the request
+	 * @param id id of the request
+	 * @param params values of the parameters
+	 */
+	private void assertRequest(RpcMethod method, long id, Object... params) throws Exception {
+		JsonNode expected = objectMapper.readTree("{\"jsonrpc\":\"2.0\",\"method\":\"" + method.getName() + "\",\"params\":"
+				+ String.format(RpcMethod.getParamsString(method), params) + ",\"id\":" + id + "}");
+		Assertions.assertEquals(expected, encode(new QRCRequestEncoder().appendRequest(method, id, params)), method.getName());
+	}
+
+	/**
+	 * Read the frame of the encoder as JSON
+	 *
+	 * @param encoder encoder with a request
+	 * @return request as JSON
+	 */
+	private JsonNode encode(QRCRequestEncoder encoder) throws Exception {
+		return objectMapper.readTree(encoder.endFrame().toString());
+	}
+}
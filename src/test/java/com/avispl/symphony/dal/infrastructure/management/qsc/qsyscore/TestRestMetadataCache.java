@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.avispl.symphony.api.common.error.NotModifiedException;
+
+/**
+ * Unit tests of {@link RestMetadataCache}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("Mock")
+public class TestRestMetadataCache {
+	private static final String URL = "/api/v0/cores/self/config/network";
+	private static final long LONG_TIME_TO_LIVE = 60000L;
+
+	/**
+	 * Test the response requested again before its time to live expires
+	 *
+	 * Expect the cached body and no second request
+	 */
+	@Test
+	void testResponseIsReusedUntilExpired() throws Exception {
+		RestMetadataCache cache = new RestMetadataCache();
+		RecordingRequest request = new RecordingRequest();
+		request.respond("network-1", null);
+
+		Assertions.assertEquals("network-1", cache.get(URL, LONG_TIME_TO_LIVE, request));
+		Assertions.assertEquals("network-1", cache.get(URL, LONG_TIME_TO_LIVE, request));
+		Assertions.assertEquals(Collections.singletonList(null), request.eTags);
+	}
+
+	/**
+	 * Test the response of an endpoint without time to live, and the cache after invalidate
+	 *
+	 * Expect the endpoint is requested every time without If-None-Match
+	 */
+	@Test
+	void testResponseWithoutTimeToLiveIsNotCached() throws Exception {
+		RestMetadataCache cache = new RestMetadataCache();
+		RecordingRequest request = new RecordingRequest();
+		request.respond("status-1", "\"v1\"");
+		Assertions.assertEquals("status-1", cache.get(URL, 0, request));
+		request.respond("status-2", "\"v2\"");
+		Assertions.assertEquals("status-2", cache.get(URL, 0, request));
+
+		cache.get(URL, LONG_TIME_TO_LIVE, request);
+		cache.invalidate();
+		cache.get(URL, LONG_TIME_TO_LIVE, request);
+		Assertions.assertEquals(Arrays.asList(null, null, null, null), request.eTags);
+	}
+
+	/**
+	 * Test the expired response revalidated with its ETag, the core returns a new body
+	 *
+	 * Expect the ETag of the cached response is sent, and the new body and ETag are cached
+	 */
+	@Test
+	void testExpiredResponseIsRevalidatedWithETag() throws Exception {
+		RestMetadataCache cache = new RestMetadataCache();
+		RecordingRequest request = new RecordingRequest();
+		request.respond("design-1", "\"v1\"");
+		cache.get(URL, 1, request);
+		Thread.sleep(5);
+
+		request.respond("design-2", "\"v2\"");
+		Assertions.assertEquals("design-2", cache.get(URL, 1, request));
+		Thread.sleep(5);
+		cache.get(URL, 1, request);
+		Assertions.assertEquals(Arrays.asList(null, "\"v1\"", "\"v2\""), request.eTags);
+	}
+
+	/**
+	 * Test the core answers 304 to the revalidation of the expired response
+	 *
+	 * Expect the cached body, renewed for the time to live of the request
+	 */
+	@Test
+	void testNotModifiedRenewsCachedResponse() throws Exception {
+		RestMetadataCache cache = new RestMetadataCache();
+		RecordingRequest request = new RecordingRequest();
+		request.respond("design-1", "\"v1\"");
+		cache.get(URL, 1, request);
+		Thread.sleep(5);
+
+		request.notModified = true;
+		Assertions.assertEquals("design-1", cache.get(URL, LONG_TIME_TO_LIVE, request));
+		Assertions.assertEquals("design-1", cache.get(URL, LONG_TIME_TO_LIVE, request));
+		Assertions.assertEquals(Arrays.asList(null, "\"v1\""), request.eTags);
+	}
+
+	/**
+	 * Test a 304 answer when there is no cached response
+	 *
+	 * Expect NotModifiedException
+	 */
+	@Test
+	void testNotModifiedWithoutCachedResponse() {
+		RestMetadataCache cache = new RestMetadataCache();
+		RecordingRequest request = new RecordingRequest();
+		request.notModified = true;
+
+		Assertions.assertThrows(NotModifiedException.class, () -> cache.get(URL, LONG_TIME_TO_LIVE, request));
+	}
+
+	/**
+	 * Request returning the configured response and recording the ETag of every call
+	 */
+	private static class RecordingRequest implements RestMetadataCache.ConditionalRequest {
+		private final List<String> eTags = new ArrayList<>();
+		private String body;
+		private String eTag;
+		private boolean notModified;
+
+		/**
+		 * Set the response of the next calls
+		 *
+		 * @param body body of the response
+		 * @param eTag ETag header of the response, null for none
+		 */
+		void respond(String body, String eTag) {
+			this.body = body;
+			this.eTag = eTag;
+			this.notModified = false;
+		}
+
+		@Override
+		public ResponseEntity<String> send(String url, String eTag) {
+			eTags.add(eTag);
+			if (notModified) {
+				throw new NotModifiedException("Not modified: " + url);
+			}
+			HttpHeaders headers = new HttpHeaders();
+			if (this.eTag != null) {
+				headers.setETag(this.eTag);
+			}
+			return new ResponseEntity<>(body, headers, HttpStatus.OK);
+		}
+	}
+}
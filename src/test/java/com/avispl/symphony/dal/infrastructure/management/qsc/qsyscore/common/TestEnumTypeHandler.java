@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.qsc.qsyscore.common;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of {@link EnumTypeHandler} and {@link MetricIndex}. The lookups through the index are compared with
+ * a scan of the enum constants, the way the metrics were looked up before the index was added.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("Mock")
+public class TestEnumTypeHandler {
+	private static final List<Class<? extends Enum<?>>> METRIC_ENUMS = Arrays.asList(AmplifierDeviceMetric.class, Amplifier_CXQ_StatusDeviceMetric.class,
+			CameraDeviceMetric.class, ControlInterfaceDeviceMetric.class, DisplayDeviceMetric.class, EncoderDecoderDeviceMetric.class, GainControllingMetric.class,
+			LoudSpeakerDeviceMetric.class, MonitoringProxyDeviceMetric.class, PluginDeviceMetric.class, ProcessorDeviceMetric.class, ReceiverDeviceMetric.class,
+			StreamIODeviceMetric.class, StreamInputDeviceMetric.class, StreamOutputDeviceMetric.class, TransmitterDeviceMetric.class, VideoIODeviceMetric.class,
+			VideoSourceDeviceMetric.class);
+
+	/**
+	 * Values put in place of the channel index placeholder of the control names
+	 */
+	private static final String[] CHANNEL_INDEXES = { "1", "12", "-3", "+4", "x", "", "1x" };
+
+	/**
+	 * Test the lookups of every metric enum return the constant the scan of the enum returns
+	 *
+	 * Expect no control name or metric name is resolved differently
+	 */
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void testLookupsMatchScanOfEnum() throws Exception {
+		int checkedNames = 0;
+		for (Class enumType : METRIC_ENUMS) {
+			for (String name : createNames(enumType)) {
+				String message = enumType.getSimpleName() + " [" + name + "]";
+				Assertions.assertSame(scanByPropertyName(enumType, name), EnumTypeHandler.getMetricByPropertyName(enumType, name), message);
+				Assertions.assertSame(scanByValue(enumType, "getProperty", name), EnumTypeHandler.getMetricByName(enumType, name), message);
+				Assertions.assertSame(scanByValue(enumType, "getMetric", name), EnumTypeHandler.getPropertiesByName(enumType, name), message);
+				checkedNames++;
+			}
+		}
+		Assertions.assertTrue(checkedNames > METRIC_ENUMS.size() * 2);
+	}
+
+	/**
+	 * Test a control name matching a template returns the channel index between the prefix and the suffix
+	 *
+	 * Expect the index of the channel and no index for a control name without a template
+	 */
+	@Test
+	void testMatchPropertyReturnsChannelIndex() {
+		for (AmplifierDeviceMetric metric : AmplifierDeviceMetric.values()) {
+			String[] splitProperty = metric.getProperty().split("%s");
+			if (splitProperty.length < 2) {
+				continue;
+			}
+			MetricIndex.Match<AmplifierDeviceMetric> match = EnumTypeHandler.matchMetricByPropertyName(AmplifierDeviceMetric.class, metric.getProperty().replace("%s", "7"));
+			Assertions.assertNotNull(match);
+			Assertions.assertEquals(7, match.getChannelIndex().intValue());
+			Assertions.assertNull(EnumTypeHandler.matchMetricByPropertyName(AmplifierDeviceMetric.class, metric.getProperty().replace("%s", "seven")));
+			return;
+		}
+		Assertions.fail("AmplifierDeviceMetric has no channel control");
+	}
+
+	/**
+	 * Test the lookups of a null name
+	 *
+	 * Expect null without an exception
+	 */
+	@Test
+	void testLookupsOfNullName() {
+		Assertions.assertNull(EnumTypeHandler.getMetricByPropertyName(TransmitterDeviceMetric.class, null));
+		Assertions.assertNull(EnumTypeHandler.getMetricByName(TransmitterDeviceMetric.class, null));
+		Assertions.assertNull(EnumTypeHandler.getPropertiesByName(TransmitterDeviceMetric.class, null));
+	}
+
+	/**
+	 * Create the names looked up in an enum: the control names and metric names of its constants, with every channel index
+	 * in place of the placeholder, in upper case, and names no constant has
+	 *
+	 * @param enumType metric enum
+	 * @return names to look up
+	 */
+	private static List<String> createNames(Class<?> enumType) throws Exception {
+		List<String> names = new ArrayList<>(Arrays.asList(null, "unknown", ""));
+		for (Object constant : enumType.getEnumConstants()) {
+			for (String methodName : new String[] { "getProperty", "getMetric" }) {
+				String value = invoke(enumType, methodName, constant);
+				if (value == null) {
+					continue;
+				}
+				names.add(value);
+				for (String channelIndex : CHANNEL_INDEXES) {
+					names.add(value.replace("%s", channelIndex));
+					names.add(value.replace("%s", channelIndex).toUpperCase(Locale.ROOT));
+				}
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Find the constant of a control name by scanning the enum: the first constant whose control name equals the name
+	 * ignoring case, or whose control name template leaves a number once its prefix and suffix are removed from the name
+	 *
+	 * @param enumType metric enum
+	 * @param propertyName control name
+	 * @return constant, null if no constant matches
+	 */
+	private static <T extends Enum<T>> T scanByPropertyName(Class<T> enumType, String propertyName) {
+		try {
+			for (T constant : enumType.getEnumConstants()) {
+				String property = invoke(enumType, "getProperty", constant);
+				String[] splitProperty = property.split("%s");
+				if (splitProperty.length < 2 && property.equalsIgnoreCase(propertyName)) {
+					return constant;
+				}
+				try {
+					Integer.parseInt(propertyName.replace(splitProperty[0], QSYSCoreConstant.EMPTY).replace(splitProperty[1], QSYSCoreConstant.EMPTY));
+					return constant;
+				} catch (Exception e) {
+					// the control name does not match the template of the constant
+				}
+			}
+		} catch (Exception e) {
+			return null;
+		}
+		return null;
+	}
+
+	/**
+	 * Find the first constant whose value of the method equals the name ignoring case by scanning the enum
+	 *
+	 * @param enumType metric enum
+	 * @param methodName getProperty or getMetric
+	 * @param name name to look up
+	 * @return constant, null if no constant matches
+	 */
+	private static <T extends Enum<T>> T scanByValue(Class<T> enumType, String methodName, String name) {
+		try {
+			for (T constant : enumType.getEnumConstants()) {
+				if (invoke(enumType, methodName, constant).equalsIgnoreCase(name)) {
+					return constant;
+				}
+			}
+		} catch (Exception e) {
+			return null;
+		}
+		return null;
+	}
+
+	/**
+	 * Invoke a method of an enum constant
+	 *
+	 * @param enumType metric enum
+	 * @param methodName name of the method
+	 * @param constant enum constant
+	 * @return value of the method as string, null if the enum does not have the method
+	 */
+	private static String invoke(Class<?> enumType, String methodName, Object constant) throws Exception {
+		Method method;
+		try {
+			method = enumType.getMethod(methodName);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+		return String.valueOf(method.invoke(constant));
+	}
+}